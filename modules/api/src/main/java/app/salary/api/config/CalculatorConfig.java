@@ -1,12 +1,33 @@
 package app.salary.api.config;
 
+import app.salary.calculator.engine.CalculationCoalescer;
 import app.salary.calculator.engine.CalculationOrchestrator;
+import app.salary.calculator.engine.CalculationResultCache;
+import app.salary.calculator.engine.CalculatorPrewarmer;
 import app.salary.calculator.registry.CalculatorRegistry;
+import app.salary.rules.FxRateRegistry;
+import app.salary.rules.RulePackDirectoryWatcher;
+import app.salary.rules.RulePackProjector;
 import app.salary.rules.RulesRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
 @Configuration
 @ComponentScan(basePackages = {
         "app.salary.calculator.countries",
@@ -16,14 +37,94 @@ import org.springframework.context.annotation.Configuration;
 public class CalculatorConfig {
 
     @Bean
-    public RulesRegistry rulesRegistry() {
-        return new RulesRegistry();
+    public RulesRegistry rulesRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${salary.rulepack.refresh-after:1h}") Duration refreshAfter,
+            @Value("${salary.rulepack.directory:}") String directory) {
+        return new RulesRegistry(meterRegistry, refreshAfter, directory.isBlank() ? null : Path.of(directory));
+    }
+
+    /** Exchange rates for cross-country comparisons; an fx-rates.json in the rule pack directory wins. */
+    @Bean
+    public FxRateRegistry fxRateRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${salary.rulepack.directory:}") String directory) {
+        return new FxRateRegistry(meterRegistry, directory.isBlank() ? null : Path.of(directory));
+    }
+
+    /** Rule packs for projected tax years, indexed from the latest published pack and cached apart from it. */
+    @Bean
+    public RulePackProjector rulePackProjector(
+            RulesRegistry rulesRegistry,
+            @Value("${salary.projection.default-inflation:0.025}") double defaultInflation,
+            @Value("${salary.projection.cache.max-size:256}") long maxSize) {
+        return new RulePackProjector(rulesRegistry, defaultInflation, maxSize);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "salary.rulepack", name = "directory")
+    public RulePackDirectoryWatcher rulePackDirectoryWatcher(RulesRegistry rulesRegistry,
+                                                             FxRateRegistry fxRateRegistry) throws IOException {
+        return new RulePackDirectoryWatcher(rulesRegistry, fxRateRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "salary.calculation.result-cache", name = "enabled",
+            havingValue = "true", matchIfMissing = true)
+    public CalculationResultCache calculationResultCache(
+            @Value("${salary.calculation.result-cache.max-memory-mb:64}") long maxMemoryMb) {
+        return new CalculationResultCache(maxMemoryMb * 1024 * 1024);
+    }
+
+    /** Shares one calculation between identical concurrent requests when the result cache is off. */
+    @Bean
+    @ConditionalOnProperty(prefix = "salary.calculation.coalescing", name = "enabled",
+            havingValue = "true", matchIfMissing = true)
+    public CalculationCoalescer calculationCoalescer(
+            @Value("${salary.calculation.coalescing.max-in-flight:10000}") int maxInFlight) {
+        return new CalculationCoalescer(maxInFlight);
+    }
+
+    /**
+     * Batch fan-out executor when {@code spring.threads.virtual.enabled} is set: one virtual
+     * thread per batch group, matching the virtual threads Tomcat then uses for requests.
+     */
+    @Bean(name = "calculationExecutor", destroyMethod = "close")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ExecutorService virtualCalculationExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("calc-", 0).factory());
+    }
+
+    @Bean(name = "calculationExecutor", destroyMethod = "")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor platformCalculationExecutor() {
+        return ForkJoinPool.commonPool();
     }
 
     @Bean
     public CalculationOrchestrator calculationOrchestrator(
             RulesRegistry rulesRegistry,
-            CalculatorRegistry calculatorRegistry) {
-        return new CalculationOrchestrator(rulesRegistry, calculatorRegistry);
+            CalculatorRegistry calculatorRegistry,
+            @Qualifier("calculationExecutor") Executor calculationExecutor,
+            ObjectProvider<CalculationResultCache> resultCache,
+            ObjectProvider<CalculationCoalescer> coalescer,
+            FxRateRegistry fxRateRegistry,
+            RulePackProjector rulePackProjector,
+            MeterRegistry meterRegistry) {
+        return new CalculationOrchestrator(rulesRegistry, calculatorRegistry, calculationExecutor,
+                resultCache.getIfAvailable(), coalescer.getIfAvailable(), fxRateRegistry, rulePackProjector,
+                meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "salary.prewarm", name = "enabled",
+            havingValue = "true", matchIfMissing = true)
+    public RulePackPrewarmer rulePackPrewarmer(
+            RulesRegistry rulesRegistry,
+            CalculatorRegistry calculatorRegistry,
+            @Qualifier("calculationExecutor") Executor calculationExecutor,
+            @Value("${salary.prewarm.iterations:500}") int iterations) {
+        return new RulePackPrewarmer(new CalculatorPrewarmer(
+                rulesRegistry, calculatorRegistry, calculationExecutor, iterations));
     }
 }
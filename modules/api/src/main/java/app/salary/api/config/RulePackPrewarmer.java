@@ -0,0 +1,73 @@
+package app.salary.api.config;
+
+import app.salary.calculator.engine.CalculatorPrewarmer;
+import app.salary.rules.RulePackManifest;
+import app.salary.rules.RulesRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+
+/**
+ * Prewarms every rule pack on the classpath before the application accepts traffic. The packs
+ * are listed by the {@link RulePackManifest} the build bundles; without one (running from
+ * sources) the classpath is scanned for pack files instead.
+ * <p>
+ * Spring Boot runs application runners after the web server has started but before it publishes
+ * {@code ReadinessState.ACCEPTING_TRAFFIC}, so the readiness probe and {@code /v1/health} report
+ * not-ready until every pack is loaded and its calculator warmed. A pack that fails to load fails
+ * startup rather than the first request for it.
+ */
+public class RulePackPrewarmer implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(RulePackPrewarmer.class);
+    private static final String RULE_PACK_LOCATION = "classpath*:rulepacks/*.json";
+
+    private final CalculatorPrewarmer prewarmer;
+    private final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+
+    public RulePackPrewarmer(CalculatorPrewarmer prewarmer) {
+        this.prewarmer = prewarmer;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> warmups = new ArrayList<>();
+        RulePackManifest manifest = RulePackManifest.loadBundled();
+        if (manifest != null) {
+            for (RulePackManifest.Entry entry : manifest.getRulePacks()) {
+                warmups.add(prewarmer.prewarm(entry.country(), entry.taxYear()));
+            }
+        } else {
+            warmups.addAll(scanClasspath());
+        }
+
+        CompletableFuture.allOf(warmups.toArray(new CompletableFuture[0])).join();
+        log.info("Prewarmed {} rule pack(s) in {} ms", warmups.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private List<CompletableFuture<Void>> scanClasspath() throws IOException {
+        List<CompletableFuture<Void>> warmups = new ArrayList<>();
+        for (Resource resource : resourceResolver.getResources(RULE_PACK_LOCATION)) {
+            String fileName = resource.getFilename();
+            Matcher matcher = RulesRegistry.RULE_PACK_FILE_NAME.matcher(fileName != null ? fileName : "");
+            if (!matcher.matches()) {
+                log.warn("Skipping rule pack with unexpected file name: {}", fileName);
+                continue;
+            }
+            warmups.add(prewarmer.prewarm(matcher.group(1), Integer.parseInt(matcher.group(2))));
+        }
+        return warmups;
+    }
+}
@@ -0,0 +1,50 @@
+package app.salary.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson converter that times response serialization, tagged by response type and outcome.
+ * Serialization runs after the controller returns, so it is invisible to the calculation timers.
+ * Timers are cached per type and outcome so each response costs one map lookup.
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(objectMapper);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            super.writeInternal(object, type, outputMessage);
+            outcome = "success";
+        } finally {
+            timers.computeIfAbsent(new TimerKey(object.getClass(), outcome),
+                            key -> Timer.builder("salary.response.serialization")
+                                    .description("JSON response serialization")
+                                    .tags("type", key.type().getSimpleName(), "outcome", key.outcome())
+                                    .register(meterRegistry))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private record TimerKey(Class<?> type, String outcome) {
+    }
+}
@@ -0,0 +1,87 @@
+package app.salary.api.controller;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads newline-delimited lines, keeping at most {@code maxLength} characters of each so a single
+ * oversized or unterminated line cannot grow the heap without bound. The rest of an oversized line
+ * is read and discarded up to its newline, and {@link #isTruncated()} reports it.
+ */
+final class BoundedLineReader implements Closeable {
+    private final Reader in;
+    private final int maxLength;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean truncated;
+
+    BoundedLineReader(Reader in, int maxLength) {
+        this.in = in;
+        this.maxLength = maxLength;
+    }
+
+    /** Next line without its terminator, or {@code null} at the end of input. */
+    String readLine() throws IOException {
+        line.setLength(0);
+        truncated = false;
+        boolean started = false;
+        while (true) {
+            if (position == limit && !fill()) {
+                return started ? finish() : null;
+            }
+            started = true;
+            int from = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            append(from, position);
+            if (position < limit) {
+                position++;
+                return finish();
+            }
+        }
+    }
+
+    /** Whether the line last read was longer than the limit, and so was cut short. */
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    /** Whether another read would not block, as {@link Reader#ready()}. */
+    boolean ready() throws IOException {
+        return position < limit || in.ready();
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer, 0, buffer.length);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    private void append(int from, int to) {
+        int count = to - from;
+        int room = maxLength - line.length();
+        if (count > room) {
+            truncated = true;
+            count = room;
+        }
+        line.append(buffer, from, count);
+    }
+
+    private String finish() {
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        return line.toString();
+    }
+}
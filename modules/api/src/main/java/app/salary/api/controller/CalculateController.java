@@ -2,19 +2,53 @@ package app.salary.api.controller;
 
 import app.salary.calculator.engine.CalculationOrchestrator;
 import app.salary.calculator.registry.CalculatorRegistry;
+import app.salary.common.dto.BatchCalculateRequest;
+import app.salary.common.dto.BatchCalculateResponse;
+import app.salary.common.dto.BatchItemResult;
 import app.salary.common.dto.CalculateRequest;
 import app.salary.common.dto.CalculateResponse;
+import app.salary.common.dto.CountryComparisonRequest;
+import app.salary.common.dto.CountryComparisonResponse;
+import app.salary.common.dto.CurveRequest;
+import app.salary.common.dto.CurveResponse;
+import app.salary.common.dto.InverseCalculateRequest;
+import app.salary.common.dto.InverseCalculateResponse;
+import app.salary.common.dto.ProjectionRequest;
+import app.salary.common.dto.ProjectionResponse;
+import app.salary.common.dto.StateComparisonRequest;
+import app.salary.common.dto.StateComparisonResponse;
 import app.salary.common.constants.Country;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/v1")
@@ -22,13 +56,46 @@ import java.util.Map;
 public class CalculateController {
     private static final Logger log = LoggerFactory.getLogger(CalculateController.class);
 
+    /** Longest request line the stream endpoint reads; longer lines are skipped and reported. */
+    public static final int MAX_STREAM_LINE_LENGTH = 64 * 1024;
+
     private final CalculationOrchestrator orchestrator;
-    private final CalculatorRegistry calculatorRegistry;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+    private final ObjectWriter lineWriter;
+    private final Map<String, Object> countriesManifest;
+    private final Map<String, Object> healthStatus;
+    private final Map<String, Object> startingStatus;
+    private final ApplicationAvailability availability;
 
     public CalculateController(CalculationOrchestrator orchestrator,
-                               CalculatorRegistry calculatorRegistry) {
+                               CalculatorRegistry calculatorRegistry,
+                               Validator validator,
+                               ObjectMapper objectMapper,
+                               ApplicationAvailability availability) {
         this.orchestrator = orchestrator;
-        this.calculatorRegistry = calculatorRegistry;
+        this.availability = availability;
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(CalculateRequest.class);
+        // Flushing is driven by the input side of the stream, not by every value written
+        this.lineWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        // The registry is immutable once built, so both payloads are computed once
+        List<Country> countries = calculatorRegistry.getSupportedCountries();
+        this.countriesManifest = Map.of(
+                "countries", countries,
+                "count", countries.size()
+        );
+        this.healthStatus = Map.of(
+                "status", "UP",
+                "calculators", calculatorRegistry.getCalculatorCount(),
+                "supportedCountries", countries.size()
+        );
+        this.startingStatus = Map.of(
+                "status", "OUT_OF_SERVICE",
+                "calculators", calculatorRegistry.getCalculatorCount(),
+                "supportedCountries", countries.size()
+        );
     }
 
     @PostMapping("/calculate")
@@ -49,23 +116,188 @@ public class CalculateController {
         }
     }
 
+    @PostMapping("/calculate/inverse")
+    @Operation(summary = "Find the gross salary that yields a target net pay")
+    public ResponseEntity<InverseCalculateResponse> calculateInverse(
+            @Valid @RequestBody InverseCalculateRequest request) {
+        log.info("Received inverse calculation request for country: {}, taxYear: {}",
+                request.getCountry(), request.getTaxYear());
+        return ResponseEntity.ok(orchestrator.calculateGrossForNet(request));
+    }
+
+    @PostMapping("/calculate/curve")
+    @Operation(summary = "Calculate net pay, total tax and tax rates over a range of gross salaries")
+    public ResponseEntity<CurveResponse> calculateCurve(@Valid @RequestBody CurveRequest request) {
+        log.info("Received curve calculation request for country: {}, taxYear: {}",
+                request.getCountry(), request.getTaxYear());
+        return ResponseEntity.ok(orchestrator.calculateCurve(request));
+    }
+
+    @PostMapping("/calculate/states")
+    @Operation(summary = "Compare net pay for one US profile across every state or a chosen subset")
+    public ResponseEntity<StateComparisonResponse> compareStates(
+            @Valid @RequestBody StateComparisonRequest request) {
+        log.info("Received state comparison request for tax year: {}", request.getTaxYear());
+        return ResponseEntity.ok(orchestrator.compareStates(request));
+    }
+
+    @PostMapping("/calculate/countries")
+    @Operation(summary = "Compare one offer across countries, converted into a target currency")
+    public ResponseEntity<CountryComparisonResponse> compareCountries(
+            @Valid @RequestBody CountryComparisonRequest request) {
+        log.info("Received country comparison request for tax year: {} in {}",
+                request.getTaxYear(), request.getTargetCurrency());
+        return ResponseEntity.ok(orchestrator.compareCountries(request));
+    }
+
+    @PostMapping("/calculate/projection")
+    @Operation(summary = "Project net pay over consecutive tax years, indexing thresholds beyond published rule packs")
+    public ResponseEntity<ProjectionResponse> project(@Valid @RequestBody ProjectionRequest request) {
+        log.info("Received projection request for country: {}, tax year: {}, years: {}",
+                request.getCountry(), request.getTaxYear(), request.getYears());
+        return ResponseEntity.ok(orchestrator.project(request));
+    }
+
+    @PostMapping("/calculate/batch")
+    @Operation(summary = "Calculate net pay for a batch of requests, with a result or error per item")
+    public ResponseEntity<BatchCalculateResponse> calculateBatch(
+            @Valid @RequestBody BatchCalculateRequest request) {
+        List<CalculateRequest> requests = request.getRequests();
+        log.info("Received batch calculation request with {} item(s)", requests.size());
+
+        // Items are validated individually so one bad entry does not reject the whole batch
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<CalculateRequest> valid = new ArrayList<>(requests.size());
+        int[] validIndices = new int[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            if (error != null) {
+                results[i] = BatchItemResult.failure(i, error);
+            } else {
+                validIndices[valid.size()] = i;
+                valid.add(requests.get(i));
+            }
+        }
+
+        List<BatchItemResult> calculated = orchestrator.calculateBatch(valid);
+        for (int j = 0; j < calculated.size(); j++) {
+            BatchItemResult item = calculated.get(j);
+            item.setIndex(validIndices[j]);
+            results[validIndices[j]] = item;
+        }
+
+        return ResponseEntity.ok(new BatchCalculateResponse(Arrays.asList(results)));
+    }
+
+    /**
+     * Reads one {@link CalculateRequest} per line and writes one line per result as it completes:
+     * the {@link CalculateResponse}, or a {@link BatchItemResult} carrying the line number and error.
+     * Lines are processed one at a time on the request thread, so memory stays flat and a slow
+     * client blocks the writer, which in turn stops the reader. Output is flushed whenever the
+     * reader has no more buffered input, so results are never held back waiting on the client.
+     * A line longer than {@link #MAX_STREAM_LINE_LENGTH} is not buffered whole: it is skipped to
+     * its newline and answered with a failure for that line.
+     */
+    @PostMapping(value = "/calculate/stream",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Calculate newline-delimited requests, streaming one response line per request")
+    public void calculateStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        long start = System.nanoTime();
+        int lineNumber = 0;
+        int processed = 0;
+        int failed = 0;
+
+        try (BoundedLineReader reader = new BoundedLineReader(
+                     new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8),
+                     MAX_STREAM_LINE_LENGTH);
+             JsonGenerator generator = lineWriter.getFactory().createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int index = lineNumber++;
+                Object out;
+                if (reader.isTruncated()) {
+                    out = BatchItemResult.failure(index,
+                            "Line exceeds " + MAX_STREAM_LINE_LENGTH + " characters");
+                } else if (line.isBlank()) {
+                    continue;
+                } else {
+                    out = calculateLine(index, line);
+                }
+                if (out instanceof BatchItemResult) {
+                    failed++;
+                }
+                processed++;
+
+                lineWriter.writeValue(generator, out);
+                generator.writeRaw('\n');
+                if (!reader.ready()) {
+                    generator.flush();
+                }
+            }
+        }
+
+        log.info("Completed calculation stream of {} line(s), {} failed, in {} ms",
+                processed, failed, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Object calculateLine(int index, String line) {
+        CalculateRequest item;
+        try {
+            item = requestReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return BatchItemResult.failure(index, "Malformed request: " + e.getOriginalMessage());
+        }
+
+        String error = validate(item);
+        if (error != null) {
+            return BatchItemResult.failure(index, error);
+        }
+
+        try {
+            return orchestrator.evaluate(item);
+        } catch (IllegalArgumentException e) {
+            return BatchItemResult.failure(index, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error processing streamed calculation on line {}", index, e);
+            return BatchItemResult.failure(index, "Internal server error");
+        }
+    }
+
     @GetMapping("/countries")
     @Operation(summary = "List all supported countries")
     public ResponseEntity<Map<String, Object>> getSupportedCountries() {
-        List<Country> countries = calculatorRegistry.getSupportedCountries();
-        return ResponseEntity.ok(Map.of(
-                "countries", countries,
-                "count", countries.size()
-        ));
+        return ResponseEntity.ok(countriesManifest);
     }
 
     @GetMapping("/health")
     @Operation(summary = "Health check endpoint")
     public ResponseEntity<Map<String, Object>> health() {
-        return ResponseEntity.ok(Map.of(
-                "status", "UP",
-                "calculators", calculatorRegistry.getCalculatorCount(),
-                "supportedCountries", calculatorRegistry.getSupportedCountries().size()
-        ));
+        // Not ready until startup prewarming has finished; see RulePackPrewarmer
+        if (availability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(startingStatus);
+        }
+        return ResponseEntity.ok(healthStatus);
+    }
+
+    private String validate(CalculateRequest request) {
+        if (request == null) {
+            return "Request must not be null";
+        }
+        Set<ConstraintViolation<CalculateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath().toString().isEmpty()
+                        ? v.getMessage()
+                        : v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
     }
 }
@@ -0,0 +1,14 @@
+package app.salary.benchmarks;
+
+import app.salary.calculator.engine.CalculationBuffer;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * One {@link CalculationBuffer} per benchmark thread, reused across invocations the way a batch
+ * chunk reuses it, so {@code -prof gc} shows what the buffer-based core itself allocates.
+ */
+@State(Scope.Thread)
+public class BufferState {
+    final CalculationBuffer buffer = new CalculationBuffer();
+}
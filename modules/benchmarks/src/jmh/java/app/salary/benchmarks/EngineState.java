@@ -0,0 +1,78 @@
+package app.salary.benchmarks;
+
+import app.salary.calculator.countries.UKCalculator;
+import app.salary.calculator.countries.USCalculator;
+import app.salary.calculator.engine.CalculationOrchestrator;
+import app.salary.calculator.registry.CalculatorRegistry;
+import app.salary.calculator.shared.TaxBracketCalculator;
+import app.salary.common.constants.Country;
+import app.salary.common.constants.FilingStatus;
+import app.salary.common.dto.CalculateRequest;
+import app.salary.common.dto.CountryOptions;
+import app.salary.common.dto.CountryOptionsUS;
+import app.salary.rules.RulePack;
+import app.salary.rules.RulesRegistry;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * The calculation engine wired the same way the API wires it: calculators discovered by
+ * component scan, rule packs loaded through {@link RulesRegistry}.
+ */
+@State(Scope.Benchmark)
+public class EngineState {
+    AnnotationConfigApplicationContext context;
+    TaxBracketCalculator bracketCalculator;
+    UKCalculator ukCalculator;
+    USCalculator usCalculator;
+    CalculationOrchestrator orchestrator;
+    RulePack ukRules;
+    RulePack usRules;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(
+                "app.salary.calculator.countries",
+                "app.salary.calculator.shared",
+                "app.salary.calculator.registry");
+        bracketCalculator = context.getBean(TaxBracketCalculator.class);
+        ukCalculator = context.getBean(UKCalculator.class);
+        usCalculator = context.getBean(USCalculator.class);
+
+        RulesRegistry rulesRegistry = new RulesRegistry();
+        ukRules = rulesRegistry.getRulePack("UK", 2025);
+        usRules = rulesRegistry.getRulePack("US", 2025);
+        orchestrator = new CalculationOrchestrator(rulesRegistry, context.getBean(CalculatorRegistry.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    static CalculateRequest ukRequest(double annualSalary) {
+        CalculateRequest request = new CalculateRequest();
+        request.setCountry(Country.UK);
+        request.setTaxYear(2025);
+        request.setAnnualSalary(annualSalary);
+        return request;
+    }
+
+    static CalculateRequest usRequest(double annualSalary) {
+        CountryOptionsUS us = new CountryOptionsUS();
+        us.setState("CA");
+        us.setFilingStatus(FilingStatus.SINGLE);
+        CountryOptions countryOptions = new CountryOptions();
+        countryOptions.setUs(us);
+
+        CalculateRequest request = new CalculateRequest();
+        request.setCountry(Country.US);
+        request.setTaxYear(2025);
+        request.setAnnualSalary(annualSalary);
+        request.setCountryOptions(countryOptions);
+        return request;
+    }
+}
@@ -0,0 +1,70 @@
+package app.salary.benchmarks;
+
+import app.salary.common.dto.CalculateRequest;
+import app.salary.common.dto.CalculateResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of one API call: reading a {@link CalculateRequest} and writing a full
+ * {@link CalculateResponse}, with the API's {@code non_null} inclusion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonRoundTripBenchmark {
+
+    private static final String REQUEST_JSON = """
+            {
+                "country": "US",
+                "taxYear": 2025,
+                "annualSalary": 120000,
+                "cadence": "MONTHLY",
+                "pretax": { "percent": 0.05, "hsa": 3850 },
+                "countryOptions": { "US": { "state": "CA", "filingStatus": "SINGLE" } }
+            }
+            """;
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private byte[] requestBytes;
+    private CalculateResponse response;
+
+    @Setup
+    public void setUp(EngineState engine) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        requestReader = objectMapper.readerFor(CalculateRequest.class);
+        responseWriter = objectMapper.writerFor(CalculateResponse.class);
+        requestBytes = REQUEST_JSON.getBytes();
+        response = engine.orchestrator.evaluate(requestReader.readValue(requestBytes));
+    }
+
+    @Benchmark
+    public CalculateRequest readRequest() throws IOException {
+        return requestReader.readValue(requestBytes);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] roundTrip(EngineState engine) throws IOException {
+        CalculateRequest request = requestReader.readValue(requestBytes);
+        return responseWriter.writeValueAsBytes(engine.orchestrator.evaluate(request));
+    }
+}
@@ -0,0 +1,43 @@
+package app.salary.benchmarks;
+
+import app.salary.common.constants.Country;
+import app.salary.common.dto.CalculateRequest;
+import app.salary.common.dto.CalculateResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The full {@code CalculationOrchestrator.calculate} path behind {@code POST /v1/calculate}:
+ * rule pack and calculator lookup, calculation, cadence conversion and response assembly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrchestratorBenchmark {
+
+    @Param({"UK", "US"})
+    Country country;
+
+    @Param({"30000", "110000", "400000"})
+    double salary;
+
+    private CalculateRequest request;
+
+    @Setup
+    public void setUp() {
+        request = country == Country.UK ? EngineState.ukRequest(salary) : EngineState.usRequest(salary);
+    }
+
+    @Benchmark
+    public CalculateResponse calculate(EngineState engine) {
+        return engine.orchestrator.evaluate(request);
+    }
+}
@@ -0,0 +1,52 @@
+package app.salary.benchmarks;
+
+import app.salary.common.constants.Country;
+import app.salary.common.dto.CalculateRequest;
+import app.salary.common.dto.ProjectionRequest;
+import app.salary.common.dto.ProjectionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code CalculationOrchestrator.project} behind {@code POST /v1/calculate/projection}, with the
+ * projected rule packs cached after the first invocation; compare with
+ * {@link OrchestratorBenchmark} for the cost of one calculation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProjectionBenchmark {
+
+    @Param({"UK", "US"})
+    Country country;
+
+    @Param({"1", "10"})
+    int years;
+
+    private ProjectionRequest request;
+
+    @Setup
+    public void setUp() {
+        CalculateRequest profile = country == Country.UK ? EngineState.ukRequest(60000) : EngineState.usRequest(60000);
+        request = new ProjectionRequest();
+        request.setCountry(country);
+        request.setTaxYear(profile.getTaxYear());
+        request.setAnnualSalary(profile.getAnnualSalary());
+        request.setCountryOptions(profile.getCountryOptions());
+        request.setYears(years);
+        request.setSalaryGrowth(0.03);
+    }
+
+    @Benchmark
+    public ProjectionResponse project(EngineState engine) {
+        return engine.orchestrator.project(request);
+    }
+}
@@ -0,0 +1,55 @@
+package app.salary.benchmarks;
+
+import app.salary.rules.RulePack;
+import app.salary.rules.RulePackBinaryFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding a rule pack from bytes already in memory: Jackson on the JSON pack against the
+ * precompiled binary format. Excludes I/O and {@code CompiledRulePack.compile}, which both paths
+ * share.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RulePackDecodeBenchmark {
+
+    @Param({"UK-2025", "US-2025"})
+    String pack;
+
+    private ObjectMapper objectMapper;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        try (InputStream is = RulePack.class.getResourceAsStream("/rulepacks/" + pack + ".json")) {
+            json = is.readAllBytes();
+        }
+        binary = RulePackBinaryFormat.write(objectMapper.readValue(json, RulePack.class));
+    }
+
+    @Benchmark
+    public RulePack json() throws IOException {
+        return objectMapper.readValue(json, RulePack.class);
+    }
+
+    @Benchmark
+    public RulePack binary() {
+        return RulePackBinaryFormat.read(ByteBuffer.wrap(binary));
+    }
+}
@@ -0,0 +1,57 @@
+package app.salary.benchmarks;
+
+import app.salary.rules.CompiledRulePack;
+import app.salary.rules.RulePack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bracket evaluation on the US 2025 federal schedule, list-based and compiled, with and
+ * without a per-band breakdown. Incomes land in the 10%, 12%, 22%, 24%, 32%, 35% and 37% bands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaxBracketBenchmark {
+
+    @Param({"5000", "30000", "80000", "150000", "220000", "400000", "800000"})
+    double income;
+
+    private List<RulePack.TaxBracket> brackets;
+    private CompiledRulePack.BracketTable table;
+
+    @Setup
+    public void setUp(EngineState engine) {
+        brackets = engine.usRules.getFederal().getBrackets();
+        table = engine.usRules.getCompiled().getFederalBrackets();
+    }
+
+    @Benchmark
+    public double calculateTax(EngineState engine) {
+        return engine.bracketCalculator.calculateTax(income, brackets);
+    }
+
+    @Benchmark
+    public double calculateTaxCompiled(EngineState engine) {
+        return engine.bracketCalculator.calculateTax(income, table);
+    }
+
+    @Benchmark
+    public Object calculateTaxWithBreakdown(EngineState engine) {
+        return engine.bracketCalculator.calculateTaxWithBreakdown(income, brackets);
+    }
+
+    @Benchmark
+    public Object calculateTaxWithBreakdownCompiled(EngineState engine) {
+        return engine.bracketCalculator.calculateTaxWithBreakdown(income, table);
+    }
+}
@@ -0,0 +1,63 @@
+package app.salary.benchmarks;
+
+import app.salary.calculator.engine.CalculationBuffer;
+import app.salary.calculator.engine.CalculationInput;
+import app.salary.calculator.engine.CalculationResult;
+import app.salary.common.constants.DetailLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code UKCalculator.calculate} and {@code calculateFixedPoint}, returning a result or
+ * writing into a reused {@link CalculationBuffer}, at salaries in the basic, higher,
+ * personal allowance taper and additional rate bands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UKCalculatorBenchmark {
+
+    @Param({"20000", "60000", "110000", "200000"})
+    double salary;
+
+    @Param({"FULL", "NET_ONLY"})
+    DetailLevel detail;
+
+    private CalculationInput input;
+
+    @Setup
+    public void setUp() {
+        input = CalculationInput.from(EngineState.ukRequest(salary));
+        input.setDetail(detail);
+    }
+
+    @Benchmark
+    public CalculationResult calculate(EngineState engine) {
+        return engine.ukCalculator.calculate(input, engine.ukRules);
+    }
+
+    @Benchmark
+    public CalculationResult calculateFixedPoint(EngineState engine) {
+        return engine.ukCalculator.calculateFixedPoint(input, engine.ukRules);
+    }
+
+    @Benchmark
+    public double calculateIntoBuffer(EngineState engine, BufferState state) {
+        engine.ukCalculator.calculate(input, engine.ukRules, state.buffer);
+        return state.buffer.getNetAnnual();
+    }
+
+    @Benchmark
+    public double calculateFixedPointIntoBuffer(EngineState engine, BufferState state) {
+        engine.ukCalculator.calculateFixedPoint(input, engine.ukRules, state.buffer);
+        return state.buffer.getNetAnnual();
+    }
+}
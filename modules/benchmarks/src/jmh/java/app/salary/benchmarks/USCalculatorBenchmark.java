@@ -0,0 +1,63 @@
+package app.salary.benchmarks;
+
+import app.salary.calculator.engine.CalculationBuffer;
+import app.salary.calculator.engine.CalculationInput;
+import app.salary.calculator.engine.CalculationResult;
+import app.salary.common.constants.DetailLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code USCalculator.calculate} and {@code calculateFixedPoint}, returning a result or
+ * writing into a reused {@link CalculationBuffer}, for a single California filer, at
+ * salaries whose federal taxable income lands in each of the seven 2025 brackets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class USCalculatorBenchmark {
+
+    @Param({"20000", "40000", "90000", "160000", "250000", "400000", "800000"})
+    double salary;
+
+    @Param({"FULL", "NET_ONLY"})
+    DetailLevel detail;
+
+    private CalculationInput input;
+
+    @Setup
+    public void setUp() {
+        input = CalculationInput.from(EngineState.usRequest(salary));
+        input.setDetail(detail);
+    }
+
+    @Benchmark
+    public CalculationResult calculate(EngineState engine) {
+        return engine.usCalculator.calculate(input, engine.usRules);
+    }
+
+    @Benchmark
+    public CalculationResult calculateFixedPoint(EngineState engine) {
+        return engine.usCalculator.calculateFixedPoint(input, engine.usRules);
+    }
+
+    @Benchmark
+    public double calculateIntoBuffer(EngineState engine, BufferState state) {
+        engine.usCalculator.calculate(input, engine.usRules, state.buffer);
+        return state.buffer.getNetAnnual();
+    }
+
+    @Benchmark
+    public double calculateFixedPointIntoBuffer(EngineState engine, BufferState state) {
+        engine.usCalculator.calculateFixedPoint(input, engine.usRules, state.buffer);
+        return state.buffer.getNetAnnual();
+    }
+}
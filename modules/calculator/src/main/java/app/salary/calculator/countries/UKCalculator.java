@@ -1,15 +1,52 @@
 package app.salary.calculator.countries;
 
 import app.salary.calculator.engine.*;
+import app.salary.calculator.engine.CalculationBuffer.Slot;
 import app.salary.calculator.shared.*;
+import app.salary.common.constants.Arithmetic;
 import app.salary.common.constants.Country;
+import app.salary.common.constants.StudentLoanPlan;
+import app.salary.common.money.FixedPoint;
+import app.salary.rules.CompiledRulePack;
 import app.salary.rules.RulePack;
 import org.springframework.beans.factory.annotation.Autowired;
 import app.salary.calculator.engine.CountryCalculator;
 import org.springframework.stereotype.Component;
 
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.DoubleStream;
+
 @Component
 public class UKCalculator implements CountryCalculator {
+    private static final int FIRST_TAX_YEAR = 2025;
+    private static final double EMPLOYER_PENSION_MINIMUM_RATE = 0.03;
+
+    // HMRC rounding for the fixed-point path: taxable pay and student loan repayments round down
+    // to whole pounds, income tax down to the penny in each band, National Insurance to the
+    // nearest penny with half a penny rounding down, and pension contributions half up
+    private static final long WHOLE_POUNDS = FixedPoint.MINOR_UNITS;
+    private static final RoundingMode TAX_ROUNDING = RoundingMode.DOWN;
+    private static final RoundingMode NI_ROUNDING = RoundingMode.HALF_DOWN;
+    private static final RoundingMode PENSION_ROUNDING = RoundingMode.HALF_UP;
+
+    private static final String[] BAND_LINE_ITEMS = {
+            "Income Tax (Basic Rate 20%)", "Income Tax (Higher Rate 40%)", "Income Tax (Additional Rate 45%)"};
+    private static final String[] BAND_EXPLANATION_IDS = {
+            "basic_rate_tax", "higher_rate_tax", "additional_rate_tax"};
+    private static final String[] BAND_EXPLANATIONS = {
+            "Basic rate (20%%) on £%.2f", "Higher rate (40%%) on £%.2f", "Additional rate (45%%) on £%.2f"};
+
+    private static final String DEFAULT_STUDENT_LOAN_LINE_ITEM = "Student Loan (Plan 2)";
+    private static final Map<StudentLoanPlan, String> STUDENT_LOAN_LINE_ITEMS = new EnumMap<>(StudentLoanPlan.class);
+
+    static {
+        for (StudentLoanPlan plan : StudentLoanPlan.values()) {
+            STUDENT_LOAN_LINE_ITEMS.put(plan, "Student Loan (" + plan.name() + ")");
+        }
+    }
+
     @Autowired
     private TaxBracketCalculator bracketCalculator;
 
@@ -21,122 +58,332 @@ public class UKCalculator implements CountryCalculator {
 
     @Override
     public boolean supports(Country country, int taxYear) {
-        return country == Country.UK && taxYear >= 2025;
+        return country == Country.UK && taxYear >= FIRST_TAX_YEAR;
+    }
+
+    @Override
+    public TaxYearRange getSupportedTaxYears(Country country) {
+        return country == Country.UK ? TaxYearRange.from(FIRST_TAX_YEAR) : TaxYearRange.NONE;
     }
 
     @Override
     public CalculationResult calculate(CalculationInput input, RulePack rules) {
-        CalculationResult result = new CalculationResult();
-        result.setCurrency("GBP");
-        result.setRulePackVersion(rules.getMetadata().getVersion());
+        CalculationBuffer buffer = new CalculationBuffer();
+        calculate(input, rules, buffer);
+        return buffer.toResult();
+    }
+
+    @Override
+    public void calculate(CalculationInput input, RulePack rules, CalculationBuffer buffer) {
+        buffer.reset(input.getDetail());
+        buffer.setCurrency(Country.UK.getCurrency());
+        buffer.setRulePackVersion(rules.getMetadata().getVersion());
 
         double grossAnnual = input.getAnnualGross();
-        result.setGrossAnnual(grossAnnual);
+        buffer.setGrossAnnual(grossAnnual);
 
         double pensionContribution = deductionCalculator.calculatePensionContribution(
                 input.getPretax(), grossAnnual);
-        double employerPensionMinimum = grossAnnual * 0.03;
+        double employerPensionMinimum = grossAnnual * EMPLOYER_PENSION_MINIMUM_RATE;
+        buffer.set(Slot.PENSION, pensionContribution);
 
         double taxableIncome = grossAnnual - pensionContribution;
         double personalAllowance = calculatePersonalAllowance(taxableIncome, rules);
         double taxableAfterAllowance = Math.max(0, taxableIncome - personalAllowance);
+        buffer.set(Slot.PERSONAL_ALLOWANCE, personalAllowance);
+        buffer.set(Slot.TAXABLE_INCOME, taxableAfterAllowance);
+
+        // Per-band figures only feed line items and explanations
+        boolean detailed = buffer.includesLineItems() || buffer.includesExplanations();
+        CompiledRulePack compiled = rules.getCompiled();
+        double incomeTax;
+        if (detailed && compiled != null) {
+            incomeTax = bracketCalculator.calculateTaxInto(taxableAfterAllowance,
+                    compiled.getIncomeTaxBands(), buffer);
+        } else if (detailed) {
+            TaxBracketCalculator.TaxBreakdown breakdown = bracketCalculator.calculateTaxWithBreakdown(
+                    taxableAfterAllowance, rules.getIncomeTax().getBands());
+            breakdown.getBands().forEach((index, band) ->
+                    buffer.setBracket(index, band.getIncome(), band.getRate(), band.getTax()));
+            incomeTax = breakdown.getTotalTax();
+        } else {
+            incomeTax = compiled != null
+                    ? bracketCalculator.calculateTax(taxableAfterAllowance, compiled.getIncomeTaxBands())
+                    : bracketCalculator.calculateTax(taxableAfterAllowance, rules.getIncomeTax().getBands());
+        }
+        buffer.set(Slot.INCOME_TAX, incomeTax);
 
-        TaxBracketCalculator.TaxBreakdown incomeTaxBreakdown =
-                bracketCalculator.calculateTaxWithBreakdown(taxableAfterAllowance,
-                        rules.getIncomeTax().getBands());
-
-        NIBreakdown niBreakdown = calculateNationalInsuranceByBands(taxableIncome, rules);
+        RulePack.NationalInsurance ni = rules.getNi();
+        double mainRateIncome = 0.0;
+        double upperRateIncome = 0.0;
+        if (taxableIncome > ni.getPrimaryThresholdAnnual()) {
+            mainRateIncome = Math.min(taxableIncome, ni.getUpperEarningsLimit()) - ni.getPrimaryThresholdAnnual();
+        }
+        if (taxableIncome > ni.getUpperEarningsLimit()) {
+            upperRateIncome = taxableIncome - ni.getUpperEarningsLimit();
+        }
+        double mainRateNI = mainRateIncome * ni.getMainRate();
+        double upperRateNI = upperRateIncome * ni.getUpperRate();
+        double totalNI = mainRateNI + upperRateNI;
+        buffer.set(Slot.NI_MAIN_RATE, mainRateNI);
+        buffer.set(Slot.NI_UPPER_RATE, upperRateNI);
+        buffer.set(Slot.NATIONAL_INSURANCE, totalNI);
 
-        double studentLoan = studentLoanCalculator.calculateRepayment(
-                input.getPosttax().getStudentLoanPlan(), taxableIncome, rules);
+        StudentLoanPlan studentLoanPlan = input.getPosttax().getStudentLoanPlan();
+        double studentLoan = studentLoanCalculator.calculateRepayment(studentLoanPlan, taxableIncome, rules);
+        buffer.set(Slot.STUDENT_LOAN, studentLoan);
 
         double posttaxDeductions = deductionCalculator.calculatePosttaxDeductions(input.getPosttax());
+        buffer.set(Slot.POSTTAX_DEDUCTIONS, posttaxDeductions);
 
         // Build detailed line items
-        result.addLineItem("Gross Salary", grossAnnual);
-        result.addLineItem("Tax-Free Allowance", -personalAllowance);
-        result.addLineItem("Taxable Income", taxableAfterAllowance);
+        buffer.addLineItem("Gross Salary", grossAnnual);
+        buffer.addLineItem("Tax-Free Allowance", -personalAllowance);
+        buffer.addLineItem("Taxable Income", taxableAfterAllowance);
+
+        if (detailed) {
+            for (int i = 0; i < BAND_LINE_ITEMS.length; i++) {
+                if (buffer.getBracketIncome(i) > 0) {
+                    buffer.addLineItem(BAND_LINE_ITEMS[i], buffer.getBracketTax(i));
+                    buffer.addExplanation(BAND_EXPLANATION_IDS[i], BAND_EXPLANATIONS[i], buffer.getBracketIncome(i));
+                }
+            }
+        }
+
+        buffer.addLineItem("Total Income Tax", incomeTax);
 
-        var bands = incomeTaxBreakdown.getBands();
-        if (bands.containsKey(0)) {
-            var band = bands.get(0);
-            result.addLineItem("Income Tax (Basic Rate 20%)", band.getTax());
-            result.addExplanation("basic_rate_tax",
-                    String.format("Basic rate (20%%) on £%.2f", band.getIncome()));
+        if (mainRateNI > 0) {
+            buffer.addLineItem("National Insurance (Main Rate 8%)", mainRateNI);
+            buffer.addExplanation("ni_main_rate",
+                    "8%% rate on £%.2f (between £%.0f and £%.0f)",
+                    mainRateIncome,
+                    ni.getPrimaryThresholdAnnual(),
+                    ni.getUpperEarningsLimit());
         }
 
-        if (bands.containsKey(1)) {
-            var band = bands.get(1);
-            result.addLineItem("Income Tax (Higher Rate 40%)", band.getTax());
-            result.addExplanation("higher_rate_tax",
-                    String.format("Higher rate (40%%) on £%.2f", band.getIncome()));
+        if (upperRateNI > 0) {
+            buffer.addLineItem("National Insurance (Upper Rate 2%)", upperRateNI);
+            buffer.addExplanation("ni_upper_rate",
+                    "2%% rate on £%.2f (above £%.0f)",
+                    upperRateIncome,
+                    ni.getUpperEarningsLimit());
         }
 
-        if (bands.containsKey(2)) {
-            var band = bands.get(2);
-            result.addLineItem("Income Tax (Additional Rate 45%)", band.getTax());
-            result.addExplanation("additional_rate_tax",
-                    String.format("Additional rate (45%%) on £%.2f", band.getIncome()));
+        buffer.addLineItem("Total National Insurance", totalNI);
+
+        if (pensionContribution > 0) {
+            buffer.addLineItem("Employee Pension Contribution", pensionContribution);
+            double pensionPercent = input.getPretax().getPensionPercent() * 100;
+            buffer.addExplanation("pension_contribution",
+                    "Employee contribution: %.1f%% of gross salary (£%.2f). " +
+                            "Employer minimum contribution: 3%% (£%.2f)",
+                    pensionPercent, pensionContribution, employerPensionMinimum);
         }
 
-        result.addLineItem("Total Income Tax", incomeTaxBreakdown.getTotalTax());
+        if (studentLoan > 0) {
+            buffer.addLineItem(studentLoanLineItem(studentLoanPlan), studentLoan);
+        }
 
-        if (niBreakdown.mainRateNI > 0) {
-            result.addLineItem("National Insurance (Main Rate 8%)", niBreakdown.mainRateNI);
-            result.addExplanation("ni_main_rate",
-                    String.format("8%% rate on £%.2f (between £%.0f and £%.0f)",
-                            niBreakdown.mainRateIncome,
-                            rules.getNi().getPrimaryThresholdAnnual(),
-                            rules.getNi().getUpperEarningsLimit()));
+        if (posttaxDeductions > 0) {
+            buffer.addLineItem("Other Post-tax Deductions", posttaxDeductions);
         }
 
-        if (niBreakdown.upperRateNI > 0) {
-            result.addLineItem("National Insurance (Upper Rate 2%)", niBreakdown.upperRateNI);
-            result.addExplanation("ni_upper_rate",
-                    String.format("2%% rate on £%.2f (above £%.0f)",
-                            niBreakdown.upperRateIncome,
-                            rules.getNi().getUpperEarningsLimit()));
+        double netAnnual = grossAnnual - incomeTax - totalNI
+                - pensionContribution - studentLoan - posttaxDeductions;
+        buffer.setNetAnnual(netAnnual);
+        buffer.setTotalTax(incomeTax + totalNI);
+        buffer.addLineItem("Net Take-Home Pay", netAnnual);
+
+        if (taxableIncome > rules.getIncomeTax().getTaperStart()) {
+            buffer.addExplanation("personal_allowance_taper",
+                    "Personal allowance reduced due to income over £%.0f",
+                    rules.getIncomeTax().getTaperStart());
+        } else {
+            buffer.addExplanation("personal_allowance",
+                    "Full personal allowance of £%.0f applied", personalAllowance);
         }
 
-        result.addLineItem("Total National Insurance", niBreakdown.totalNI);
+        String taxCode = input.getUkOptions() != null ? input.getUkOptions().getTaxCode() : "1257L";
+        buffer.addExplanation("tax_code", "Tax code %s used for calculation", taxCode);
+    }
+
+    @Override
+    public void calculateFixedPoint(CalculationInput input, RulePack rules, CalculationBuffer buffer) {
+        buffer.reset(input.getDetail(), Arithmetic.FIXED_POINT);
+        buffer.setCurrency(Country.UK.getCurrency());
+        buffer.setRulePackVersion(rules.getMetadata().getVersion());
+
+        long grossAnnual = FixedPoint.toMinor(input.getAnnualGross());
+        buffer.setGrossAnnual(FixedPoint.toMajor(grossAnnual));
+
+        long pensionContribution = deductionCalculator.calculatePensionContributionMinor(
+                input.getPretax(), grossAnnual, PENSION_ROUNDING);
+        long employerPensionMinimum = FixedPoint.applyRate(grossAnnual,
+                FixedPoint.toRate(EMPLOYER_PENSION_MINIMUM_RATE), PENSION_ROUNDING);
+        buffer.set(Slot.PENSION, FixedPoint.toMajor(pensionContribution));
+
+        long taxableIncome = grossAnnual - pensionContribution;
+        long personalAllowance = calculatePersonalAllowanceMinor(taxableIncome, rules);
+        long taxableAfterAllowance = FixedPoint.roundTo(
+                Math.max(0, taxableIncome - personalAllowance), WHOLE_POUNDS, TAX_ROUNDING);
+        buffer.set(Slot.PERSONAL_ALLOWANCE, FixedPoint.toMajor(personalAllowance));
+        buffer.set(Slot.TAXABLE_INCOME, FixedPoint.toMajor(taxableAfterAllowance));
+
+        CompiledRulePack compiled = rules.getCompiled();
+        CompiledRulePack.BracketTable bands = compiled != null
+                ? compiled.getIncomeTaxBands()
+                : CompiledRulePack.BracketTable.of(rules.getIncomeTax().getBands());
+        long incomeTax = 0L;
+        for (int i = 0; i < bands.size(); i++) {
+            long bandIncome = bands.incomeInBracket(i, taxableAfterAllowance);
+            if (bandIncome > 0) {
+                long bandTax = FixedPoint.applyRate(bandIncome, bands.fixedRate(i), TAX_ROUNDING);
+                buffer.setBracket(i, FixedPoint.toMajor(bandIncome), bands.rate(i), FixedPoint.toMajor(bandTax));
+                incomeTax += bandTax;
+            }
+        }
+        buffer.set(Slot.INCOME_TAX, FixedPoint.toMajor(incomeTax));
+
+        RulePack.NationalInsurance ni = rules.getNi();
+        long primaryThreshold = FixedPoint.toMinor(ni.getPrimaryThresholdAnnual());
+        long upperEarningsLimit = FixedPoint.toMinor(ni.getUpperEarningsLimit());
+        long mainRateIncome = Math.max(0, Math.min(taxableIncome, upperEarningsLimit) - primaryThreshold);
+        long upperRateIncome = Math.max(0, taxableIncome - upperEarningsLimit);
+        long mainRateNI = FixedPoint.applyRate(mainRateIncome, FixedPoint.toRate(ni.getMainRate()), NI_ROUNDING);
+        long upperRateNI = FixedPoint.applyRate(upperRateIncome, FixedPoint.toRate(ni.getUpperRate()), NI_ROUNDING);
+        long totalNI = mainRateNI + upperRateNI;
+        buffer.set(Slot.NI_MAIN_RATE, FixedPoint.toMajor(mainRateNI));
+        buffer.set(Slot.NI_UPPER_RATE, FixedPoint.toMajor(upperRateNI));
+        buffer.set(Slot.NATIONAL_INSURANCE, FixedPoint.toMajor(totalNI));
+
+        StudentLoanPlan studentLoanPlan = input.getPosttax().getStudentLoanPlan();
+        long studentLoan = FixedPoint.roundTo(studentLoanCalculator.calculateRepaymentMinor(
+                studentLoanPlan, taxableIncome, rules, TAX_ROUNDING), WHOLE_POUNDS, TAX_ROUNDING);
+        buffer.set(Slot.STUDENT_LOAN, FixedPoint.toMajor(studentLoan));
+
+        long posttaxDeductions = deductionCalculator.calculatePosttaxDeductionsMinor(input.getPosttax());
+        buffer.set(Slot.POSTTAX_DEDUCTIONS, FixedPoint.toMajor(posttaxDeductions));
+
+        buffer.addLineItem("Gross Salary", FixedPoint.toMajor(grossAnnual));
+        buffer.addLineItem("Tax-Free Allowance", FixedPoint.toMajor(-personalAllowance));
+        buffer.addLineItem("Taxable Income", FixedPoint.toMajor(taxableAfterAllowance));
+
+        for (int i = 0; i < BAND_LINE_ITEMS.length; i++) {
+            if (buffer.getBracketIncome(i) > 0) {
+                buffer.addLineItem(BAND_LINE_ITEMS[i], buffer.getBracketTax(i));
+                buffer.addExplanation(BAND_EXPLANATION_IDS[i], BAND_EXPLANATIONS[i], buffer.getBracketIncome(i));
+            }
+        }
+
+        buffer.addLineItem("Total Income Tax", FixedPoint.toMajor(incomeTax));
+
+        if (mainRateNI > 0) {
+            buffer.addLineItem("National Insurance (Main Rate 8%)", FixedPoint.toMajor(mainRateNI));
+            buffer.addExplanation("ni_main_rate",
+                    "8%% rate on £%.2f (between £%.0f and £%.0f)",
+                    FixedPoint.toMajor(mainRateIncome),
+                    ni.getPrimaryThresholdAnnual(),
+                    ni.getUpperEarningsLimit());
+        }
+
+        if (upperRateNI > 0) {
+            buffer.addLineItem("National Insurance (Upper Rate 2%)", FixedPoint.toMajor(upperRateNI));
+            buffer.addExplanation("ni_upper_rate",
+                    "2%% rate on £%.2f (above £%.0f)",
+                    FixedPoint.toMajor(upperRateIncome),
+                    ni.getUpperEarningsLimit());
+        }
+
+        buffer.addLineItem("Total National Insurance", FixedPoint.toMajor(totalNI));
 
         if (pensionContribution > 0) {
-            result.addLineItem("Employee Pension Contribution", pensionContribution);
+            buffer.addLineItem("Employee Pension Contribution", FixedPoint.toMajor(pensionContribution));
             double pensionPercent = input.getPretax().getPensionPercent() * 100;
-            result.addExplanation("pension_contribution",
-                    String.format("Employee contribution: %.1f%% of gross salary (£%.2f). " +
-                                    "Employer minimum contribution: 3%% (£%.2f)",
-                            pensionPercent, pensionContribution, employerPensionMinimum));
+            buffer.addExplanation("pension_contribution",
+                    "Employee contribution: %.1f%% of gross salary (£%.2f). " +
+                            "Employer minimum contribution: 3%% (£%.2f)",
+                    pensionPercent, FixedPoint.toMajor(pensionContribution),
+                    FixedPoint.toMajor(employerPensionMinimum));
         }
 
         if (studentLoan > 0) {
-            String planName = input.getPosttax().getStudentLoanPlan() != null
-                    ? input.getPosttax().getStudentLoanPlan().name() : "Plan 2";
-            result.addLineItem("Student Loan (" + planName + ")", studentLoan);
+            buffer.addLineItem(studentLoanLineItem(studentLoanPlan), FixedPoint.toMajor(studentLoan));
         }
 
         if (posttaxDeductions > 0) {
-            result.addLineItem("Other Post-tax Deductions", posttaxDeductions);
+            buffer.addLineItem("Other Post-tax Deductions", FixedPoint.toMajor(posttaxDeductions));
         }
 
-        double netAnnual = grossAnnual - incomeTaxBreakdown.getTotalTax() - niBreakdown.totalNI
+        long netAnnual = grossAnnual - incomeTax - totalNI
                 - pensionContribution - studentLoan - posttaxDeductions;
-        result.setNetAnnual(netAnnual);
-        result.addLineItem("Net Take-Home Pay", netAnnual);
-
-        if (taxableIncome > rules.getIncomeTax().getTaperStart()) {
-            result.addExplanation("personal_allowance_taper",
-                    "Personal allowance reduced due to income over £" +
-                            String.format("%.0f", rules.getIncomeTax().getTaperStart()));
+        buffer.setNetAnnual(FixedPoint.toMajor(netAnnual));
+        buffer.setTotalTax(FixedPoint.toMajor(incomeTax + totalNI));
+        buffer.addLineItem("Net Take-Home Pay", FixedPoint.toMajor(netAnnual));
+
+        if (taxableIncome > FixedPoint.toMinor(rules.getIncomeTax().getTaperStart())) {
+            buffer.addExplanation("personal_allowance_taper",
+                    "Personal allowance reduced due to income over £%.0f",
+                    rules.getIncomeTax().getTaperStart());
         } else {
-            result.addExplanation("personal_allowance",
-                    String.format("Full personal allowance of £%.0f applied", personalAllowance));
+            buffer.addExplanation("personal_allowance",
+                    "Full personal allowance of £%.0f applied", FixedPoint.toMajor(personalAllowance));
         }
 
         String taxCode = input.getUkOptions() != null ? input.getUkOptions().getTaxCode() : "1257L";
-        result.addExplanation("tax_code", String.format("Tax code %s used for calculation", taxCode));
+        buffer.addExplanation("tax_code", "Tax code %s used for calculation", taxCode);
+    }
 
-        return result;
+    /** Tax does not vary within the UK, so there is no jurisdiction to evaluate. */
+    @Override
+    public void calculateJurisdiction(CalculationInput input, RulePack rules, CalculationBuffer base,
+                                      String jurisdiction, CalculationBuffer out) {
+        throw new IllegalArgumentException("UK has no jurisdiction " + jurisdiction);
+    }
+
+    @Override
+    public double[] netPayBreakpoints(CalculationInput profile, RulePack rules) {
+        RulePack.IncomeTax incomeTax = rules.getIncomeTax();
+        double allowance = incomeTax.getPersonalAllowance();
+        double taperStart = incomeTax.getTaperStart();
+        double taperRate = incomeTax.getTaperRate();
+
+        DoubleStream.Builder taxable = DoubleStream.builder();
+        taxable.add(taperStart);
+        if (taperRate > 0) {
+            taxable.add(taperStart + allowance / taperRate);
+        }
+
+        // Band thresholds apply after the allowance, which is full, tapering or exhausted
+        DoubleStream.Builder afterAllowance = DoubleStream.builder();
+        afterAllowance.add(0.0);
+        for (RulePack.TaxBracket band : incomeTax.getBands()) {
+            if (band.getUpTo() != null) {
+                afterAllowance.add(band.getUpTo());
+            }
+        }
+        afterAllowance.build().forEach(u -> {
+            taxable.add(u + allowance);
+            taxable.add((u + allowance + taperStart * taperRate) / (1 + taperRate));
+            taxable.add(u);
+        });
+
+        taxable.add(rules.getNi().getPrimaryThresholdAnnual());
+        taxable.add(rules.getNi().getUpperEarningsLimit());
+
+        StudentLoanPlan plan = profile.getPosttax() != null ? profile.getPosttax().getStudentLoanPlan() : null;
+        if (plan != null && rules.getStudentLoan() != null) {
+            RulePack.StudentLoanRules loanRules = rules.getStudentLoan().get(plan.name().toLowerCase());
+            if (loanRules != null) {
+                taxable.add(loanRules.getThreshold());
+            }
+        }
+
+        // Pension is the only pre-tax deduction: taxable = gross * (1 - pensionRate)
+        double pensionRate = deductionCalculator.calculatePensionContribution(profile.getPretax(), 1.0);
+        if (pensionRate >= 1.0) {
+            return new double[0];
+        }
+        return taxable.build().map(t -> t / (1 - pensionRate)).toArray();
     }
 
     private double calculatePersonalAllowance(double taxableIncome, RulePack rules) {
@@ -152,35 +399,21 @@ public class UKCalculator implements CountryCalculator {
         return personalAllowance;
     }
 
-    private NIBreakdown calculateNationalInsuranceByBands(double taxableIncome, RulePack rules) {
-        NIBreakdown breakdown = new NIBreakdown();
-        RulePack.NationalInsurance ni = rules.getNi();
-
-        if (taxableIncome <= ni.getPrimaryThresholdAnnual()) {
-            breakdown.totalNI = 0.0;
-            return breakdown;
-        }
+    private long calculatePersonalAllowanceMinor(long taxableIncome, RulePack rules) {
+        RulePack.IncomeTax incomeTax = rules.getIncomeTax();
+        long personalAllowance = FixedPoint.toMinor(incomeTax.getPersonalAllowance());
+        long taperStart = FixedPoint.toMinor(incomeTax.getTaperStart());
 
-        if (taxableIncome <= ni.getUpperEarningsLimit()) {
-            breakdown.mainRateIncome = taxableIncome - ni.getPrimaryThresholdAnnual();
-            breakdown.mainRateNI = breakdown.mainRateIncome * ni.getMainRate();
-            breakdown.totalNI = breakdown.mainRateNI;
-        } else {
-            breakdown.mainRateIncome = ni.getUpperEarningsLimit() - ni.getPrimaryThresholdAnnual();
-            breakdown.mainRateNI = breakdown.mainRateIncome * ni.getMainRate();
-            breakdown.upperRateIncome = taxableIncome - ni.getUpperEarningsLimit();
-            breakdown.upperRateNI = breakdown.upperRateIncome * ni.getUpperRate();
-            breakdown.totalNI = breakdown.mainRateNI + breakdown.upperRateNI;
+        if (taxableIncome > taperStart) {
+            long reduction = FixedPoint.applyRate(taxableIncome - taperStart,
+                    FixedPoint.toRate(incomeTax.getTaperRate()), TAX_ROUNDING);
+            personalAllowance = Math.max(0, personalAllowance - reduction);
         }
 
-        return breakdown;
+        return personalAllowance;
     }
 
-    private static class NIBreakdown {
-        double mainRateIncome = 0.0;
-        double mainRateNI = 0.0;
-        double upperRateIncome = 0.0;
-        double upperRateNI = 0.0;
-        double totalNI = 0.0;
+    private static String studentLoanLineItem(StudentLoanPlan plan) {
+        return plan != null ? STUDENT_LOAN_LINE_ITEMS.get(plan) : DEFAULT_STUDENT_LOAN_LINE_ITEM;
     }
 }
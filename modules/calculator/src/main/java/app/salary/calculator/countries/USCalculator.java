@@ -1,8 +1,15 @@
 package app.salary.calculator.countries;
 
 import app.salary.calculator.engine.*;
+import app.salary.calculator.engine.CalculationBuffer.Slot;
 import app.salary.calculator.shared.*;
+import app.salary.common.constants.Arithmetic;
 import app.salary.common.constants.Country;
+import app.salary.common.constants.DetailLevel;
+import app.salary.common.constants.FilingStatus;
+import app.salary.common.dto.CountryOptionsUS;
+import app.salary.common.money.FixedPoint;
+import app.salary.rules.CompiledRulePack;
 import app.salary.rules.RulePack;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,9 +17,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import app.salary.calculator.engine.CountryCalculator;
 
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.DoubleStream;
+
 @Component
 public class USCalculator implements CountryCalculator {
     private static final Logger log = LoggerFactory.getLogger(USCalculator.class);
+    private static final int FIRST_TAX_YEAR = 2025;
+
+    // Payroll withholding is to the cent: every fixed-point line rounds half up to a whole cent
+    private static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
 
     @Autowired
     private TaxBracketCalculator bracketCalculator;
@@ -22,71 +39,247 @@ public class USCalculator implements CountryCalculator {
 
     @Override
     public boolean supports(Country country, int taxYear) {
-        return country == Country.US && taxYear >= 2025;
+        return country == Country.US && taxYear >= FIRST_TAX_YEAR;
+    }
+
+    @Override
+    public TaxYearRange getSupportedTaxYears(Country country) {
+        return country == Country.US ? TaxYearRange.from(FIRST_TAX_YEAR) : TaxYearRange.NONE;
     }
 
     @Override
     public CalculationResult calculate(CalculationInput input, RulePack rules) {
-        CalculationResult result = new CalculationResult();
-        result.setCurrency("USD");
-        result.setRulePackVersion(rules.getMetadata().getVersion());
+        CalculationBuffer buffer = new CalculationBuffer();
+        calculate(input, rules, buffer);
+        return buffer.toResult();
+    }
+
+    @Override
+    public void calculate(CalculationInput input, RulePack rules, CalculationBuffer buffer) {
+        buffer.reset(input.getDetail());
+        buffer.setCurrency(Country.US.getCurrency());
+        buffer.setRulePackVersion(rules.getMetadata().getVersion());
 
         double grossAnnual = input.getAnnualGross();
-        result.setGrossAnnual(grossAnnual);
+        buffer.setGrossAnnual(grossAnnual);
 
         double pretaxDeductions = deductionCalculator.calculatePretaxDeductions(
                 input.getPretax(), grossAnnual);
-        result.addLineItem("Pre-tax Deductions", pretaxDeductions);
+        buffer.set(Slot.PRETAX_DEDUCTIONS, pretaxDeductions);
+        buffer.addLineItem("Pre-tax Deductions", pretaxDeductions);
 
         double taxableIncome = grossAnnual - pretaxDeductions;
+        buffer.set(Slot.TAXABLE_INCOME, taxableIncome);
 
         double federalTax = calculateFederalTax(input, taxableIncome, rules);
-        result.addLineItem("Federal Income Tax", federalTax);
-        result.addExplanation("fed_tax_brackets",
-                "Applied 2025 federal tax brackets based on " +
-                        input.getUsOptions().getFilingStatus());
+        buffer.set(Slot.FEDERAL_INCOME_TAX, federalTax);
+        buffer.addLineItem("Federal Income Tax", federalTax);
+        buffer.addExplanation("fed_tax_brackets",
+                "Applied 2025 federal tax brackets based on %s",
+                input.getUsOptions().getFilingStatus());
 
-        double stateTax = calculateStateTax(input, taxableIncome, rules);
+        double stateTax = calculateStateTax(input.getUsOptions().getState(), taxableIncome, rules, buffer);
         if (stateTax > 0) {
-            result.addLineItem("State Income Tax", stateTax);
-            result.addExplanation("state_tax",
-                    "Applied " + input.getUsOptions().getState() + " state tax rates");
+            buffer.addLineItem("State Income Tax", stateTax);
+            buffer.addExplanation("state_tax",
+                    "Applied %s state tax rates", input.getUsOptions().getState());
         }
 
         double socialSecurity = calculateSocialSecurity(grossAnnual, rules);
-        result.addLineItem("FICA (Social Security)", socialSecurity);
+        buffer.set(Slot.SOCIAL_SECURITY, socialSecurity);
+        buffer.addLineItem("FICA (Social Security)", socialSecurity);
 
         double medicare = calculateMedicare(grossAnnual, rules);
-        result.addLineItem("Medicare", medicare);
+        buffer.set(Slot.MEDICARE, medicare);
+        buffer.addLineItem("Medicare", medicare);
 
-        if (grossAnnual > rules.getFica().getAdditionalMedicareThreshold()) {
-            result.addExplanation("additional_medicare",
-                    "Additional Medicare tax applied for income over $" +
-                            String.format("%.0f", rules.getFica().getAdditionalMedicareThreshold()));
+        double additionalMedicareThreshold = rules.getFica().getAdditionalMedicareThreshold();
+        if (grossAnnual > additionalMedicareThreshold) {
+            buffer.addExplanation("additional_medicare",
+                    "Additional Medicare tax applied for income over $%.0f",
+                    additionalMedicareThreshold);
         }
 
         double posttaxDeductions = deductionCalculator.calculatePosttaxDeductions(
                 input.getPosttax());
+        buffer.set(Slot.POSTTAX_DEDUCTIONS, posttaxDeductions);
         if (posttaxDeductions > 0) {
-            result.addLineItem("Post-tax Deductions", posttaxDeductions);
+            buffer.addLineItem("Post-tax Deductions", posttaxDeductions);
         }
 
         double netAnnual = grossAnnual - pretaxDeductions - federalTax - stateTax
                 - socialSecurity - medicare - posttaxDeductions;
-        result.setNetAnnual(netAnnual);
+        buffer.setNetAnnual(netAnnual);
+        buffer.setTotalTax(federalTax + stateTax + socialSecurity + medicare);
+    }
+
+    @Override
+    public void calculateFixedPoint(CalculationInput input, RulePack rules, CalculationBuffer buffer) {
+        buffer.reset(input.getDetail(), Arithmetic.FIXED_POINT);
+        buffer.setCurrency(Country.US.getCurrency());
+        buffer.setRulePackVersion(rules.getMetadata().getVersion());
+
+        long grossAnnual = FixedPoint.toMinor(input.getAnnualGross());
+        buffer.setGrossAnnual(FixedPoint.toMajor(grossAnnual));
 
-        return result;
+        long pretaxDeductions = deductionCalculator.calculatePretaxDeductionsMinor(
+                input.getPretax(), grossAnnual, ROUNDING);
+        buffer.set(Slot.PRETAX_DEDUCTIONS, FixedPoint.toMajor(pretaxDeductions));
+        buffer.addLineItem("Pre-tax Deductions", FixedPoint.toMajor(pretaxDeductions));
+
+        long taxableIncome = grossAnnual - pretaxDeductions;
+        buffer.set(Slot.TAXABLE_INCOME, FixedPoint.toMajor(taxableIncome));
+
+        long federalTax = calculateFederalTaxMinor(input, taxableIncome, rules);
+        buffer.set(Slot.FEDERAL_INCOME_TAX, FixedPoint.toMajor(federalTax));
+        buffer.addLineItem("Federal Income Tax", FixedPoint.toMajor(federalTax));
+        buffer.addExplanation("fed_tax_brackets",
+                "Applied 2025 federal tax brackets based on %s",
+                input.getUsOptions().getFilingStatus());
+
+        long stateTax = calculateStateTaxMinor(input, taxableIncome, rules, buffer);
+        if (stateTax > 0) {
+            buffer.addLineItem("State Income Tax", FixedPoint.toMajor(stateTax));
+            buffer.addExplanation("state_tax",
+                    "Applied %s state tax rates", input.getUsOptions().getState());
+        }
+
+        RulePack.Fica fica = rules.getFica();
+        long ssWageBase = FixedPoint.toMinor(fica.getSsWageBase());
+        long socialSecurity = FixedPoint.applyRate(Math.min(grossAnnual, ssWageBase),
+                FixedPoint.toRate(fica.getSsRate()), ROUNDING);
+        buffer.set(Slot.SOCIAL_SECURITY, FixedPoint.toMajor(socialSecurity));
+        buffer.addLineItem("FICA (Social Security)", FixedPoint.toMajor(socialSecurity));
+
+        long additionalMedicareThreshold = FixedPoint.toMinor(fica.getAdditionalMedicareThreshold());
+        long scaledMedicare = FixedPoint.scaled(grossAnnual, FixedPoint.toRate(fica.getMedicareRate()));
+        if (grossAnnual > additionalMedicareThreshold) {
+            scaledMedicare = Math.addExact(scaledMedicare, FixedPoint.scaled(
+                    grossAnnual - additionalMedicareThreshold, FixedPoint.toRate(fica.getAdditionalRate())));
+            buffer.addExplanation("additional_medicare",
+                    "Additional Medicare tax applied for income over $%.0f",
+                    fica.getAdditionalMedicareThreshold().doubleValue());
+        }
+        long medicare = FixedPoint.unscale(scaledMedicare, ROUNDING);
+        buffer.set(Slot.MEDICARE, FixedPoint.toMajor(medicare));
+        buffer.addLineItem("Medicare", FixedPoint.toMajor(medicare));
+
+        long posttaxDeductions = deductionCalculator.calculatePosttaxDeductionsMinor(input.getPosttax());
+        buffer.set(Slot.POSTTAX_DEDUCTIONS, FixedPoint.toMajor(posttaxDeductions));
+        if (posttaxDeductions > 0) {
+            buffer.addLineItem("Post-tax Deductions", FixedPoint.toMajor(posttaxDeductions));
+        }
+
+        long netAnnual = grossAnnual - pretaxDeductions - federalTax - stateTax
+                - socialSecurity - medicare - posttaxDeductions;
+        buffer.setNetAnnual(FixedPoint.toMajor(netAnnual));
+        buffer.setTotalTax(FixedPoint.toMajor(federalTax + stateTax + socialSecurity + medicare));
+    }
+
+    @Override
+    public Set<String> getJurisdictions(RulePack rules) {
+        return rules.getStates().keySet();
+    }
+
+    /** State and local income tax in {@code state}; federal tax and FICA do not depend on it. */
+    @Override
+    public void calculateJurisdiction(CalculationInput input, RulePack rules, CalculationBuffer base,
+                                      String state, CalculationBuffer out) {
+        if (!rules.getStates().containsKey(state)) {
+            throw new IllegalArgumentException("No state rules for " + state);
+        }
+        out.reset(DetailLevel.NET_ONLY);
+        out.setCurrency(base.getCurrency());
+        out.setRulePackVersion(base.getRulePackVersion());
+        out.setGrossAnnual(base.getGrossAnnual());
+
+        double stateTax = calculateStateTax(state, base.get(Slot.TAXABLE_INCOME), rules, out);
+        // Same terms in the same order as calculate, so each state matches a full calculation exactly
+        double federalTax = base.get(Slot.FEDERAL_INCOME_TAX);
+        double socialSecurity = base.get(Slot.SOCIAL_SECURITY);
+        double medicare = base.get(Slot.MEDICARE);
+        out.setNetAnnual(base.getGrossAnnual() - base.get(Slot.PRETAX_DEDUCTIONS) - federalTax - stateTax
+                - socialSecurity - medicare - base.get(Slot.POSTTAX_DEDUCTIONS));
+        out.setTotalTax(federalTax + stateTax + socialSecurity + medicare);
+    }
+
+    @Override
+    public List<CalculationInput> warmupProfiles(CalculationInput base, RulePack rules) {
+        List<CalculationInput> profiles = new ArrayList<>();
+        for (String state : rules.getStates().keySet()) {
+            for (FilingStatus filingStatus : FilingStatus.values()) {
+                CountryOptionsUS options = new CountryOptionsUS();
+                options.setState(state);
+                options.setFilingStatus(filingStatus);
+                CalculationInput profile = base.withAnnualGross(0.0);
+                profile.setUsOptions(options);
+                profiles.add(profile);
+            }
+        }
+        return profiles;
+    }
+
+    @Override
+    public double[] netPayBreakpoints(CalculationInput profile, RulePack rules) {
+        // Pre-tax deductions are affine in gross: taxable = gross * (1 - rate) - fixed
+        double fixed = deductionCalculator.calculatePretaxDeductions(profile.getPretax(), 0.0);
+        double rate = deductionCalculator.calculatePretaxDeductions(profile.getPretax(), 1.0) - fixed;
+
+        DoubleStream.Builder taxable = DoubleStream.builder();
+        String filingStatus = profile.getUsOptions().getFilingStatus().name();
+        double standardDeduction = rules.getFederal().getStandardDeductions().get(filingStatus);
+        taxable.add(standardDeduction);
+        for (RulePack.TaxBracket bracket : rules.getFederal().getBrackets()) {
+            if (bracket.getUpTo() != null) {
+                taxable.add(standardDeduction + bracket.getUpTo());
+            }
+        }
+
+        RulePack.StateRules stateRules = rules.getStates().get(profile.getUsOptions().getState());
+        if (stateRules != null && stateRules.getBrackets() != null) {
+            for (RulePack.TaxBracket bracket : stateRules.getBrackets()) {
+                if (bracket.getUpTo() != null) {
+                    taxable.add(bracket.getUpTo());
+                }
+            }
+        }
+
+        DoubleStream.Builder gross = DoubleStream.builder();
+        if (rate != 1.0) {
+            taxable.build().forEach(t -> gross.add((t + fixed) / (1 - rate)));
+        }
+        gross.add(rules.getFica().getSsWageBase());
+        gross.add(rules.getFica().getAdditionalMedicareThreshold());
+        return gross.build().toArray();
     }
 
     private double calculateFederalTax(CalculationInput input, double taxableIncome, RulePack rules) {
         String filingStatus = input.getUsOptions().getFilingStatus().name();
         double standardDeduction = rules.getFederal().getStandardDeductions().get(filingStatus);
         double adjustedIncome = Math.max(0, taxableIncome - standardDeduction);
+        CompiledRulePack compiled = rules.getCompiled();
+        if (compiled != null) {
+            return bracketCalculator.calculateTax(adjustedIncome, compiled.getFederalBrackets());
+        }
         return bracketCalculator.calculateTax(adjustedIncome, rules.getFederal().getBrackets());
     }
 
-    private double calculateStateTax(CalculationInput input, double taxableIncome, RulePack rules) {
-        String state = input.getUsOptions().getState();
+    private long calculateFederalTaxMinor(CalculationInput input, long taxableIncome, RulePack rules) {
+        String filingStatus = input.getUsOptions().getFilingStatus().name();
+        long standardDeduction = FixedPoint.toMinor(rules.getFederal().getStandardDeductions().get(filingStatus));
+        long adjustedIncome = Math.max(0, taxableIncome - standardDeduction);
+        CompiledRulePack compiled = rules.getCompiled();
+        CompiledRulePack.BracketTable brackets = compiled != null
+                ? compiled.getFederalBrackets()
+                : CompiledRulePack.BracketTable.of(rules.getFederal().getBrackets());
+        return bracketCalculator.calculateTaxMinor(adjustedIncome, brackets, ROUNDING);
+    }
+
+    /**
+     * State income tax in {@code state}, including any local income tax, which is also recorded
+     * on its own in {@link Slot#LOCAL_INCOME_TAX}.
+     */
+    private double calculateStateTax(String state, double taxableIncome, RulePack rules, CalculationBuffer buffer) {
         RulePack.StateRules stateRules = rules.getStates().get(state);
 
         if (stateRules == null) {
@@ -94,10 +287,42 @@ public class USCalculator implements CountryCalculator {
             return 0.0;
         }
 
-        double stateTax = bracketCalculator.calculateTax(taxableIncome, stateRules.getBrackets());
+        CompiledRulePack compiled = rules.getCompiled();
+        double stateTax = compiled != null
+                ? bracketCalculator.calculateTax(taxableIncome, compiled.getStateBrackets(state))
+                : bracketCalculator.calculateTax(taxableIncome, stateRules.getBrackets());
+        double localTax = 0.0;
+        if (stateRules.getLocal() != null && stateRules.getLocal() > 0) {
+            localTax = taxableIncome * stateRules.getLocal();
+            stateTax += localTax;
+        }
+        buffer.set(Slot.STATE_INCOME_TAX, stateTax);
+        buffer.set(Slot.LOCAL_INCOME_TAX, localTax);
+        return stateTax;
+    }
+
+    private long calculateStateTaxMinor(CalculationInput input, long taxableIncome, RulePack rules,
+                                        CalculationBuffer buffer) {
+        String state = input.getUsOptions().getState();
+        RulePack.StateRules stateRules = rules.getStates().get(state);
+
+        if (stateRules == null) {
+            log.warn("No state rules found for: {}", state);
+            return 0L;
+        }
+
+        CompiledRulePack compiled = rules.getCompiled();
+        CompiledRulePack.BracketTable brackets = compiled != null
+                ? compiled.getStateBrackets(state)
+                : CompiledRulePack.BracketTable.of(stateRules.getBrackets());
+        long stateTax = bracketCalculator.calculateTaxMinor(taxableIncome, brackets, ROUNDING);
+        long localTax = 0L;
         if (stateRules.getLocal() != null && stateRules.getLocal() > 0) {
-            stateTax += taxableIncome * stateRules.getLocal();
+            localTax = FixedPoint.applyRate(taxableIncome, FixedPoint.toRate(stateRules.getLocal()), ROUNDING);
+            stateTax += localTax;
         }
+        buffer.set(Slot.STATE_INCOME_TAX, FixedPoint.toMajor(stateTax));
+        buffer.set(Slot.LOCAL_INCOME_TAX, FixedPoint.toMajor(localTax));
         return stateTax;
     }
 
@@ -0,0 +1,266 @@
+package app.salary.calculator.engine;
+
+import app.salary.common.constants.Arithmetic;
+import app.salary.common.constants.DetailLevel;
+import app.salary.common.dto.Explanation;
+import app.salary.common.dto.LineItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reusable, caller-owned output of one calculation, held in primitive arrays so that writing a
+ * result allocates nothing once the arrays have grown to fit.
+ * <p>
+ * A calculator fills in the annual totals, one slot per {@link Slot}, the per-bracket detail
+ * of its main progressive schedule, and the line items and explanations that the detail level
+ * asks for. Line item names and explanation formats are stored by reference and explanation
+ * arguments as primitives; {@link LineItem} and {@link Explanation} objects are only built when
+ * the caller materializes them for a response.
+ * <p>
+ * Not thread-safe: use one buffer per thread, e.g. one per batch chunk, and call
+ * {@link #reset} (calculators do) before each calculation.
+ */
+public final class CalculationBuffer {
+
+    /** Fixed slot for each tax, deduction and intermediate amount, in annual currency units. */
+    public enum Slot {
+        PRETAX_DEDUCTIONS,
+        FEDERAL_INCOME_TAX,
+        STATE_INCOME_TAX,
+        LOCAL_INCOME_TAX,
+        SOCIAL_SECURITY,
+        MEDICARE,
+        PENSION,
+        PERSONAL_ALLOWANCE,
+        TAXABLE_INCOME,
+        INCOME_TAX,
+        NI_MAIN_RATE,
+        NI_UPPER_RATE,
+        NATIONAL_INSURANCE,
+        STUDENT_LOAN,
+        POSTTAX_DEDUCTIONS
+    }
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_EXPLANATION_NUMBERS = 3;
+    private static final int TEXT = -2;
+    private static final int OBJECT_ARG = -1;
+
+    private DetailLevel detail = DetailLevel.FULL;
+    private Arithmetic arithmetic = Arithmetic.DOUBLE;
+    private String currency;
+    private String rulePackVersion;
+    private double grossAnnual;
+    private double netAnnual;
+    private double totalTax;
+    private final double[] components = new double[Slot.values().length];
+
+    private int bracketCount;
+    private double[] bracketIncome = new double[INITIAL_CAPACITY];
+    private double[] bracketRate = new double[INITIAL_CAPACITY];
+    private double[] bracketTax = new double[INITIAL_CAPACITY];
+
+    private int lineItemCount;
+    private String[] lineItemNames = new String[INITIAL_CAPACITY];
+    private double[] lineItemAmounts = new double[INITIAL_CAPACITY];
+
+    // An explanation is verbatim text, or a format with one object argument or up to three numbers
+    private int explanationCount;
+    private String[] explanationIds = new String[INITIAL_CAPACITY];
+    private String[] explanationFormats = new String[INITIAL_CAPACITY];
+    private Object[] explanationObjects = new Object[INITIAL_CAPACITY];
+    private int[] explanationArity = new int[INITIAL_CAPACITY];
+    private double[] explanationNumbers = new double[INITIAL_CAPACITY * MAX_EXPLANATION_NUMBERS];
+
+    /** Clears the previous calculation and records line items and explanations per {@code detail}. */
+    public void reset(DetailLevel detail) {
+        reset(detail, Arithmetic.DOUBLE);
+    }
+
+    /** As {@link #reset(DetailLevel)}, for a calculation carried out in {@code arithmetic}. */
+    public void reset(DetailLevel detail, Arithmetic arithmetic) {
+        this.detail = detail != null ? detail : DetailLevel.FULL;
+        this.arithmetic = arithmetic;
+        currency = null;
+        rulePackVersion = null;
+        grossAnnual = 0.0;
+        netAnnual = 0.0;
+        totalTax = 0.0;
+        Arrays.fill(components, 0.0);
+        Arrays.fill(bracketIncome, 0, bracketCount, 0.0);
+        Arrays.fill(bracketRate, 0, bracketCount, 0.0);
+        Arrays.fill(bracketTax, 0, bracketCount, 0.0);
+        bracketCount = 0;
+        // Drop references so a pooled buffer does not pin the last request's strings
+        Arrays.fill(lineItemNames, 0, lineItemCount, null);
+        lineItemCount = 0;
+        Arrays.fill(explanationObjects, 0, explanationCount, null);
+        explanationCount = 0;
+    }
+
+    public DetailLevel getDetail() { return detail; }
+    public Arithmetic getArithmetic() { return arithmetic; }
+    public boolean includesLineItems() { return detail.includesLineItems(); }
+    public boolean includesExplanations() { return detail.includesExplanations(); }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+    public String getRulePackVersion() { return rulePackVersion; }
+    public void setRulePackVersion(String rulePackVersion) { this.rulePackVersion = rulePackVersion; }
+    public double getGrossAnnual() { return grossAnnual; }
+    public void setGrossAnnual(double grossAnnual) { this.grossAnnual = grossAnnual; }
+    public double getNetAnnual() { return netAnnual; }
+    public void setNetAnnual(double netAnnual) { this.netAnnual = netAnnual; }
+    public double getTotalTax() { return totalTax; }
+    public void setTotalTax(double totalTax) { this.totalTax = totalTax; }
+
+    public double get(Slot slot) { return components[slot.ordinal()]; }
+    public void set(Slot slot, double amount) { components[slot.ordinal()] = amount; }
+
+    /** Records the income and tax falling in bracket {@code index} of the main schedule. */
+    public void setBracket(int index, double income, double rate, double tax) {
+        if (index >= bracketIncome.length) {
+            int capacity = Math.max(index + 1, bracketIncome.length * 2);
+            bracketIncome = Arrays.copyOf(bracketIncome, capacity);
+            bracketRate = Arrays.copyOf(bracketRate, capacity);
+            bracketTax = Arrays.copyOf(bracketTax, capacity);
+        }
+        bracketIncome[index] = income;
+        bracketRate[index] = rate;
+        bracketTax[index] = tax;
+        bracketCount = Math.max(bracketCount, index + 1);
+    }
+
+    /** One past the highest bracket recorded; brackets below it with no income were skipped. */
+    public int getBracketCount() { return bracketCount; }
+    public double getBracketIncome(int index) { return index < bracketCount ? bracketIncome[index] : 0.0; }
+    public double getBracketRate(int index) { return index < bracketCount ? bracketRate[index] : 0.0; }
+    public double getBracketTax(int index) { return index < bracketCount ? bracketTax[index] : 0.0; }
+
+    public void addLineItem(String name, double amount) {
+        if (!detail.includesLineItems()) {
+            return;
+        }
+        if (lineItemCount == lineItemNames.length) {
+            lineItemNames = Arrays.copyOf(lineItemNames, lineItemCount * 2);
+            lineItemAmounts = Arrays.copyOf(lineItemAmounts, lineItemCount * 2);
+        }
+        lineItemNames[lineItemCount] = name;
+        lineItemAmounts[lineItemCount] = amount;
+        lineItemCount++;
+    }
+
+    public int getLineItemCount() { return lineItemCount; }
+    public String getLineItemName(int index) { return lineItemNames[index]; }
+    public double getLineItemAmount(int index) { return lineItemAmounts[index]; }
+
+    /** Adds an explanation whose text is {@code text} verbatim. */
+    public void addExplanation(String id, String text) {
+        addExplanation(id, null, text, TEXT, 0.0, 0.0, 0.0);
+    }
+
+    public void addExplanation(String id, String format, Object arg) {
+        addExplanation(id, format, arg, OBJECT_ARG, 0.0, 0.0, 0.0);
+    }
+
+    public void addExplanation(String id, String format, double arg) {
+        addExplanation(id, format, null, 1, arg, 0.0, 0.0);
+    }
+
+    public void addExplanation(String id, String format, double arg0, double arg1) {
+        addExplanation(id, format, null, 2, arg0, arg1, 0.0);
+    }
+
+    public void addExplanation(String id, String format, double arg0, double arg1, double arg2) {
+        addExplanation(id, format, null, 3, arg0, arg1, arg2);
+    }
+
+    private void addExplanation(String id, String format, Object object, int arity,
+                                double arg0, double arg1, double arg2) {
+        if (!detail.includesExplanations()) {
+            return;
+        }
+        if (explanationCount == explanationIds.length) {
+            int capacity = explanationCount * 2;
+            explanationIds = Arrays.copyOf(explanationIds, capacity);
+            explanationFormats = Arrays.copyOf(explanationFormats, capacity);
+            explanationObjects = Arrays.copyOf(explanationObjects, capacity);
+            explanationArity = Arrays.copyOf(explanationArity, capacity);
+            explanationNumbers = Arrays.copyOf(explanationNumbers, capacity * MAX_EXPLANATION_NUMBERS);
+        }
+        int i = explanationCount++;
+        explanationIds[i] = id;
+        explanationFormats[i] = format;
+        explanationObjects[i] = object;
+        explanationArity[i] = arity;
+        explanationNumbers[i * MAX_EXPLANATION_NUMBERS] = arg0;
+        explanationNumbers[i * MAX_EXPLANATION_NUMBERS + 1] = arg1;
+        explanationNumbers[i * MAX_EXPLANATION_NUMBERS + 2] = arg2;
+    }
+
+    public int getExplanationCount() { return explanationCount; }
+
+    /** Materializes explanation {@code index}; its text is rendered only when first read. */
+    public Explanation toExplanation(int index) {
+        String id = explanationIds[index];
+        String format = explanationFormats[index];
+        Object object = explanationObjects[index];
+        int arity = explanationArity[index];
+        if (arity == TEXT) {
+            return new Explanation(id, (String) object);
+        }
+        if (arity == OBJECT_ARG) {
+            return Explanation.deferred(id, format, object);
+        }
+        int base = index * MAX_EXPLANATION_NUMBERS;
+        Object[] args = new Object[arity];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = explanationNumbers[base + i];
+        }
+        return Explanation.deferred(id, format, args);
+    }
+
+    /** Snapshots this buffer as an immutable {@link CalculationResult}; the buffer stays reusable. */
+    public CalculationResult toResult() {
+        String[] names = null;
+        double[] amounts = null;
+        if (detail.includesLineItems()) {
+            names = Arrays.copyOf(lineItemNames, lineItemCount);
+            amounts = Arrays.copyOf(lineItemAmounts, lineItemCount);
+        }
+        List<Explanation> explanations = null;
+        if (detail.includesExplanations()) {
+            explanations = new ArrayList<>(explanationCount);
+            for (int i = 0; i < explanationCount; i++) {
+                explanations.add(toExplanation(i));
+            }
+        }
+        return new CalculationResult(currency, rulePackVersion, arithmetic, grossAnnual, netAnnual, totalTax,
+                names, amounts, explanations);
+    }
+
+    /**
+     * Copies a result produced by {@link CountryCalculator#calculate} into this buffer, for
+     * calculators without a buffer-based core.
+     */
+    void load(CalculationResult result, DetailLevel detail) {
+        reset(detail, result.getArithmetic());
+        currency = result.getCurrency();
+        rulePackVersion = result.getRulePackVersion();
+        grossAnnual = result.getGrossAnnual();
+        netAnnual = result.getNetAnnual();
+        totalTax = result.getTotalTax();
+        if (result.getLineItems() != null) {
+            for (LineItem item : result.getLineItems()) {
+                addLineItem(item.getName(), item.getAmount());
+            }
+        }
+        if (result.getExplanations() != null) {
+            for (Explanation explanation : result.getExplanations()) {
+                addExplanation(explanation.getId(), explanation.getText());
+            }
+        }
+    }
+}
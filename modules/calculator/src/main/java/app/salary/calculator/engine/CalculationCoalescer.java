@@ -0,0 +1,121 @@
+package app.salary.calculator.engine;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of identical concurrent calculations: while one caller computes the
+ * result for a {@link CalculationKey}, later callers with the same key wait for it instead of
+ * running the calculator again. Entries live only as long as their calculation, so nothing is
+ * retained between bursts.
+ * <p>
+ * At most {@code maxInFlight} keys are tracked; beyond that, callers calculate on their own.
+ * Joined calls, their wait time, bypassed calls and the number of keys in flight are exposed as
+ * metrics.
+ */
+public class CalculationCoalescer implements MeterBinder {
+    public static final String COALESCED = "salary.calculation.coalesced";
+    public static final String COALESCED_WAIT = "salary.calculation.coalesced.wait";
+    public static final String BYPASSED = "salary.calculation.coalesced.bypassed";
+    public static final String IN_FLIGHT = "salary.calculation.inflight";
+
+    private final int maxInFlight;
+    private final Map<CalculationKey, CompletableFuture<CalculationResult>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+
+    public CalculationCoalescer(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1");
+        }
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Returns the result of {@code calculation} for {@code input} under {@code rulePackVersion},
+     * sharing it with every concurrent caller for the same key. A failed calculation fails all of
+     * them with the same exception.
+     */
+    public CalculationResult calculate(CalculationInput input, String rulePackVersion,
+                                       Supplier<CalculationResult> calculation) {
+        // The size check is approximate under contention, which only loosens the bound slightly
+        if (inFlight.size() >= maxInFlight) {
+            bypassed.increment();
+            return calculation.get();
+        }
+
+        CalculationKey key = CalculationKey.of(input, rulePackVersion);
+        CompletableFuture<CalculationResult> own = new CompletableFuture<>();
+        CompletableFuture<CalculationResult> leader = inFlight.putIfAbsent(key, own);
+        if (leader != null) {
+            return await(leader);
+        }
+
+        try {
+            CalculationResult result = calculation.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(COALESCED, coalesced, LongAdder::sum)
+                .description("Calculations that joined an identical in-flight calculation")
+                .register(registry);
+        FunctionTimer.builder(COALESCED_WAIT, this, c -> c.coalesced.sum(), c -> c.waitNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("Time coalesced calculations waited for the shared result")
+                .register(registry);
+        FunctionCounter.builder(BYPASSED, bypassed, LongAdder::sum)
+                .description("Calculations run alone because too many were already in flight")
+                .register(registry);
+        Gauge.builder(IN_FLIGHT, inFlight, Map::size)
+                .description("Distinct calculations currently in flight")
+                .register(registry);
+    }
+
+    private CalculationResult await(CompletableFuture<CalculationResult> leader) {
+        long start = System.nanoTime();
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            // Surface the leader's own exception so callers handle it as if they had calculated
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        } finally {
+            coalesced.increment();
+            waitNanos.add(System.nanoTime() - start);
+        }
+    }
+}
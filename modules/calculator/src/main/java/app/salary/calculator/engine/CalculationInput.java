@@ -1,6 +1,8 @@
 package app.salary.calculator.engine;
 
+import app.salary.common.constants.Arithmetic;
 import app.salary.common.constants.Country;
+import app.salary.common.constants.DetailLevel;
 import app.salary.common.constants.PayCadence;
 import app.salary.common.dto.*;
 
@@ -13,12 +15,26 @@ public class CalculationInput {
     private Posttax posttax;
     private CountryOptionsUS usOptions;
     private CountryOptionsUK ukOptions;
+    private DetailLevel detail = DetailLevel.FULL;
+    private Arithmetic arithmetic = Arithmetic.DOUBLE;
 
     public static CalculationInput from(CalculateRequest request) {
+        CalculationInput input = from((CalculationProfileRequest) request);
+        input.annualGross = request.getAnnualSalary();
+        if (request.getDetail() != null) {
+            input.detail = request.getDetail();
+        }
+        if (request.getArithmetic() != null) {
+            input.arithmetic = request.getArithmetic();
+        }
+        return input;
+    }
+
+    /** Profile for salary-independent paths (inverse solve, curves); the annual gross is left unset. */
+    public static CalculationInput from(CalculationProfileRequest request) {
         CalculationInput input = new CalculationInput();
         input.country = request.getCountry();
         input.taxYear = request.getTaxYear();
-        input.annualGross = request.getAnnualSalary();
         input.payCadence = request.getCadence();
         input.pretax = request.getPretax() != null ? request.getPretax() : new Pretax();
         input.posttax = request.getPosttax() != null ? request.getPosttax() : new Posttax();
@@ -31,6 +47,58 @@ public class CalculationInput {
         return input;
     }
 
+    /** Net-only US input for {@code request} as calculated in {@code state}. */
+    public static CalculationInput from(StateComparisonRequest request, String state) {
+        CalculationInput input = new CalculationInput();
+        input.country = Country.US;
+        input.taxYear = request.getTaxYear();
+        input.annualGross = request.getAnnualSalary();
+        input.payCadence = request.getCadence();
+        input.pretax = request.getPretax() != null ? request.getPretax() : new Pretax();
+        input.posttax = request.getPosttax() != null ? request.getPosttax() : new Posttax();
+        input.detail = DetailLevel.NET_ONLY;
+
+        CountryOptionsUS usOptions = new CountryOptionsUS();
+        usOptions.setState(state);
+        usOptions.setFilingStatus(request.getFilingStatus());
+        input.usOptions = usOptions;
+        return input;
+    }
+
+    /** Net-only input for {@code country}'s part of {@code request}, at {@code annualGross} in its currency. */
+    public static CalculationInput from(CountryComparisonRequest request, Country country, double annualGross) {
+        CalculationInput input = new CalculationInput();
+        input.country = country;
+        input.taxYear = request.getTaxYear();
+        input.annualGross = annualGross;
+        input.payCadence = request.getCadence();
+        input.pretax = new Pretax();
+        input.posttax = new Posttax();
+        input.detail = DetailLevel.NET_ONLY;
+
+        if (request.getCountryOptions() != null) {
+            input.usOptions = request.getCountryOptions().getUs();
+            input.ukOptions = request.getCountryOptions().getUk();
+        }
+        return input;
+    }
+
+    /** Shallow copy of this input with a different annual gross. */
+    public CalculationInput withAnnualGross(double annualGross) {
+        CalculationInput copy = new CalculationInput();
+        copy.country = country;
+        copy.taxYear = taxYear;
+        copy.annualGross = annualGross;
+        copy.payCadence = payCadence;
+        copy.pretax = pretax;
+        copy.posttax = posttax;
+        copy.usOptions = usOptions;
+        copy.ukOptions = ukOptions;
+        copy.detail = detail;
+        copy.arithmetic = arithmetic;
+        return copy;
+    }
+
     public Country getCountry() { return country; }
     public void setCountry(Country country) { this.country = country; }
     public Integer getTaxYear() { return taxYear; }
@@ -47,4 +115,8 @@ public class CalculationInput {
     public void setUsOptions(CountryOptionsUS usOptions) { this.usOptions = usOptions; }
     public CountryOptionsUK getUkOptions() { return ukOptions; }
     public void setUkOptions(CountryOptionsUK ukOptions) { this.ukOptions = ukOptions; }
+    public DetailLevel getDetail() { return detail; }
+    public void setDetail(DetailLevel detail) { this.detail = detail; }
+    public Arithmetic getArithmetic() { return arithmetic; }
+    public void setArithmetic(Arithmetic arithmetic) { this.arithmetic = arithmetic; }
 }
@@ -0,0 +1,20 @@
+package app.salary.calculator.engine;
+
+import app.salary.common.constants.Arithmetic;
+import app.salary.common.constants.DetailLevel;
+
+/**
+ * Normalized identity of a calculation: inputs with equal keys produce the same
+ * {@link CalculationResult}. The pay cadence is not part of it, since results are annual.
+ */
+record CalculationKey(CalculationProfile profile, String taxCode, double annualGross,
+                      DetailLevel detail, Arithmetic arithmetic, String rulePackVersion) {
+
+    static CalculationKey of(CalculationInput input, String rulePackVersion) {
+        // The UK tax code only appears in explanations, but those are part of the result
+        String taxCode = input.getUkOptions() != null ? input.getUkOptions().getTaxCode() : null;
+        // + 0.0 folds -0.0 into 0.0, which record equality would otherwise keep apart
+        return new CalculationKey(CalculationProfile.of(input), taxCode, input.getAnnualGross() + 0.0,
+                input.getDetail(), input.getArithmetic(), rulePackVersion);
+    }
+}
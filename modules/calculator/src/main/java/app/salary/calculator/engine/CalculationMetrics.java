@@ -0,0 +1,69 @@
+package app.salary.calculator.engine;
+
+import app.salary.common.constants.Country;
+import app.salary.rules.RulesRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-stage timers and error counters for the calculation pipeline, tagged by country, tax year
+ * and outcome. Stages are timed from a {@link System#nanoTime()} start so the happy path costs
+ * one map lookup per stage.
+ * <p>
+ * Tax years come from requests, so they are tagged through {@link RulesRegistry#taxYearTag}: a
+ * year without a published pack is tagged {@value RulesRegistry#OTHER_TAX_YEAR} rather than
+ * adding meters for every year a client sends.
+ */
+public class CalculationMetrics {
+    public static final String DISPATCH = "salary.calculation.dispatch";
+    public static final String CALCULATE = "salary.calculation.calculate";
+    public static final String CADENCE_CONVERSION = "salary.calculation.cadence";
+    public static final String ERRORS = "salary.calculation.errors";
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+
+    private final MeterRegistry registry;
+    private final RulesRegistry rulesRegistry;
+    private final Map<StageKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<ErrorKey, Counter> errors = new ConcurrentHashMap<>();
+
+    public CalculationMetrics(MeterRegistry registry, RulesRegistry rulesRegistry) {
+        this.registry = registry;
+        this.rulesRegistry = rulesRegistry;
+    }
+
+    public void record(String stage, long startNanos, Country country, Integer taxYear, String outcome) {
+        timers.computeIfAbsent(new StageKey(stage, country, taxYearTag(taxYear), outcome),
+                        key -> Timer.builder(key.stage())
+                                .tags("country", String.valueOf(key.country()), "tax_year", key.taxYear(),
+                                        "outcome", key.outcome())
+                                .register(registry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void error(Throwable error, Country country, Integer taxYear) {
+        errors.computeIfAbsent(new ErrorKey(error.getClass(), country, taxYearTag(taxYear)),
+                        key -> Counter.builder(ERRORS)
+                                .description("Calculation failures by exception type")
+                                .tags("type", key.type().getSimpleName(), "country", String.valueOf(key.country()),
+                                        "tax_year", key.taxYear())
+                                .register(registry))
+                .increment();
+    }
+
+    private String taxYearTag(Integer taxYear) {
+        return taxYear != null ? rulesRegistry.taxYearTag(taxYear) : RulesRegistry.OTHER_TAX_YEAR;
+    }
+
+    private record StageKey(String stage, Country country, String taxYear, String outcome) {
+    }
+
+    private record ErrorKey(Class<?> type, Country country, String taxYear) {
+    }
+}
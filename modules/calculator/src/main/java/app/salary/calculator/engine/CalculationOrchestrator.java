@@ -1,72 +1,768 @@
 package app.salary.calculator.engine;
 
+import app.salary.calculator.jfr.BatchGroupEvent;
+import app.salary.calculator.jfr.CalculationEvent;
 import app.salary.calculator.registry.CalculatorRegistry;
+import app.salary.common.constants.Arithmetic;
+import app.salary.common.constants.Country;
+import app.salary.common.constants.DetailLevel;
+import app.salary.common.constants.FilingStatus;
+import app.salary.common.constants.PayCadence;
+import app.salary.common.dto.BatchItemResult;
+import app.salary.common.dto.CadenceBreakdown;
 import app.salary.common.dto.CalculateRequest;
 import app.salary.common.dto.CalculateResponse;
+import app.salary.common.dto.CountryComparison;
+import app.salary.common.dto.CountryComparisonRequest;
+import app.salary.common.dto.CountryComparisonResponse;
+import app.salary.common.dto.CountryOptions;
+import app.salary.common.dto.CountryOptionsUS;
+import app.salary.common.dto.CurveRequest;
+import app.salary.common.dto.CurveResponse;
+import app.salary.common.dto.Explanation;
+import app.salary.common.dto.InverseCalculateRequest;
+import app.salary.common.dto.InverseCalculateResponse;
+import app.salary.common.dto.LineItem;
+import app.salary.common.dto.ProjectedYear;
+import app.salary.common.dto.ProjectionRequest;
+import app.salary.common.dto.ProjectionResponse;
+import app.salary.common.dto.StateComparison;
+import app.salary.common.dto.StateComparisonRequest;
+import app.salary.common.dto.StateComparisonResponse;
+import app.salary.rules.FxRateRegistry;
+import app.salary.rules.FxRateTable;
 import app.salary.rules.RulePack;
+import app.salary.rules.RulePackProjector;
 import app.salary.rules.RulesRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class CalculationOrchestrator {
     private static final Logger log = LoggerFactory.getLogger(CalculationOrchestrator.class);
+    private static final HexFormat HEX = HexFormat.of();
+
+    // Large groups are split so a batch of one profile still spreads across cores
+    private static final int BATCH_CHUNK_SIZE = 512;
+    // A state layer is a bracket lookup, so only comparisons longer than this are fanned out
+    private static final int STATE_CHUNK_SIZE = 16;
 
     private final RulesRegistry rulesRegistry;
     private final CalculatorRegistry calculatorRegistry;
+    private final Executor batchExecutor;
+    private final CalculationResultCache resultCache;
+    private final CalculationCoalescer coalescer;
+    private final FxRateRegistry fxRates;
+    private final RulePackProjector projector;
+    private final CalculationMetrics metrics;
+    private final NetPayFunctionCache netPayFunctions = new NetPayFunctionCache();
 
+    /** Without a result cache or coalescing, running batches on the common pool. */
     public CalculationOrchestrator(RulesRegistry rulesRegistry,
                                    CalculatorRegistry calculatorRegistry) {
+        this(rulesRegistry, calculatorRegistry, ForkJoinPool.commonPool(), null, null,
+                new FxRateRegistry(Metrics.globalRegistry, null), new RulePackProjector(rulesRegistry),
+                Metrics.globalRegistry);
+    }
+
+    /**
+     * @param resultCache optional cache of complete responses; {@code null} calculates every
+     *                    request afresh
+     * @param coalescer   optional single-flight group for identical concurrent single calculations;
+     *                    only used without a result cache, which already calculates each key once
+     * @param fxRates     exchange rates for converting cross-country comparisons
+     * @param projector   rule packs for multi-year projections beyond the published tax years
+     */
+    public CalculationOrchestrator(RulesRegistry rulesRegistry,
+                                   CalculatorRegistry calculatorRegistry,
+                                   Executor batchExecutor,
+                                   CalculationResultCache resultCache,
+                                   CalculationCoalescer coalescer,
+                                   FxRateRegistry fxRates,
+                                   RulePackProjector projector,
+                                   MeterRegistry meterRegistry) {
         this.rulesRegistry = rulesRegistry;
         this.calculatorRegistry = calculatorRegistry;
+        this.batchExecutor = batchExecutor;
+        this.resultCache = resultCache;
+        this.coalescer = coalescer;
+        this.fxRates = fxRates;
+        this.projector = projector;
+        this.metrics = new CalculationMetrics(meterRegistry, rulesRegistry);
     }
 
     public CalculateResponse calculate(CalculateRequest request) {
-        String calculationId = "c_" + UUID.randomUUID().toString().substring(0, 8);
+        String calculationId = newCalculationId();
         log.info("Starting calculation {} for country {} tax year {}",
                 calculationId, request.getCountry(), request.getTaxYear());
 
-        // Load rule pack
-        RulePack rulePack = rulesRegistry.getRulePack(
-                request.getCountry().name(),
-                request.getTaxYear()
-        );
+        CalculateResponse response = evaluate(request, calculationId);
+
+        log.info("Completed calculation {} - Gross: {}, Net: {}",
+                calculationId, response.getGrossPerCadence(), response.getNetPerCadence());
+
+        return response;
+    }
+
+    /**
+     * Same as {@link #calculate(CalculateRequest)} without per-calculation logging, for bulk
+     * paths such as streaming that report progress per stream instead.
+     */
+    public CalculateResponse evaluate(CalculateRequest request) {
+        return evaluate(request, newCalculationId());
+    }
+
+    private CalculateResponse evaluate(CalculateRequest request, String calculationId) {
+        try {
+            // Load rule pack
+            RulePack rulePack = rulesRegistry.getRulePack(
+                    request.getCountry().name(),
+                    request.getTaxYear()
+            );
+
+            // Get calculator from registry
+            CountryCalculator calculator = dispatch(request.getCountry(), request.getTaxYear());
+
+            return calculate(request, rulePack, calculator, calculationId, new CalculationBuffer(), true);
+        } catch (RuntimeException e) {
+            metrics.error(e, request.getCountry(), request.getTaxYear());
+            throw e;
+        }
+    }
+
+    private CountryCalculator dispatch(Country country, int taxYear) {
+        long start = System.nanoTime();
+        String outcome = CalculationMetrics.ERROR;
+        try {
+            CountryCalculator calculator = calculatorRegistry.getCalculator(country, taxYear);
+            outcome = CalculationMetrics.SUCCESS;
+            return calculator;
+        } finally {
+            metrics.record(CalculationMetrics.DISPATCH, start, country, taxYear, outcome);
+        }
+    }
+
+    /**
+     * Closed-form net pay for the profile described by {@code profile}, whose salary is ignored.
+     * The function is derived once per profile and rule pack version, then served from cache.
+     */
+    public NetPayFunction getNetPayFunction(CalculationInput profile) {
+        RulePack rulePack = rulesRegistry.getRulePack(profile.getCountry().name(), profile.getTaxYear());
+        CountryCalculator calculator = calculatorRegistry.getCalculator(profile.getCountry(), profile.getTaxYear());
+        return netPayFunctions.get(profile, rulePack, calculator);
+    }
+
+    /**
+     * Solves for the smallest gross salary whose net pay reaches the requested target, directly
+     * on the profile's {@link NetPayFunction}. Flat stretches resolve to their lowest gross.
+     */
+    public InverseCalculateResponse calculateGrossForNet(InverseCalculateRequest request) {
+        String calculationId = newCalculationId();
+        log.info("Starting inverse calculation {} for country {} tax year {}",
+                calculationId, request.getCountry(), request.getTaxYear());
+
+        CalculationInput profile = CalculationInput.from(request);
+        NetPayFunction function = getNetPayFunction(profile);
+
+        int periodsPerYear = request.getCadence().getPeriodsPerYear();
+        double grossAnnual = function.grossForNet(request.getTargetNet() * periodsPerYear);
+        if (Double.isNaN(grossAnnual)) {
+            throw new IllegalArgumentException(String.format(
+                    "Target net pay %.2f per %s cannot be reached for this profile",
+                    request.getTargetNet(), request.getCadence()));
+        }
+
+        InverseCalculateResponse response = new InverseCalculateResponse();
+        response.setCalculationId(calculationId);
+        response.setAnnualGross(grossAnnual);
+        response.setGrossPerCadence(grossAnnual / periodsPerYear);
+        response.setNetPerCadence(function.netAnnual(grossAnnual) / periodsPerYear);
+        response.setCurrency(function.getCurrency());
+        response.setRulePackVersion(function.getRulePackVersion());
+
+        log.info("Completed inverse calculation {} - Target net: {}, Gross: {}",
+                calculationId, request.getTargetNet(), response.getGrossPerCadence());
+
+        return response;
+    }
+
+    /**
+     * Evaluates net pay, total tax and effective/marginal rates at every gross salary of the
+     * request's sweep (or explicit points) against one {@link NetPayFunction}, so the whole curve
+     * costs one profile derivation plus a segment lookup per point.
+     */
+    public CurveResponse calculateCurve(CurveRequest request) {
+        double[] grossAnnual = curvePoints(request);
+        NetPayFunction function = getNetPayFunction(CalculationInput.from(request));
+
+        int n = grossAnnual.length;
+        double periodsPerYear = request.getCadence().getPeriodsPerYear();
+        double[] gross = new double[n];
+        double[] net = new double[n];
+        double[] totalTax = new double[n];
+        double[] effectiveRate = new double[n];
+        double[] marginalRate = new double[n];
+        for (int i = 0; i < n; i++) {
+            double g = grossAnnual[i];
+            gross[i] = g / periodsPerYear;
+            net[i] = function.netAnnual(g) / periodsPerYear;
+            totalTax[i] = function.totalTaxAnnual(g) / periodsPerYear;
+            effectiveRate[i] = function.effectiveTaxRate(g);
+            marginalRate[i] = function.marginalTaxRate(g);
+        }
+
+        CurveResponse response = new CurveResponse();
+        response.setCurrency(function.getCurrency());
+        response.setRulePackVersion(function.getRulePackVersion());
+        response.setCadence(request.getCadence());
+        response.setGross(gross);
+        response.setNet(net);
+        response.setTotalTax(totalTax);
+        response.setEffectiveRate(effectiveRate);
+        response.setMarginalRate(marginalRate);
+
+        log.info("Completed curve of {} point(s) for country {} tax year {}",
+                n, request.getCountry(), request.getTaxYear());
+        return response;
+    }
+
+    private static double[] curvePoints(CurveRequest request) {
+        double[] points = request.getPoints();
+        if (points != null && points.length > 0) {
+            for (double point : points) {
+                if (!(point >= 0) || Double.isInfinite(point)) {
+                    throw new IllegalArgumentException("Curve points must be finite non-negative salaries");
+                }
+            }
+            return points;
+        }
+
+        if (request.getMinGross() == null || request.getMaxGross() == null || request.getSteps() == null) {
+            throw new IllegalArgumentException("Either points or minGross, maxGross and steps are required");
+        }
+        double min = request.getMinGross();
+        double max = request.getMaxGross();
+        int steps = request.getSteps();
+        if (max < min) {
+            throw new IllegalArgumentException("maxGross must not be below minGross");
+        }
+
+        double[] sweep = new double[steps];
+        double step = (max - min) / (steps - 1);
+        for (int i = 0; i < steps; i++) {
+            sweep[i] = min + step * i;
+        }
+        sweep[steps - 1] = max;
+        return sweep;
+    }
+
+    /**
+     * Net pay for one US profile in each requested state, or in every state of the rule pack.
+     * Federal tax and FICA do not depend on the state, so the profile is calculated in full once
+     * and only the state and local layer is re-evaluated per state, in chunks on the batch
+     * executor when the list is long.
+     */
+    public StateComparisonResponse compareStates(StateComparisonRequest request) {
+        String calculationId = newCalculationId();
+        RulePack rulePack = rulesRegistry.getRulePack(Country.US.name(), request.getTaxYear());
+        CountryCalculator calculator = dispatch(Country.US, request.getTaxYear());
+        List<String> states = comparedStates(request, calculator.getJurisdictions(rulePack));
+
+        CalculationInput input = CalculationInput.from(request, states.get(0));
+        CalculationBuffer base = new CalculationBuffer();
+        calculate(input, rulePack, calculator, base);
+
+        PayCadence cadence = input.getPayCadence();
+        StateComparison[] comparisons = new StateComparison[states.size()];
+        if (states.size() <= STATE_CHUNK_SIZE) {
+            compareStates(input, rulePack, calculator, base, states, 0, states.size(), comparisons);
+        } else {
+            List<CompletableFuture<Void>> tasks = new ArrayList<>();
+            for (int from = 0; from < states.size(); from += STATE_CHUNK_SIZE) {
+                int start = from;
+                int end = Math.min(from + STATE_CHUNK_SIZE, states.size());
+                tasks.add(CompletableFuture.runAsync(
+                        () -> compareStates(input, rulePack, calculator, base, states, start, end, comparisons),
+                        batchExecutor));
+            }
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+        }
+
+        StateComparisonResponse response = new StateComparisonResponse();
+        response.setCalculationId(calculationId);
+        response.setCurrency(base.getCurrency());
+        response.setRulePackVersion(base.getRulePackVersion());
+        response.setCadence(cadence);
+        response.setGrossPerCadence(cadence.perPeriod(base.getGrossAnnual(), Arithmetic.DOUBLE));
+        response.setFederalIncomeTaxPerCadence(cadence.perPeriod(
+                base.get(CalculationBuffer.Slot.FEDERAL_INCOME_TAX), Arithmetic.DOUBLE));
+        response.setSocialSecurityPerCadence(cadence.perPeriod(
+                base.get(CalculationBuffer.Slot.SOCIAL_SECURITY), Arithmetic.DOUBLE));
+        response.setMedicarePerCadence(cadence.perPeriod(
+                base.get(CalculationBuffer.Slot.MEDICARE), Arithmetic.DOUBLE));
+        response.setStates(Arrays.asList(comparisons));
+
+        log.info("Completed state comparison {} across {} state(s) for tax year {}",
+                calculationId, states.size(), request.getTaxYear());
+        return response;
+    }
+
+    private static List<String> comparedStates(StateComparisonRequest request, Set<String> jurisdictions) {
+        if (request.getStates() == null || request.getStates().isEmpty()) {
+            if (jurisdictions.isEmpty()) {
+                throw new IllegalArgumentException("The rule pack defines no states to compare");
+            }
+            return jurisdictions.stream().sorted().toList();
+        }
+        Set<String> states = new LinkedHashSet<>(request.getStates());
+        List<String> unknown = states.stream().filter(state -> !jurisdictions.contains(state)).toList();
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown state(s): " + String.join(", ", unknown));
+        }
+        return List.copyOf(states);
+    }
+
+    private static void compareStates(CalculationInput input, RulePack rulePack, CountryCalculator calculator,
+                                      CalculationBuffer base, List<String> states, int from, int to,
+                                      StateComparison[] comparisons) {
+        PayCadence cadence = input.getPayCadence();
+        CalculationBuffer layer = new CalculationBuffer();
+        for (int i = from; i < to; i++) {
+            calculator.calculateJurisdiction(input, rulePack, base, states.get(i), layer);
+            StateComparison comparison = new StateComparison();
+            comparison.setState(states.get(i));
+            comparison.setStateIncomeTaxPerCadence(cadence.perPeriod(
+                    layer.get(CalculationBuffer.Slot.STATE_INCOME_TAX), Arithmetic.DOUBLE));
+            comparison.setLocalTaxPerCadence(cadence.perPeriod(
+                    layer.get(CalculationBuffer.Slot.LOCAL_INCOME_TAX), Arithmetic.DOUBLE));
+            comparison.setTotalTaxPerCadence(cadence.perPeriod(layer.getTotalTax(), Arithmetic.DOUBLE));
+            comparison.setNetPerCadence(cadence.perPeriod(layer.getNetAnnual(), Arithmetic.DOUBLE));
+            comparisons[i] = comparison;
+        }
+    }
+
+    /**
+     * One offer calculated in each requested country, or every supported country, concurrently on
+     * the batch executor, then converted into the target currency. Every conversion in the
+     * comparison uses the same FX rate table, read once up front.
+     */
+    public CountryComparisonResponse compareCountries(CountryComparisonRequest request) {
+        String calculationId = newCalculationId();
+        FxRateTable fx = fxRates.getRates();
+        String targetCurrency = request.getTargetCurrency();
+        String offerCurrency = request.getCurrency() != null ? request.getCurrency() : targetCurrency;
+        // Rejects an unknown currency before anything is calculated
+        fx.rate(offerCurrency, targetCurrency);
+
+        List<Country> countries = request.getCountries() != null && !request.getCountries().isEmpty()
+                ? request.getCountries().stream().distinct().toList()
+                : calculatorRegistry.getSupportedCountries();
+        List<CalculationInput> inputs = new ArrayList<>(countries.size());
+        for (Country country : countries) {
+            inputs.add(comparisonInput(request, country, offerCurrency, fx));
+        }
 
-        // Get calculator from registry
-        CountryCalculator calculator = calculatorRegistry.getCalculator(
-                request.getCountry(),
-                request.getTaxYear()
-        );
+        List<CompletableFuture<CountryComparison>> tasks = new ArrayList<>(inputs.size());
+        for (CalculationInput input : inputs) {
+            tasks.add(CompletableFuture.supplyAsync(
+                    () -> compareCountry(input, targetCurrency, fx), batchExecutor));
+        }
+        List<CountryComparison> comparisons = new ArrayList<>(tasks.size());
+        try {
+            for (CompletableFuture<CountryComparison> task : tasks) {
+                comparisons.add(task.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
 
+        CountryComparisonResponse response = new CountryComparisonResponse();
+        response.setCalculationId(calculationId);
+        response.setTargetCurrency(targetCurrency);
+        response.setCadence(request.getCadence());
+        response.setFxRatesVersion(fx.getVersion());
+        response.setFxRatesAsOf(fx.getAsOf());
+        response.setCountries(comparisons);
+
+        log.info("Completed country comparison {} across {} country(ies) in {} using FX rates {}",
+                calculationId, countries.size(), targetCurrency, fx.getVersion());
+        return response;
+    }
+
+    private static CalculationInput comparisonInput(CountryComparisonRequest request, Country country,
+                                                    String offerCurrency, FxRateTable fx) {
+        Double localSalary = request.getLocalSalaries() != null ? request.getLocalSalaries().get(country) : null;
+        double annualGross;
+        if (localSalary != null) {
+            annualGross = localSalary;
+        } else if (request.getAnnualSalary() != null) {
+            annualGross = fx.convert(request.getAnnualSalary(), offerCurrency, country.getCurrency());
+        } else {
+            throw new IllegalArgumentException("annualSalary or localSalaries." + country + " is required");
+        }
+
+        CountryOptions options = request.getCountryOptions();
+        CountryOptionsUS usOptions = options != null ? options.getUs() : null;
+        if (country == Country.US && (usOptions == null || usOptions.getState() == null
+                || usOptions.getFilingStatus() == null)) {
+            throw new IllegalArgumentException(
+                    "US comparisons require countryOptions.US with state and filingStatus");
+        }
+
+        return CalculationInput.from(request, country, annualGross);
+    }
+
+    private CountryComparison compareCountry(CalculationInput input, String targetCurrency, FxRateTable fx) {
+        Country country = input.getCountry();
+        RulePack rulePack = rulesRegistry.getRulePack(country.name(), input.getTaxYear());
+        CountryCalculator calculator = dispatch(country, input.getTaxYear());
+        CalculationBuffer buffer = new CalculationBuffer();
+        calculate(input, rulePack, calculator, buffer);
+
+        PayCadence cadence = input.getPayCadence();
+        double rate = fx.rate(buffer.getCurrency(), targetCurrency);
+        double gross = buffer.getGrossAnnual();
+        double net = buffer.getNetAnnual();
+        double totalTax = buffer.getTotalTax();
+
+        CountryComparison comparison = new CountryComparison();
+        comparison.setCountry(country);
+        comparison.setCurrency(buffer.getCurrency());
+        comparison.setRulePackVersion(buffer.getRulePackVersion());
+        comparison.setFxRate(rate);
+        comparison.setGrossPerCadence(cadence.perPeriod(gross, Arithmetic.DOUBLE));
+        comparison.setNetPerCadence(cadence.perPeriod(net, Arithmetic.DOUBLE));
+        comparison.setTotalTaxPerCadence(cadence.perPeriod(totalTax, Arithmetic.DOUBLE));
+        comparison.setTargetGrossPerCadence(cadence.perPeriod(gross * rate, Arithmetic.DOUBLE));
+        comparison.setTargetNetPerCadence(cadence.perPeriod(net * rate, Arithmetic.DOUBLE));
+        comparison.setTargetTotalTaxPerCadence(cadence.perPeriod(totalTax * rate, Arithmetic.DOUBLE));
+        comparison.setEffectiveTaxRate(gross > 0 ? totalTax / gross : 0.0);
+        return comparison;
+    }
+
+    /**
+     * Net pay in each of {@code years} consecutive tax years, with the salary compounding at the
+     * requested growth rate. Years without a published rule pack use packs the
+     * {@link RulePackProjector} derives from the latest published one; all packs are resolved in
+     * one pass and the years are then evaluated in order into one buffer, so a projection costs
+     * about one calculation per year once its packs are cached.
+     */
+    public ProjectionResponse project(ProjectionRequest request) {
+        String calculationId = newCalculationId();
+        Country country = request.getCountry();
+        int firstYear = request.getTaxYear();
+        int years = request.getYears() != null ? request.getYears() : ProjectionRequest.DEFAULT_YEARS;
+        double growth = request.getSalaryGrowth() != null ? request.getSalaryGrowth() : 0.0;
+        double inflation = request.getInflation() != null ? request.getInflation() : projector.getDefaultInflation();
+
+        try {
+            List<RulePack> rulePacks = projector.getRulePacks(country.name(), firstYear, years, inflation);
+            CalculationInput profile = CalculationInput.from(request);
+            profile.setDetail(DetailLevel.NET_ONLY);
+            PayCadence cadence = profile.getPayCadence();
+            CalculationBuffer buffer = new CalculationBuffer();
+
+            List<ProjectedYear> projection = new ArrayList<>(years);
+            for (int i = 0; i < years; i++) {
+                int taxYear = firstYear + i;
+                RulePack rulePack = rulePacks.get(i);
+                double annualGross = request.getAnnualSalary() * Math.pow(1.0 + growth, i);
+                CalculationInput input = profile.withAnnualGross(annualGross);
+                input.setTaxYear(taxYear);
+                calculate(input, rulePack, dispatch(country, taxYear), buffer);
+
+                double gross = buffer.getGrossAnnual();
+                double net = buffer.getNetAnnual();
+                double totalTax = buffer.getTotalTax();
+                ProjectedYear year = new ProjectedYear();
+                year.setTaxYear(taxYear);
+                year.setProjected(rulePack.getMetadata().getProjectedFrom() != null);
+                year.setRulePackVersion(buffer.getRulePackVersion());
+                year.setGrossPerCadence(cadence.perPeriod(gross, Arithmetic.DOUBLE));
+                year.setNetPerCadence(cadence.perPeriod(net, Arithmetic.DOUBLE));
+                year.setTotalTaxPerCadence(cadence.perPeriod(totalTax, Arithmetic.DOUBLE));
+                // In first-year money, deflated at the same rate the thresholds were indexed by
+                year.setRealNetPerCadence(cadence.perPeriod(net / Math.pow(1.0 + inflation, i), Arithmetic.DOUBLE));
+                year.setEffectiveTaxRate(gross > 0 ? totalTax / gross : 0.0);
+                projection.add(year);
+            }
+
+            ProjectionResponse response = new ProjectionResponse();
+            response.setCalculationId(calculationId);
+            response.setCountry(country);
+            response.setCurrency(buffer.getCurrency());
+            response.setCadence(cadence);
+            response.setSalaryGrowth(growth);
+            response.setInflation(inflation);
+            response.setYears(projection);
+
+            log.info("Completed projection {} for country {} over tax years {}-{}",
+                    calculationId, country, firstYear, firstYear + years - 1);
+            return response;
+        } catch (RuntimeException e) {
+            metrics.error(e, country, firstYear);
+            throw e;
+        }
+    }
+
+    /**
+     * Calculates every request independently and returns one result or error per item, in
+     * submission order. Items are grouped by (country, tax year, state, filing status) so the
+     * rule pack and calculator are resolved once per group, and groups are evaluated in
+     * parallel on the batch executor.
+     */
+    public List<BatchItemResult> calculateBatch(List<CalculateRequest> requests) {
+        long start = System.nanoTime();
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+
+        Map<BatchGroupKey, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CalculateRequest request = requests.get(i);
+            if (request == null || request.getCountry() == null || request.getTaxYear() == null) {
+                results[i] = BatchItemResult.failure(i, "country and taxYear are required");
+                continue;
+            }
+            groups.computeIfAbsent(BatchGroupKey.of(request), k -> new ArrayList<>()).add(i);
+        }
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (Map.Entry<BatchGroupKey, List<Integer>> group : groups.entrySet()) {
+            BatchGroupKey key = group.getKey();
+            List<Integer> indices = group.getValue();
+
+            RulePack rulePack;
+            CountryCalculator calculator;
+            try {
+                rulePack = rulesRegistry.getRulePack(key.country().name(), key.taxYear());
+                calculator = dispatch(key.country(), key.taxYear());
+            } catch (Exception e) {
+                String error = errorMessage(e);
+                indices.forEach(i -> {
+                    metrics.error(e, key.country(), key.taxYear());
+                    results[i] = BatchItemResult.failure(i, error);
+                });
+                continue;
+            }
+
+            for (int from = 0; from < indices.size(); from += BATCH_CHUNK_SIZE) {
+                List<Integer> chunk = indices.subList(from, Math.min(from + BATCH_CHUNK_SIZE, indices.size()));
+                tasks.add(CompletableFuture.runAsync(
+                        () -> calculateChunk(requests, key, chunk, rulePack, calculator, results),
+                        batchExecutor));
+            }
+        }
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+
+        log.info("Completed batch of {} calculations in {} group(s) in {} ms",
+                requests.size(), groups.size(), (System.nanoTime() - start) / 1_000_000);
+        return Arrays.asList(results);
+    }
+
+    private void calculateChunk(List<CalculateRequest> requests, BatchGroupKey key, List<Integer> chunk,
+                                RulePack rulePack, CountryCalculator calculator,
+                                BatchItemResult[] results) {
+        BatchGroupEvent event = new BatchGroupEvent();
+        event.begin();
+        int failed = 0;
+        // Every item of the chunk is calculated into the same buffer
+        CalculationBuffer buffer = new CalculationBuffer();
+        for (int i : chunk) {
+            try {
+                CalculateResponse response = calculate(requests.get(i), rulePack, calculator,
+                        newCalculationId(), buffer, false);
+                results[i] = BatchItemResult.success(i, response);
+            } catch (Exception e) {
+                log.debug("Batch item {} failed", i, e);
+                CalculateRequest request = requests.get(i);
+                metrics.error(e, request.getCountry(), request.getTaxYear());
+                results[i] = BatchItemResult.failure(i, errorMessage(e));
+                failed++;
+            }
+        }
+
+        if (event.shouldCommit()) {
+            event.country = key.country().name();
+            event.taxYear = key.taxYear();
+            event.rulePackVersion = rulePack.getMetadata().getVersion();
+            event.state = key.state();
+            event.filingStatus = key.filingStatus() != null ? key.filingStatus().name() : null;
+            event.items = chunk.size();
+            event.failedItems = failed;
+            event.commit();
+        }
+    }
+
+    private CalculateResponse calculate(CalculateRequest request, RulePack rulePack,
+                                        CountryCalculator calculator, String calculationId,
+                                        CalculationBuffer buffer, boolean coalesce) {
         // Convert request to input
         CalculationInput input = CalculationInput.from(request);
+        PayCadence cadence = input.getPayCadence();
+        List<PayCadence> cadences = request.getCadences();
+
+        // Identical normalized inputs at any cadence share one cached annual result
+        CalculationResult result = null;
+        if (resultCache != null) {
+            result = resultCache.get(input, rulePack.getMetadata().getVersion(), () -> {
+                calculate(input, rulePack, calculator, buffer);
+                return buffer.toResult();
+            });
+        } else if (coalesce && coalescer != null) {
+            // Concurrent identical requests share the first caller's result; each gets its own id
+            result = coalescer.calculate(input, rulePack.getMetadata().getVersion(), () -> {
+                calculate(input, rulePack, calculator, buffer);
+                return buffer.toResult();
+            });
+        } else {
+            calculate(input, rulePack, calculator, buffer);
+            if (cadences != null && !cadences.isEmpty()) {
+                result = buffer.toResult();
+            }
+        }
+
+        long start = System.nanoTime();
+        CalculateResponse response = result != null
+                ? response(result, cadence, cadences, calculationId)
+                : response(buffer, cadence, calculationId);
+        metrics.record(CalculationMetrics.CADENCE_CONVERSION, start,
+                input.getCountry(), input.getTaxYear(), CalculationMetrics.SUCCESS);
+        return response;
+    }
+
+    /** Runs the calculator for {@code input} into {@code buffer}, recording metrics and a JFR event. */
+    private void calculate(CalculationInput input, RulePack rulePack, CountryCalculator calculator,
+                           CalculationBuffer buffer) {
+        Country country = input.getCountry();
+        Integer taxYear = input.getTaxYear();
 
         // Perform calculation
-        CalculationResult result = calculator.calculate(input, rulePack);
+        CalculationEvent event = new CalculationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            if (input.getArithmetic() == Arithmetic.FIXED_POINT) {
+                calculator.calculateFixedPoint(input, rulePack, buffer);
+            } else {
+                calculator.calculate(input, rulePack, buffer);
+            }
+        } catch (RuntimeException e) {
+            metrics.record(CalculationMetrics.CALCULATE, start, country, taxYear, CalculationMetrics.ERROR);
+            throw e;
+        }
+        event.end();
+        metrics.record(CalculationMetrics.CALCULATE, start, country, taxYear, CalculationMetrics.SUCCESS);
+
+        if (event.shouldCommit()) {
+            event.country = country.name();
+            event.taxYear = taxYear;
+            event.rulePackVersion = buffer.getRulePackVersion();
+            event.salaryBucket = CalculationEvent.salaryBucket(input.getAnnualGross());
+            event.calculator = calculator.getClass().getSimpleName();
+            event.detail = input.getDetail() != null ? input.getDetail().name() : null;
+            event.arithmetic = input.getArithmetic() != null ? input.getArithmetic().name() : null;
+            event.commit();
+        }
+    }
 
-        // Build response
+    /**
+     * Response at {@code cadence} straight from {@code buffer}, the common case of one cadence and
+     * no cache: line item and explanation objects are only created here.
+     */
+    private static CalculateResponse response(CalculationBuffer buffer, PayCadence cadence, String calculationId) {
+        Arithmetic arithmetic = buffer.getArithmetic();
+        CalculateResponse response = new CalculateResponse();
+        response.setCalculationId(calculationId);
+        response.setRulePackVersion(buffer.getRulePackVersion());
+        response.setCurrency(buffer.getCurrency());
+        response.setGrossPerCadence(cadence.perPeriod(buffer.getGrossAnnual(), arithmetic));
+        response.setNetPerCadence(cadence.perPeriod(buffer.getNetAnnual(), arithmetic));
+
+        if (buffer.includesLineItems()) {
+            List<LineItem> lineItems = new ArrayList<>(buffer.getLineItemCount());
+            for (int i = 0; i < buffer.getLineItemCount(); i++) {
+                lineItems.add(new LineItem(buffer.getLineItemName(i),
+                        cadence.perPeriod(buffer.getLineItemAmount(i), arithmetic)));
+            }
+            response.setLineItems(lineItems);
+        }
+        if (buffer.includesExplanations()) {
+            List<Explanation> explanations = new ArrayList<>(buffer.getExplanationCount());
+            for (int i = 0; i < buffer.getExplanationCount(); i++) {
+                explanations.add(buffer.toExplanation(i));
+            }
+            response.setExplanation(explanations);
+        }
+        return response;
+    }
+
+    /**
+     * Response at {@code cadence} projected from a shared annual result, plus a view of the same
+     * result at each of {@code cadences}, whose amounts are only computed when serialized.
+     */
+    private static CalculateResponse response(CalculationResult result, PayCadence cadence,
+                                              List<PayCadence> cadences, String calculationId) {
+        CadenceBreakdown primary = result.toCadence(cadence);
         CalculateResponse response = new CalculateResponse();
         response.setCalculationId(calculationId);
         response.setRulePackVersion(result.getRulePackVersion());
         response.setCurrency(result.getCurrency());
+        response.setGrossPerCadence(primary.getGrossPerCadence());
+        response.setNetPerCadence(primary.getNetPerCadence());
+        response.setLineItems(primary.getLineItems());
+        response.setExplanation(result.getExplanations());
 
-        // Convert to requested cadence
-        int periodsPerYear = request.getCadence().getPeriodsPerYear();
-        response.setGrossPerCadence(result.getGrossAnnual() / periodsPerYear);
-        response.setNetPerCadence(result.getNetAnnual() / periodsPerYear);
-
-        // Adjust line items to cadence
-        result.getLineItems().forEach(item -> {
-            item.setAmount(item.getAmount() / periodsPerYear);
-        });
+        if (cadences != null && !cadences.isEmpty()) {
+            Map<PayCadence, CadenceBreakdown> views = new EnumMap<>(PayCadence.class);
+            for (PayCadence other : cadences) {
+                if (other == null) {
+                    throw new IllegalArgumentException("cadences must not contain null");
+                }
+                views.put(other, result.toCadence(other));
+            }
+            response.setCadences(views);
+        }
+        return response;
+    }
 
-        response.setLineItems(result.getLineItems());
-        response.setExplanation(result.getExplanations());
+    private static String errorMessage(Exception e) {
+        if (e instanceof IllegalArgumentException && e.getMessage() != null) {
+            return e.getMessage();
+        }
+        log.error("Unexpected error in batch calculation", e);
+        return "Internal server error";
+    }
 
-        log.info("Completed calculation {} - Gross: {}, Net: {}",
-                calculationId, response.getGrossPerCadence(), response.getNetPerCadence());
+    // ThreadLocalRandom avoids contending on the shared SecureRandom behind UUID.randomUUID()
+    private static String newCalculationId() {
+        return "c_" + HEX.toHexDigits(ThreadLocalRandom.current().nextInt());
+    }
 
-        return response;
+    private record BatchGroupKey(Country country, int taxYear, String state, FilingStatus filingStatus) {
+        static BatchGroupKey of(CalculateRequest request) {
+            CountryOptionsUS us = request.getCountryOptions() != null
+                    ? request.getCountryOptions().getUs() : null;
+            return new BatchGroupKey(request.getCountry(), request.getTaxYear(),
+                    us != null ? us.getState() : null,
+                    us != null ? us.getFilingStatus() : null);
+        }
     }
 }
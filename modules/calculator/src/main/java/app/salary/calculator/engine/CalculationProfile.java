@@ -0,0 +1,47 @@
+package app.salary.calculator.engine;
+
+import app.salary.common.constants.Country;
+import app.salary.common.constants.FilingStatus;
+import app.salary.common.constants.StudentLoanPlan;
+import app.salary.common.dto.CountryOptionsUS;
+import app.salary.common.dto.Posttax;
+import app.salary.common.dto.Pretax;
+
+/**
+ * Normalized, hashable view of everything in a {@link CalculationInput} that shapes net pay,
+ * except the salary itself and the output cadence.
+ */
+public record CalculationProfile(
+        Country country,
+        int taxYear,
+        String state,
+        FilingStatus filingStatus,
+        double pretaxPercent,
+        double pretaxFixed,
+        double hsa,
+        double pensionPercent,
+        double posttaxFixed,
+        StudentLoanPlan studentLoanPlan) {
+
+    public static CalculationProfile of(CalculationInput input) {
+        Pretax pretax = input.getPretax();
+        Posttax posttax = input.getPosttax();
+        CountryOptionsUS us = input.getUsOptions();
+        return new CalculationProfile(
+                input.getCountry(),
+                input.getTaxYear() != null ? input.getTaxYear() : 0,
+                us != null ? us.getState() : null,
+                us != null ? us.getFilingStatus() : null,
+                pretax != null ? valueOf(pretax.getPercent()) : 0.0,
+                pretax != null ? valueOf(pretax.getFixed()) : 0.0,
+                pretax != null ? valueOf(pretax.getHsa()) : 0.0,
+                pretax != null ? valueOf(pretax.getPensionPercent()) : 0.0,
+                posttax != null ? valueOf(posttax.getFixed()) : 0.0,
+                posttax != null ? posttax.getStudentLoanPlan() : null);
+    }
+
+    private static double valueOf(Double value) {
+        // Deductions ignore non-positive amounts, so they normalize to zero
+        return value != null && value > 0 ? value : 0.0;
+    }
+}
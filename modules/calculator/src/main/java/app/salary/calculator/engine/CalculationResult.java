@@ -1,33 +1,79 @@
 package app.salary.calculator.engine;
 
+import app.salary.common.constants.Arithmetic;
+import app.salary.common.constants.PayCadence;
+import app.salary.common.dto.CadenceBreakdown;
 import app.salary.common.dto.Explanation;
 import app.salary.common.dto.LineItem;
 
 import java.util.ArrayList;
 import java.util.List;
 
-public class CalculationResult {
-    private Double grossAnnual;
-    private Double netAnnual;
-    private String currency;
-    private List<LineItem> lineItems = new ArrayList<>();
-    private List<Explanation> explanations = new ArrayList<>();
-    private String rulePackVersion;
-
-    public Double getGrossAnnual() { return grossAnnual; }
-    public void setGrossAnnual(Double grossAnnual) { this.grossAnnual = grossAnnual; }
-    public Double getNetAnnual() { return netAnnual; }
-    public void setNetAnnual(Double netAnnual) { this.netAnnual = netAnnual; }
+/**
+ * Immutable outcome of one calculation, with every amount per year. {@link #toCadence} projects
+ * it onto a pay cadence as a view over the same amounts, so one result can be cached, shared
+ * between threads and rendered at several cadences without recalculating.
+ * <p>
+ * Calculators build results with a {@link CalculationBuffer} and {@link CalculationBuffer#toResult}.
+ */
+public final class CalculationResult {
+    private final String currency;
+    private final String rulePackVersion;
+    private final Arithmetic arithmetic;
+    private final double grossAnnual;
+    private final double netAnnual;
+    private final double totalTax;
+    // Both null when the detail level excludes line items; never modified once built
+    private final String[] lineItemNames;
+    private final double[] lineItemAmounts;
+    private final List<Explanation> explanations;
+
+    CalculationResult(String currency, String rulePackVersion, Arithmetic arithmetic,
+                      double grossAnnual, double netAnnual, double totalTax,
+                      String[] lineItemNames, double[] lineItemAmounts, List<Explanation> explanations) {
+        this.currency = currency;
+        this.rulePackVersion = rulePackVersion;
+        this.arithmetic = arithmetic;
+        this.grossAnnual = grossAnnual;
+        this.netAnnual = netAnnual;
+        this.totalTax = totalTax;
+        this.lineItemNames = lineItemNames;
+        this.lineItemAmounts = lineItemAmounts;
+        this.explanations = explanations != null ? List.copyOf(explanations) : null;
+    }
+
     public String getCurrency() { return currency; }
-    public void setCurrency(String currency) { this.currency = currency; }
-    public List<LineItem> getLineItems() { return lineItems; }
-    public void setLineItems(List<LineItem> lineItems) { this.lineItems = lineItems; }
-    public List<Explanation> getExplanations() { return explanations; }
-    public void setExplanations(List<Explanation> explanations) { this.explanations = explanations; }
     public String getRulePackVersion() { return rulePackVersion; }
-    public void setRulePackVersion(String rulePackVersion) { this.rulePackVersion = rulePackVersion; }
+    public Arithmetic getArithmetic() { return arithmetic; }
+    public double getGrossAnnual() { return grossAnnual; }
+    public double getNetAnnual() { return netAnnual; }
+    public double getTotalTax() { return totalTax; }
+
+    public boolean includesLineItems() { return lineItemNames != null; }
 
-    public void addLineItem(String name, Double amount) { lineItems.add(new LineItem(name, amount)); }
+    public boolean includesExplanations() { return explanations != null; }
+
+    /** Annual line items, as a new list on each call, or {@code null} if the detail level excludes them. */
+    public List<LineItem> getLineItems() {
+        if (lineItemNames == null) {
+            return null;
+        }
+        List<LineItem> lineItems = new ArrayList<>(lineItemNames.length);
+        for (int i = 0; i < lineItemNames.length; i++) {
+            lineItems.add(new LineItem(lineItemNames[i], lineItemAmounts[i]));
+        }
+        return lineItems;
+    }
+
+    // Line item names without building the LineItem list, for CalculationResultCache's weigher
+    String[] lineItemNames() { return lineItemNames; }
+
+    /** Unmodifiable, or {@code null} if the detail level excludes explanations. */
+    public List<Explanation> getExplanations() { return explanations; }
 
-    public void addExplanation(String id, String text) { explanations.add(new Explanation(id, text)); }
+    /** This result per period of {@code cadence}, rounded the way its arithmetic requires. */
+    public CadenceBreakdown toCadence(PayCadence cadence) {
+        return new CadenceBreakdown(cadence, arithmetic, grossAnnual, netAnnual, totalTax,
+                lineItemNames, lineItemAmounts);
+    }
 }
@@ -0,0 +1,93 @@
+package app.salary.calculator.engine;
+
+import app.salary.common.constants.Country;
+import app.salary.common.dto.Explanation;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches annual calculation results keyed on the normalized request: the
+ * {@link CalculationProfile}, the annual gross, the detail level, the arithmetic and the rule
+ * pack version. A {@link CalculationResult} is immutable and cadence-agnostic, so one entry is
+ * shared by every caller and serves every pay cadence.
+ * <p>
+ * Entries are weighed by their approximate retained size, so the cache is bounded by memory
+ * rather than entry count. Because the rule pack version is part of the key a republished pack
+ * never serves stale results; the first request that sees a new version also evicts every entry
+ * computed against the previous one for that country and tax year.
+ */
+public class CalculationResultCache implements MeterBinder {
+    public static final String CACHE_NAME = "calculation.results";
+
+    private final Cache<CalculationKey, CalculationResult> cache;
+    private final Map<String, String> currentVersions = new ConcurrentHashMap<>();
+
+    public CalculationResultCache(long maximumBytes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((CalculationKey key, CalculationResult result) -> estimateBytes(result))
+                .expireAfterWrite(Duration.ofHours(1))
+                .recordStats()
+                .build();
+    }
+
+    /** Returns the cached result for {@code input} under {@code rulePackVersion}, computing it on a miss. */
+    public CalculationResult get(CalculationInput input, String rulePackVersion,
+                                 Supplier<CalculationResult> calculation) {
+        observeVersion(input.getCountry(), input.getTaxYear(), rulePackVersion);
+        return cache.get(CalculationKey.of(input, rulePackVersion), k -> calculation.get());
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+        currentVersions.clear();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    private void observeVersion(Country country, int taxYear, String version) {
+        String previous = currentVersions.put(country + "-" + taxYear, version);
+        if (previous != null && !previous.equals(version)) {
+            cache.asMap().keySet().removeIf(key -> key.profile().country() == country
+                    && key.profile().taxYear() == taxYear
+                    && !key.rulePackVersion().equals(version));
+        }
+    }
+
+    // Rough retained size: object headers and boxed doubles plus two bytes per string character.
+    // Read from the result's arrays and estimated text lengths, so weighing an entry neither builds
+    // line items nor renders deferred explanations that no caller may ever read.
+    private static int estimateBytes(CalculationResult result) {
+        int bytes = 256;
+        String[] lineItemNames = result.lineItemNames();
+        if (lineItemNames != null) {
+            for (String name : lineItemNames) {
+                bytes += 80 + 2 * (name != null ? name.length() : 0);
+            }
+        }
+        List<Explanation> explanations = result.getExplanations();
+        if (explanations != null) {
+            for (Explanation explanation : explanations) {
+                bytes += 80 + 2 * ((explanation.getId() != null ? explanation.getId().length() : 0)
+                        + explanation.estimateTextLength());
+            }
+        }
+        return bytes;
+    }
+}
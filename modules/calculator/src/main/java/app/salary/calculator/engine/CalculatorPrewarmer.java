@@ -0,0 +1,107 @@
+package app.salary.calculator.engine;
+
+import app.salary.calculator.registry.CalculatorRegistry;
+import app.salary.common.constants.Country;
+import app.salary.common.constants.DetailLevel;
+import app.salary.common.constants.PayCadence;
+import app.salary.common.dto.Posttax;
+import app.salary.common.dto.Pretax;
+import app.salary.rules.RulePack;
+import app.salary.rules.RulesRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads a rule pack ahead of traffic and JIT-warms the calculator that serves it, so the first
+ * requests after a deploy neither pay for the classpath read and parse nor run interpreted code.
+ * <p>
+ * Warming calls {@link CountryCalculator#calculate} directly with synthetic inputs: every
+ * {@linkplain CountryCalculator#warmupProfiles warmup profile} at a spread of salaries and every
+ * {@link DetailLevel}. It bypasses the orchestrator so the result cache holds no synthetic
+ * entries.
+ */
+public class CalculatorPrewarmer {
+    private static final Logger log = LoggerFactory.getLogger(CalculatorPrewarmer.class);
+
+    /** Annual salaries from zero income through the top bands, tapers and caps. */
+    static final double[] SALARIES = {
+            0.0, 9_000.0, 25_000.0, 48_000.0, 75_000.0, 110_000.0, 160_000.0, 250_000.0, 650_000.0
+    };
+
+    private final RulesRegistry rulesRegistry;
+    private final CalculatorRegistry calculatorRegistry;
+    private final Executor executor;
+    private final int iterations;
+
+    public CalculatorPrewarmer(RulesRegistry rulesRegistry, CalculatorRegistry calculatorRegistry,
+                               Executor executor, int iterations) {
+        this.rulesRegistry = rulesRegistry;
+        this.calculatorRegistry = calculatorRegistry;
+        this.executor = executor;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Loads and compiles the rule pack for {@code country} and {@code taxYear} on the executor,
+     * then warms its calculator if one is registered. The future fails if the pack cannot be
+     * loaded.
+     */
+    public CompletableFuture<Void> prewarm(String country, int taxYear) {
+        return CompletableFuture.runAsync(() -> {
+            long start = System.nanoTime();
+            RulePack rulePack = rulesRegistry.getRulePack(country, taxYear);
+            CountryCalculator calculator = findCalculator(country, taxYear);
+            if (calculator == null) {
+                log.warn("Rule pack {}-{} loaded but no calculator is registered for it", country, taxYear);
+                return;
+            }
+            int calls = warm(calculator, Country.valueOf(country), taxYear, rulePack);
+            log.info("Prewarmed {} for {}-{}: {} calculations in {} ms",
+                    calculator.getClass().getSimpleName(), country, taxYear, calls,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }, executor);
+    }
+
+    private CountryCalculator findCalculator(String country, int taxYear) {
+        for (Country candidate : Country.values()) {
+            if (candidate.name().equals(country) && calculatorRegistry.isCountrySupported(candidate, taxYear)) {
+                return calculatorRegistry.getCalculator(candidate, taxYear);
+            }
+        }
+        return null;
+    }
+
+    private int warm(CountryCalculator calculator, Country country, int taxYear, RulePack rulePack) {
+        CalculationInput base = new CalculationInput();
+        base.setCountry(country);
+        base.setTaxYear(taxYear);
+        base.setPayCadence(PayCadence.ANNUAL);
+        base.setPretax(new Pretax());
+        base.setPosttax(new Posttax());
+
+        List<CalculationInput> profiles = calculator.warmupProfiles(base, rulePack);
+        CalculationBuffer buffer = new CalculationBuffer();
+        int calls = 0;
+        double sink = 0.0;
+        for (int i = 0; i < iterations; i++) {
+            for (CalculationInput profile : profiles) {
+                for (double salary : SALARIES) {
+                    CalculationInput input = profile.withAnnualGross(salary);
+                    for (DetailLevel detail : DetailLevel.values()) {
+                        input.setDetail(detail);
+                        calculator.calculate(input, rulePack, buffer);
+                        sink += buffer.getNetAnnual();
+                        calls++;
+                    }
+                }
+            }
+        }
+        log.debug("Prewarm checksum for {}-{}: {}", country, taxYear, sink);
+        return calls;
+    }
+}
@@ -3,9 +3,88 @@ package app.salary.calculator.engine;
 import app.salary.common.constants.Country;
 import app.salary.rules.RulePack;
 
+import java.util.List;
+import java.util.Set;
+
 public interface CountryCalculator {
     boolean supports(Country country, int taxYear);
     CalculationResult calculate(CalculationInput input, RulePack rules);
+
+    /**
+     * Allocation-free form of {@link #calculate(CalculationInput, RulePack)} that writes the result
+     * into {@code buffer}, which the caller owns and may reuse. The default adapts the
+     * result-returning method and so still allocates; calculators with a buffer-based core
+     * override this and build their {@link CalculationResult} from it instead.
+     */
+    default void calculate(CalculationInput input, RulePack rules, CalculationBuffer buffer) {
+        buffer.load(calculate(input, rules), input.getDetail());
+    }
+
+    /**
+     * Same calculation as {@link #calculate(CalculationInput, RulePack)} carried out in
+     * {@code long} minor units with this country's statutory rounding; amounts are only converted
+     * from and to {@code double} when reading {@code input} and filling in the result.
+     */
+    default CalculationResult calculateFixedPoint(CalculationInput input, RulePack rules) {
+        CalculationBuffer buffer = new CalculationBuffer();
+        calculateFixedPoint(input, rules, buffer);
+        return buffer.toResult();
+    }
+
+    /**
+     * {@link #calculateFixedPoint(CalculationInput, RulePack)} written into {@code buffer}. Any
+     * request may ask for fixed-point arithmetic, so every calculator implements it.
+     */
+    void calculateFixedPoint(CalculationInput input, RulePack rules, CalculationBuffer buffer);
+
+    /**
+     * Tax years this calculator handles for {@code country}, used to build the registry's
+     * dispatch index. The default probes {@link #supports}; calculators with a known range
+     * should override it.
+     */
+    default TaxYearRange getSupportedTaxYears(Country country) {
+        return TaxYearRange.probe(year -> supports(country, year));
+    }
+
+    /**
+     * Annual gross amounts at which net pay or total tax may change slope for this profile
+     * (bracket thresholds, caps, tapers) mapped back from taxable income to gross. Between
+     * consecutive breakpoints both must be linear in gross; extra points are harmless.
+     * Used to derive a {@link NetPayFunction}.
+     */
+    double[] netPayBreakpoints(CalculationInput profile, RulePack rules);
+
+    /**
+     * Salary-independent profiles used to JIT-warm this calculator at startup, derived from
+     * {@code base} (country, tax year and empty deductions). The default is {@code base} alone;
+     * calculators that branch on country options should return one profile per combination
+     * worth exercising.
+     */
+    default List<CalculationInput> warmupProfiles(CalculationInput base, RulePack rules) {
+        return List.of(base);
+    }
+
+    /**
+     * Sub-national jurisdictions with their own rules in {@code rules}, such as US states; empty
+     * when tax does not vary within the country.
+     */
+    default Set<String> getJurisdictions(RulePack rules) {
+        return Set.of();
+    }
+
+    /**
+     * Re-evaluates only the jurisdiction-dependent layer of the calculation in {@code base} as if
+     * it were made in {@code jurisdiction}, writing that layer's slots and the resulting gross,
+     * net and total tax into {@code out}. Country-wide amounts are taken from {@code base} as
+     * calculated, so comparing jurisdictions costs one full calculation plus one layer each.
+     * {@code base} is only read and may be shared between threads.
+     *
+     * @throws IllegalArgumentException if {@code jurisdiction} is not one of
+     *                                  {@link #getJurisdictions(RulePack)}
+     */
+    void calculateJurisdiction(CalculationInput input, RulePack rules, CalculationBuffer base,
+                               String jurisdiction, CalculationBuffer out);
+
     default String getCountryCode() {
         return this.getClass().getSimpleName().replace("Calculator", "");
     }
@@ -0,0 +1,117 @@
+package app.salary.calculator.engine;
+
+import app.salary.common.constants.DetailLevel;
+import app.salary.rules.RulePack;
+
+import java.util.Arrays;
+
+/**
+ * Closed-form annual net pay and total tax as functions of annual gross for one rule pack and
+ * {@link CalculationProfile}. Both are piecewise linear, with kinks only at the gross values the
+ * calculator reports from {@link CountryCalculator#netPayBreakpoints}; the segments are fitted by
+ * running the calculator once at each breakpoint, so every later evaluation is a binary search
+ * plus one multiply-add.
+ */
+public class NetPayFunction {
+    // Breakpoints closer than this are merged to keep fitted slopes well conditioned
+    private static final double MIN_SEGMENT_WIDTH = 1e-6;
+
+    private final PiecewiseLinearFunction net;
+    private final PiecewiseLinearFunction totalTax;
+    private final String currency;
+    private final String rulePackVersion;
+
+    private NetPayFunction(PiecewiseLinearFunction net, PiecewiseLinearFunction totalTax,
+                           String currency, String rulePackVersion) {
+        this.net = net;
+        this.totalTax = totalTax;
+        this.currency = currency;
+        this.rulePackVersion = rulePackVersion;
+    }
+
+    public static NetPayFunction derive(CalculationInput profile, RulePack rules, CountryCalculator calculator) {
+        double[] breakpoints = normalize(calculator.netPayBreakpoints(profile, rules));
+        int n = breakpoints.length;
+
+        // Only net and total tax are sampled, so skip line items and explanations
+        CalculationInput sample = profile.withAnnualGross(0.0);
+        sample.setDetail(DetailLevel.NET_ONLY);
+
+        double[] netValues = new double[n];
+        double[] taxValues = new double[n];
+        CalculationBuffer buffer = new CalculationBuffer();
+        for (int i = 0; i < n; i++) {
+            sample.setAnnualGross(breakpoints[i]);
+            calculator.calculate(sample, rules, buffer);
+            netValues[i] = buffer.getNetAnnual();
+            taxValues[i] = buffer.getTotalTax();
+        }
+        String currency = buffer.getCurrency();
+        String rulePackVersion = buffer.getRulePackVersion();
+
+        // Past the last kink everything is linear, so one more sample fixes the tail slope
+        double last = breakpoints[n - 1];
+        double probe = last * 2 + 1000.0;
+        sample.setAnnualGross(probe);
+        calculator.calculate(sample, rules, buffer);
+        double netTailSlope = (buffer.getNetAnnual() - netValues[n - 1]) / (probe - last);
+        double taxTailSlope = (buffer.getTotalTax() - taxValues[n - 1]) / (probe - last);
+
+        return new NetPayFunction(
+                PiecewiseLinearFunction.fit(breakpoints, netValues, netTailSlope),
+                PiecewiseLinearFunction.fit(breakpoints, taxValues, taxTailSlope),
+                currency,
+                rulePackVersion);
+    }
+
+    public double netAnnual(double grossAnnual) {
+        return net.evaluate(grossAnnual);
+    }
+
+    public double totalTaxAnnual(double grossAnnual) {
+        return totalTax.evaluate(grossAnnual);
+    }
+
+    /** Share of the next unit of gross taken as tax. */
+    public double marginalTaxRate(double grossAnnual) {
+        return totalTax.slope(grossAnnual);
+    }
+
+    public double effectiveTaxRate(double grossAnnual) {
+        return grossAnnual > 0 ? totalTax.evaluate(grossAnnual) / grossAnnual : 0.0;
+    }
+
+    /** Smallest annual gross whose annual net reaches {@code netAnnual}, or NaN if unreachable. */
+    public double grossForNet(double netAnnual) {
+        return net.inverse(netAnnual);
+    }
+
+    public double[] getBreakpoints() {
+        double[] breakpoints = new double[net.segmentCount()];
+        for (int i = 0; i < breakpoints.length; i++) {
+            breakpoints[i] = net.start(i);
+        }
+        return breakpoints;
+    }
+
+    public PiecewiseLinearFunction getNet() { return net; }
+    public PiecewiseLinearFunction getTotalTax() { return totalTax; }
+    public String getCurrency() { return currency; }
+    public String getRulePackVersion() { return rulePackVersion; }
+
+    private static double[] normalize(double[] candidates) {
+        double[] sorted = Arrays.stream(candidates)
+                .filter(x -> Double.isFinite(x) && x > 0)
+                .sorted()
+                .toArray();
+
+        double[] breakpoints = new double[sorted.length + 1];
+        int n = 1; // gross 0 always starts the domain
+        for (double x : sorted) {
+            if (x - breakpoints[n - 1] >= MIN_SEGMENT_WIDTH) {
+                breakpoints[n++] = x;
+            }
+        }
+        return Arrays.copyOf(breakpoints, n);
+    }
+}
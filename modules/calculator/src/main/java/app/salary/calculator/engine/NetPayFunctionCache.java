@@ -0,0 +1,34 @@
+package app.salary.calculator.engine;
+
+import app.salary.rules.RulePack;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Caches derived {@link NetPayFunction}s per profile. The rule pack version is part of the key,
+ * so a republished pack never serves a function fitted to its predecessor.
+ */
+public class NetPayFunctionCache {
+    private final Cache<Key, NetPayFunction> cache;
+
+    public NetPayFunctionCache() {
+        this(10_000);
+    }
+
+    public NetPayFunctionCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public NetPayFunction get(CalculationInput profile, RulePack rules, CountryCalculator calculator) {
+        Key key = new Key(CalculationProfile.of(profile), rules.getMetadata().getVersion());
+        return cache.get(key, k -> NetPayFunction.derive(profile, rules, calculator));
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private record Key(CalculationProfile profile, String rulePackVersion) {}
+}
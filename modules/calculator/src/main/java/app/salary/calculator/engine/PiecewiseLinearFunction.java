@@ -0,0 +1,124 @@
+package app.salary.calculator.engine;
+
+import java.util.Arrays;
+
+/**
+ * Continuous piecewise-linear function on {@code [starts[0], +inf)}. Segment {@code i} begins at
+ * {@code starts[i]} with value {@code values[i]} and rises at {@code slopes[i]}; the last segment
+ * extends without bound. Evaluation is a binary search plus one multiply-add.
+ */
+public final class PiecewiseLinearFunction {
+    private final double[] starts;
+    private final double[] values;
+    private final double[] slopes;
+    private final boolean nonDecreasing;
+
+    private PiecewiseLinearFunction(double[] starts, double[] values, double[] slopes) {
+        this.starts = starts;
+        this.values = values;
+        this.slopes = slopes;
+
+        boolean monotone = true;
+        for (double slope : slopes) {
+            if (slope < 0) {
+                monotone = false;
+                break;
+            }
+        }
+        this.nonDecreasing = monotone;
+    }
+
+    /**
+     * Fits segments through {@code values} sampled at ascending {@code breakpoints}; beyond the
+     * last breakpoint the function continues at {@code tailSlope}.
+     */
+    public static PiecewiseLinearFunction fit(double[] breakpoints, double[] values, double tailSlope) {
+        int n = breakpoints.length;
+        if (n == 0 || values.length != n) {
+            throw new IllegalArgumentException("Breakpoints and values must be non-empty and the same length");
+        }
+        double[] slopes = new double[n];
+        for (int i = 0; i < n - 1; i++) {
+            slopes[i] = (values[i + 1] - values[i]) / (breakpoints[i + 1] - breakpoints[i]);
+        }
+        slopes[n - 1] = tailSlope;
+        return new PiecewiseLinearFunction(breakpoints.clone(), values.clone(), slopes);
+    }
+
+    public double evaluate(double x) {
+        int i = segment(x);
+        return values[i] + slopes[i] * (x - starts[i]);
+    }
+
+    /** Slope of the segment containing {@code x} (right derivative at a breakpoint). */
+    public double slope(double x) {
+        return slopes[segment(x)];
+    }
+
+    /**
+     * Smallest {@code x >= starts[0]} with {@code f(x) >= y}. On flat segments this picks the
+     * start of the segment, so the answer is deterministic. Returns {@code NaN} when
+     * {@code y} is never reached.
+     */
+    public double inverse(double y) {
+        if (y <= values[0]) {
+            return starts[0];
+        }
+
+        int k = nonDecreasing ? firstValueAtLeast(y) : firstCrossing(y);
+        if (k < 0) {
+            // Not reached at any breakpoint: solve on the unbounded last segment
+            int last = slopes.length - 1;
+            if (slopes[last] <= 0) {
+                return Double.NaN;
+            }
+            return starts[last] + (y - values[last]) / slopes[last];
+        }
+        if (values[k] == y) {
+            return starts[k];
+        }
+
+        int i = k - 1;
+        double x = starts[i] + (y - values[i]) / slopes[i];
+        return Math.min(Math.max(x, starts[i]), starts[k]);
+    }
+
+    public int segment(double x) {
+        int index = Arrays.binarySearch(starts, x);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        return Math.max(0, index);
+    }
+
+    public int segmentCount() { return starts.length; }
+    public double start(int i) { return starts[i]; }
+    public double value(int i) { return values[i]; }
+    public double slopeAt(int i) { return slopes[i]; }
+
+    private int firstValueAtLeast(double y) {
+        int lo = 0;
+        int hi = values.length - 1;
+        if (values[hi] < y) {
+            return -1;
+        }
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] >= y) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    private int firstCrossing(double y) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] >= y) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,64 @@
+package app.salary.calculator.engine;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Inclusive range of tax years a {@link CountryCalculator} handles for one country.
+ * An open-ended range uses {@link Integer#MAX_VALUE} as its last year.
+ */
+public final class TaxYearRange {
+    public static final TaxYearRange NONE = new TaxYearRange(1, 0);
+
+    static final int PROBE_FIRST_YEAR = 1900;
+    static final int PROBE_LAST_YEAR = 2200;
+
+    private final int firstYear;
+    private final int lastYear;
+
+    private TaxYearRange(int firstYear, int lastYear) {
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+    }
+
+    public static TaxYearRange from(int firstYear) {
+        return new TaxYearRange(firstYear, Integer.MAX_VALUE);
+    }
+
+    public static TaxYearRange between(int firstYear, int lastYear) {
+        return firstYear > lastYear ? NONE : new TaxYearRange(firstYear, lastYear);
+    }
+
+    /**
+     * Derives the first contiguous run of supported years from a predicate. A run that is still
+     * supported at the end of the probe window is treated as open-ended.
+     */
+    public static TaxYearRange probe(IntPredicate supported) {
+        int year = PROBE_FIRST_YEAR;
+        while (year <= PROBE_LAST_YEAR && !supported.test(year)) {
+            year++;
+        }
+        if (year > PROBE_LAST_YEAR) {
+            return NONE;
+        }
+
+        int first = year;
+        while (year <= PROBE_LAST_YEAR && supported.test(year)) {
+            year++;
+        }
+        return year > PROBE_LAST_YEAR ? from(first) : between(first, year - 1);
+    }
+
+    public boolean contains(int taxYear) {
+        return taxYear >= firstYear && taxYear <= lastYear;
+    }
+
+    public boolean isEmpty() { return firstYear > lastYear; }
+    public int getFirstYear() { return firstYear; }
+    public int getLastYear() { return lastYear; }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) return "none";
+        return lastYear == Integer.MAX_VALUE ? firstYear + "+" : firstYear + "-" + lastYear;
+    }
+}
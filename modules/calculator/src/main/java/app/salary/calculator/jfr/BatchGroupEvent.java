@@ -0,0 +1,39 @@
+package app.salary.calculator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One chunk of a batch group evaluated on the batch executor. Large groups are split into
+ * several chunks, each with its own event.
+ */
+@Name("app.salary.BatchGroup")
+@Label("Batch Group")
+@Category({"Salary Calculator", "Engine"})
+@Description("Batch items sharing country, tax year, state and filing status, evaluated together")
+@StackTrace(false)
+public class BatchGroupEvent extends jdk.jfr.Event {
+    @Label("Country")
+    public String country;
+
+    @Label("Tax Year")
+    public int taxYear;
+
+    @Label("Rule Pack Version")
+    public String rulePackVersion;
+
+    @Label("State")
+    public String state;
+
+    @Label("Filing Status")
+    public String filingStatus;
+
+    @Label("Items")
+    public int items;
+
+    @Label("Failed Items")
+    public int failedItems;
+}
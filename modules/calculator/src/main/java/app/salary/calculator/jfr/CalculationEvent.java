@@ -0,0 +1,58 @@
+package app.salary.calculator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One {@code CountryCalculator.calculate} call made on behalf of a request. Cache hits skip the
+ * calculator and emit nothing.
+ */
+@Name("app.salary.Calculation")
+@Label("Calculation")
+@Category({"Salary Calculator", "Engine"})
+@Description("A country calculator evaluating one salary")
+@StackTrace(false)
+public class CalculationEvent extends jdk.jfr.Event {
+    @Label("Country")
+    public String country;
+
+    @Label("Tax Year")
+    public int taxYear;
+
+    @Label("Rule Pack Version")
+    public String rulePackVersion;
+
+    @Label("Salary Bucket")
+    @Description("Annual gross salary band, e.g. 100k-150k")
+    public String salaryBucket;
+
+    @Label("Calculator")
+    public String calculator;
+
+    @Label("Detail Level")
+    public String detail;
+
+    @Label("Arithmetic")
+    @Description("DOUBLE or FIXED_POINT engine")
+    public String arithmetic;
+
+    private static final double[] BUCKET_BOUNDS = {
+            25_000, 50_000, 75_000, 100_000, 150_000, 200_000, 300_000, 500_000, 1_000_000
+    };
+    private static final String[] BUCKET_LABELS = {
+            "0-25k", "25k-50k", "50k-75k", "75k-100k", "100k-150k", "150k-200k",
+            "200k-300k", "300k-500k", "500k-1m", "1m+"
+    };
+
+    /** Coarse annual salary band, so events can be grouped without exposing exact salaries. */
+    public static String salaryBucket(double annualGross) {
+        int i = 0;
+        while (i < BUCKET_BOUNDS.length && annualGross >= BUCKET_BOUNDS[i]) {
+            i++;
+        }
+        return BUCKET_LABELS[i];
+    }
+}
@@ -1,24 +1,33 @@
 package app.salary.calculator.registry;
 
 import app.salary.calculator.engine.CountryCalculator;
+import app.salary.calculator.engine.TaxYearRange;
 import app.salary.common.constants.Country;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Component
 public class CalculatorRegistry {
     private static final Logger log = LoggerFactory.getLogger(CalculatorRegistry.class);
 
     private final List<CountryCalculator> calculators;
+    private final Map<Country, YearDispatch> dispatchIndex;
+    private final List<Country> supportedCountries;
 
     @Autowired
     public CalculatorRegistry(List<CountryCalculator> calculators) {
         this.calculators = calculators;
+        this.dispatchIndex = buildDispatchIndex(calculators);
+        this.supportedCountries = Collections.unmodifiableList(new ArrayList<>(dispatchIndex.keySet()));
+
         log.info("╔══════════════════════════════════════════════╗");
         log.info("║  Calculator Registry Initialized            ║");
         log.info("╠══════════════════════════════════════════════╣");
@@ -26,24 +35,24 @@ public class CalculatorRegistry {
         calculators.forEach(calc ->
                 log.info("║    ✓ {}", calc.getClass().getSimpleName())
         );
+        dispatchIndex.forEach((country, dispatch) ->
+                log.info("║    {} → {}", country, dispatch)
+        );
         log.info("╚══════════════════════════════════════════════╝");
     }
 
     public CountryCalculator getCalculator(Country country, int taxYear) {
-        return calculators.stream()
-                .filter(calc -> calc.supports(country, taxYear))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                        String.format("No calculator found for country %s and tax year %d",
-                                country, taxYear)
-                ));
+        CountryCalculator calculator = findCalculator(country, taxYear);
+        if (calculator == null) {
+            throw new IllegalArgumentException(
+                    String.format("No calculator found for country %s and tax year %d",
+                            country, taxYear));
+        }
+        return calculator;
     }
 
     public List<Country> getSupportedCountries() {
-        return calculators.stream()
-                .map(this::extractSupportedCountry)
-                .distinct()
-                .collect(Collectors.toList());
+        return supportedCountries;
     }
 
     public int getCalculatorCount() {
@@ -51,16 +60,65 @@ public class CalculatorRegistry {
     }
 
     public boolean isCountrySupported(Country country, int taxYear) {
-        return calculators.stream()
-                .anyMatch(calc -> calc.supports(country, taxYear));
+        return findCalculator(country, taxYear) != null;
+    }
+
+    private CountryCalculator findCalculator(Country country, int taxYear) {
+        YearDispatch dispatch = country != null ? dispatchIndex.get(country) : null;
+        return dispatch != null ? dispatch.find(taxYear) : null;
     }
 
-    private Country extractSupportedCountry(CountryCalculator calculator) {
+    private static Map<Country, YearDispatch> buildDispatchIndex(List<CountryCalculator> calculators) {
+        Map<Country, YearDispatch> index = new EnumMap<>(Country.class);
         for (Country country : Country.values()) {
-            if (calculator.supports(country, 2025)) {
-                return country;
+            List<TaxYearRange> ranges = new ArrayList<>();
+            List<CountryCalculator> owners = new ArrayList<>();
+            for (CountryCalculator calculator : calculators) {
+                TaxYearRange range = calculator.getSupportedTaxYears(country);
+                if (range != null && !range.isEmpty()) {
+                    ranges.add(range);
+                    owners.add(calculator);
+                }
+            }
+            if (!ranges.isEmpty()) {
+                index.put(country, new YearDispatch(
+                        ranges.toArray(new TaxYearRange[0]),
+                        owners.toArray(new CountryCalculator[0])));
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Year ranges for one country in registration order, so the first calculator claiming a
+     * year wins, as with the previous linear scan over {@code supports()}.
+     */
+    private static final class YearDispatch {
+        private final TaxYearRange[] ranges;
+        private final CountryCalculator[] calculators;
+
+        private YearDispatch(TaxYearRange[] ranges, CountryCalculator[] calculators) {
+            this.ranges = ranges;
+            this.calculators = calculators;
+        }
+
+        CountryCalculator find(int taxYear) {
+            for (int i = 0; i < ranges.length; i++) {
+                if (ranges[i].contains(taxYear)) {
+                    return calculators[i];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < ranges.length; i++) {
+                if (i > 0) sb.append(", ");
+                sb.append(calculators[i].getClass().getSimpleName()).append(" [").append(ranges[i]).append(']');
             }
+            return sb.toString();
         }
-        return null;
     }
 }
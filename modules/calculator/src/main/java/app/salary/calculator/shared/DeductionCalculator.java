@@ -1,9 +1,12 @@
 package app.salary.calculator.shared;
 
 import app.salary.common.dto.Posttax;
+import app.salary.common.money.FixedPoint;
 import app.salary.common.dto.Pretax;
 import org.springframework.stereotype.Component;
 
+import java.math.RoundingMode;
+
 @Component
 public class DeductionCalculator {
     public double calculatePretaxDeductions(Pretax pretax, double grossIncome) {
@@ -37,4 +40,36 @@ public class DeductionCalculator {
         }
         return 0.0;
     }
+
+    public long calculatePretaxDeductionsMinor(Pretax pretax, long grossMinor, RoundingMode rounding) {
+        if (pretax == null) return 0L;
+
+        long deductions = 0L;
+        if (pretax.getPercent() != null && pretax.getPercent() > 0) {
+            deductions += FixedPoint.applyRate(grossMinor, FixedPoint.toRate(pretax.getPercent()), rounding);
+        }
+        if (pretax.getFixed() != null && pretax.getFixed() > 0) {
+            deductions += FixedPoint.toMinor(pretax.getFixed());
+        }
+        if (pretax.getHsa() != null && pretax.getHsa() > 0) {
+            deductions += FixedPoint.toMinor(pretax.getHsa());
+        }
+        if (pretax.getPensionPercent() != null && pretax.getPensionPercent() > 0) {
+            deductions += FixedPoint.applyRate(grossMinor, FixedPoint.toRate(pretax.getPensionPercent()), rounding);
+        }
+        return deductions;
+    }
+
+    public long calculatePosttaxDeductionsMinor(Posttax posttax) {
+        if (posttax == null || posttax.getFixed() == null) return 0L;
+        return FixedPoint.toMinor(posttax.getFixed());
+    }
+
+    public long calculatePensionContributionMinor(Pretax pretax, long grossMinor, RoundingMode rounding) {
+        if (pretax == null) return 0L;
+        if (pretax.getPensionPercent() != null && pretax.getPensionPercent() > 0) {
+            return FixedPoint.applyRate(grossMinor, FixedPoint.toRate(pretax.getPensionPercent()), rounding);
+        }
+        return 0L;
+    }
 }
@@ -1,25 +1,21 @@
 package app.salary.calculator.shared;
 
 import app.salary.common.constants.StudentLoanPlan;
+import app.salary.common.money.FixedPoint;
 import app.salary.rules.RulePack;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.math.RoundingMode;
+
 @Component
 public class StudentLoanCalculator {
     private static final Logger log = LoggerFactory.getLogger(StudentLoanCalculator.class);
 
     public double calculateRepayment(StudentLoanPlan plan, double taxableIncome, RulePack rules) {
-        if (plan == null || rules.getStudentLoan() == null) {
-            return 0.0;
-        }
-
-        String planKey = plan.name().toLowerCase();
-        RulePack.StudentLoanRules loanRules = rules.getStudentLoan().get(planKey);
-
+        RulePack.StudentLoanRules loanRules = rulesFor(plan, rules);
         if (loanRules == null) {
-            log.warn("No student loan rules found for plan: {}", plan);
             return 0.0;
         }
 
@@ -30,4 +26,32 @@ public class StudentLoanCalculator {
         double excessIncome = taxableIncome - loanRules.getThreshold();
         return excessIncome * loanRules.getRate();
     }
-}
\ No newline at end of file
+
+    public long calculateRepaymentMinor(StudentLoanPlan plan, long taxableMinor, RulePack rules,
+                                        RoundingMode rounding) {
+        RulePack.StudentLoanRules loanRules = rulesFor(plan, rules);
+        if (loanRules == null) {
+            return 0L;
+        }
+
+        long excessMinor = taxableMinor - FixedPoint.toMinor(loanRules.getThreshold());
+        if (excessMinor <= 0) {
+            return 0L;
+        }
+        return FixedPoint.applyRate(excessMinor, FixedPoint.toRate(loanRules.getRate()), rounding);
+    }
+
+    private static RulePack.StudentLoanRules rulesFor(StudentLoanPlan plan, RulePack rules) {
+        if (plan == null || rules.getStudentLoan() == null) {
+            return null;
+        }
+
+        String planKey = plan.name().toLowerCase();
+        RulePack.StudentLoanRules loanRules = rules.getStudentLoan().get(planKey);
+
+        if (loanRules == null) {
+            log.warn("No student loan rules found for plan: {}", plan);
+        }
+        return loanRules;
+    }
+}
@@ -1,8 +1,12 @@
 package app.salary.calculator.shared;
 
+import app.salary.calculator.engine.CalculationBuffer;
+import app.salary.common.money.FixedPoint;
+import app.salary.rules.CompiledRulePack;
 import app.salary.rules.RulePack;
 import org.springframework.stereotype.Component;
 
+import java.math.RoundingMode;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +32,62 @@ public class TaxBracketCalculator {
         return tax;
     }
 
+    public double calculateTax(double income, CompiledRulePack.BracketTable table) {
+        return table.tax(income);
+    }
+
+    public long calculateTaxMinor(long minorIncome, CompiledRulePack.BracketTable table, RoundingMode rounding) {
+        return FixedPoint.unscale(table.scaledTax(minorIncome), rounding);
+    }
+
+    /** Tax in minor units owed in each bracket of {@code table}, each rounded on its own. */
+    public long[] calculateBracketTaxesMinor(long minorIncome, CompiledRulePack.BracketTable table,
+                                             RoundingMode rounding) {
+        long[] taxes = new long[table.size()];
+        for (int i = 0; i < taxes.length; i++) {
+            taxes[i] = FixedPoint.applyRate(table.incomeInBracket(i, minorIncome), table.fixedRate(i), rounding);
+        }
+        return taxes;
+    }
+
+    public TaxBreakdown calculateTaxWithBreakdown(double income, CompiledRulePack.BracketTable table) {
+        TaxBreakdown breakdown = new TaxBreakdown();
+        if (table.size() == 0) {
+            return breakdown;
+        }
+
+        int top = table.bracketIndex(income);
+        for (int i = 0; i <= top; i++) {
+            double taxableInBand = table.incomeInBracket(i, income);
+            if (taxableInBand > 0) {
+                breakdown.addBand(i, taxableInBand, table.rate(i), taxableInBand * table.rate(i));
+            }
+        }
+        return breakdown;
+    }
+
+    /**
+     * {@link #calculateTaxWithBreakdown(double, CompiledRulePack.BracketTable)} without the
+     * breakdown object: each taxed bracket is written to {@code buffer} and the total returned.
+     */
+    public double calculateTaxInto(double income, CompiledRulePack.BracketTable table, CalculationBuffer buffer) {
+        double totalTax = 0.0;
+        if (table.size() == 0) {
+            return totalTax;
+        }
+
+        int top = table.bracketIndex(income);
+        for (int i = 0; i <= top; i++) {
+            double taxableInBand = table.incomeInBracket(i, income);
+            if (taxableInBand > 0) {
+                double tax = taxableInBand * table.rate(i);
+                buffer.setBracket(i, taxableInBand, table.rate(i), tax);
+                totalTax += tax;
+            }
+        }
+        return totalTax;
+    }
+
     public TaxBreakdown calculateTaxWithBreakdown(double income, List<RulePack.TaxBracket> brackets) {
         TaxBreakdown breakdown = new TaxBreakdown();
         double remainingIncome = income;
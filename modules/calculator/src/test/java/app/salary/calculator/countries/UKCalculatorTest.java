@@ -1,5 +1,6 @@
 package app.salary.calculator.countries;
 
+import app.salary.calculator.engine.CalculationBuffer;
 import app.salary.calculator.engine.CalculationInput;
 import app.salary.calculator.engine.CalculationResult;
 import app.salary.calculator.shared.DeductionCalculator;
@@ -300,11 +301,48 @@ class UKCalculatorTest {
         assertTrue(hasUpperRateExplanation);
     }
 
+    @Test
+    void calculateFixedPoint_shouldRoundTaxableIncomeAndStudentLoanDownToWholePounds() {
+        input.setAnnualGross(50000.50);
+        Posttax posttax = new Posttax();
+        posttax.setStudentLoanPlan(StudentLoanPlan.PLAN2);
+        input.setPosttax(posttax);
+
+        when(deductionCalculator.calculatePensionContributionMinor(any(), eq(5000050L), any())).thenReturn(0L);
+        when(bracketCalculator.calculateBracketTaxesMinor(eq(3743000L), any(), any()))
+            .thenReturn(new long[]{748600L});
+        when(studentLoanCalculator.calculateRepaymentMinor(eq(StudentLoanPlan.PLAN2), eq(5000050L), any(), any()))
+            .thenReturn(124567L);
+        when(deductionCalculator.calculatePosttaxDeductionsMinor(any())).thenReturn(0L);
+
+        CalculationResult result = calculator.calculateFixedPoint(input, rulePack);
+
+        assertEquals(37430.0, lineItem(result, "Taxable Income"));
+        assertEquals(7486.0, lineItem(result, "Income Tax (Basic Rate 20%)"));
+        // NI is 8% of £37,430.50 to the nearest penny
+        assertEquals(2994.44, lineItem(result, "Total National Insurance"));
+        assertEquals(1245.0, lineItem(result, "Student Loan (PLAN2)"));
+        assertEquals(38275.06, result.getNetAnnual());
+    }
+
+    @Test
+    void calculateJurisdiction_shouldThrowSinceUKHasNone() {
+        assertTrue(calculator.getJurisdictions(rulePack).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> calculator.calculateJurisdiction(
+                input, rulePack, new CalculationBuffer(), "Scotland", new CalculationBuffer()));
+    }
+
     @Test
     void getCountryCode_shouldReturnUK() {
         assertEquals("UK", calculator.getCountryCode());
     }
 
+    private static double lineItem(CalculationResult result, String name) {
+        return result.getLineItems().stream()
+            .filter(item -> item.getName().equals(name))
+            .findFirst().orElseThrow().getAmount();
+    }
+
     private TaxBracketCalculator.TaxBreakdown createTaxBreakdown(double totalTax) {
         TaxBracketCalculator.TaxBreakdown breakdown = new TaxBracketCalculator.TaxBreakdown();
         // Add a band to the breakdown which automatically updates totalTax
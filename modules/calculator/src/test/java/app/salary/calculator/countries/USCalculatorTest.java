@@ -1,5 +1,7 @@
 package app.salary.calculator.countries;
 
+import app.salary.calculator.engine.CalculationBuffer;
+import app.salary.calculator.engine.CalculationBuffer.Slot;
 import app.salary.calculator.engine.CalculationInput;
 import app.salary.calculator.engine.CalculationResult;
 import app.salary.calculator.shared.DeductionCalculator;
@@ -250,8 +252,79 @@ class USCalculatorTest {
         assertTrue(hasSocialSecurityLineItem);
     }
 
+    @Test
+    void calculateFixedPoint_shouldRoundEachLineToWholeCents() {
+        input.setAnnualGross(100000.01);
+
+        when(deductionCalculator.calculatePretaxDeductionsMinor(any(), eq(10000001L), any())).thenReturn(0L);
+        when(bracketCalculator.calculateTaxMinor(anyLong(), any(), any())).thenReturn(1000000L);
+        when(deductionCalculator.calculatePosttaxDeductionsMinor(any())).thenReturn(0L);
+
+        CalculationResult result = calculator.calculateFixedPoint(input, rulePack);
+
+        // Social Security 6200.00062 and Medicare 1450.000145 both round to the cent
+        assertEquals(100000.01, result.getGrossAnnual());
+        assertEquals(6200.0, lineItem(result, "FICA (Social Security)"));
+        assertEquals(1450.0, lineItem(result, "Medicare"));
+        assertEquals(72350.01, result.getNetAnnual());
+        assertEquals(27650.0, result.getTotalTax());
+    }
+
+    @Test
+    void calculateJurisdiction_shouldMatchFullCalculationInThatState() {
+        RulePack.StateRules mdRules = new RulePack.StateRules();
+        mdRules.setBrackets(new ArrayList<>());
+        mdRules.setLocal(0.032);
+        rulePack.getStates().put("MD", mdRules);
+
+        when(deductionCalculator.calculatePretaxDeductions(any(), anyDouble())).thenReturn(5000.0);
+        when(bracketCalculator.calculateTax(anyDouble(), anyList())).thenReturn(4000.0);
+        when(deductionCalculator.calculatePosttaxDeductions(any())).thenReturn(100.0);
+
+        CalculationBuffer base = new CalculationBuffer();
+        calculator.calculate(input, rulePack, base);
+        CalculationBuffer layer = new CalculationBuffer();
+        calculator.calculateJurisdiction(input, rulePack, base, "MD", layer);
+
+        input.getUsOptions().setState("MD");
+        CalculationBuffer full = new CalculationBuffer();
+        calculator.calculate(input, rulePack, full);
+
+        assertEquals(95000.0 * 0.032, layer.get(Slot.LOCAL_INCOME_TAX));
+        assertEquals(full.get(Slot.STATE_INCOME_TAX), layer.get(Slot.STATE_INCOME_TAX));
+        assertEquals(full.getNetAnnual(), layer.getNetAnnual());
+        assertEquals(full.getTotalTax(), layer.getTotalTax());
+    }
+
+    @Test
+    void calculateJurisdiction_withUnknownState_shouldThrow() {
+        CalculationBuffer base = new CalculationBuffer();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.calculateJurisdiction(input, rulePack, base, "ZZ", new CalculationBuffer()));
+    }
+
+    @Test
+    void warmupProfiles_shouldCoverEveryStateAndFilingStatus() {
+        List<CalculationInput> profiles = calculator.warmupProfiles(input, rulePack);
+
+        assertEquals(rulePack.getStates().size() * FilingStatus.values().length, profiles.size());
+        for (FilingStatus filingStatus : FilingStatus.values()) {
+            assertTrue(profiles.stream().anyMatch(profile ->
+                    profile.getUsOptions().getState().equals("CA")
+                            && profile.getUsOptions().getFilingStatus() == filingStatus));
+        }
+        assertEquals(Country.US, profiles.get(0).getCountry());
+    }
+
     @Test
     void getCountryCode_shouldReturnUS() {
         assertEquals("US", calculator.getCountryCode());
     }
+
+    private static double lineItem(CalculationResult result, String name) {
+        return result.getLineItems().stream()
+            .filter(item -> item.getName().equals(name))
+            .findFirst().orElseThrow().getAmount();
+    }
 }
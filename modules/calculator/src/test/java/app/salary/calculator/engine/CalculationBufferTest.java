@@ -0,0 +1,103 @@
+package app.salary.calculator.engine;
+
+import app.salary.common.constants.DetailLevel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalculationBufferTest {
+
+    @Test
+    void reset_afterCalculation_shouldClearEverySection() {
+        CalculationBuffer buffer = new CalculationBuffer();
+        buffer.setCurrency("GBP");
+        buffer.setNetAnnual(38000.0);
+        buffer.set(CalculationBuffer.Slot.INCOME_TAX, 7486.0);
+        buffer.setBracket(1, 12500.0, 0.40, 5000.0);
+        buffer.addLineItem("Total Income Tax", 7486.0);
+        buffer.addExplanation("tax_code", "Tax code %s used for calculation", "1257L");
+
+        buffer.reset(DetailLevel.FULL);
+
+        assertNull(buffer.getCurrency());
+        assertEquals(0.0, buffer.getNetAnnual());
+        assertEquals(0.0, buffer.get(CalculationBuffer.Slot.INCOME_TAX));
+        assertEquals(0, buffer.getBracketCount());
+        assertEquals(0.0, buffer.getBracketTax(1));
+        assertEquals(0, buffer.getLineItemCount());
+        assertEquals(0, buffer.getExplanationCount());
+    }
+
+    @Test
+    void reset_withNetOnly_shouldDropLineItemsAndExplanations() {
+        CalculationBuffer buffer = new CalculationBuffer();
+        buffer.reset(DetailLevel.NET_ONLY);
+
+        buffer.addLineItem("Gross Salary", 50000.0);
+        buffer.addExplanation("personal_allowance", "Full personal allowance of £%.0f applied", 12570.0);
+        CalculationResult result = buffer.toResult();
+
+        assertEquals(0, buffer.getLineItemCount());
+        assertEquals(0, buffer.getExplanationCount());
+        assertNull(result.getLineItems());
+        assertNull(result.getExplanations());
+    }
+
+    @Test
+    void addLineItem_pastInitialCapacity_shouldKeepEveryItemInOrder() {
+        CalculationBuffer buffer = new CalculationBuffer();
+        for (int i = 0; i < 40; i++) {
+            buffer.addLineItem("Item " + i, i);
+        }
+
+        assertEquals(40, buffer.getLineItemCount());
+        assertEquals("Item 39", buffer.getLineItemName(39));
+        assertEquals(39.0, buffer.getLineItemAmount(39));
+    }
+
+    @Test
+    void setBracket_beyondCapacity_shouldGrowAndTreatSkippedBracketsAsEmpty() {
+        CalculationBuffer buffer = new CalculationBuffer();
+        buffer.setBracket(0, 11600.0, 0.10, 1160.0);
+        buffer.setBracket(20, 1000.0, 0.37, 370.0);
+
+        assertEquals(21, buffer.getBracketCount());
+        assertEquals(0.0, buffer.getBracketIncome(5));
+        assertEquals(0.37, buffer.getBracketRate(20));
+        assertEquals(370.0, buffer.getBracketTax(20));
+    }
+
+    @Test
+    void toExplanation_shouldRenderEachArgumentKind() {
+        CalculationBuffer buffer = new CalculationBuffer();
+        buffer.addExplanation("verbatim", "100% of nothing");
+        buffer.addExplanation("tax_code", "Tax code %s used for calculation", (Object) null);
+        buffer.addExplanation("ni_upper_rate", "2%% rate on £%.2f (above £%.0f)", 1234.5, 50270.0);
+
+        assertEquals("100% of nothing", buffer.toExplanation(0).getText());
+        assertEquals("Tax code null used for calculation", buffer.toExplanation(1).getText());
+        assertEquals("2% rate on £1234.50 (above £50270)", buffer.toExplanation(2).getText());
+    }
+
+    @Test
+    void toResult_shouldCopyTotalsLineItemsAndExplanations() {
+        CalculationBuffer buffer = new CalculationBuffer();
+        buffer.reset(DetailLevel.FULL);
+        buffer.setCurrency("USD");
+        buffer.setRulePackVersion("US-2025.10.0");
+        buffer.setGrossAnnual(100000.0);
+        buffer.setNetAnnual(72350.0);
+        buffer.setTotalTax(27650.0);
+        buffer.addLineItem("Medicare", 1450.0);
+        buffer.addExplanation("state_tax", "Applied %s state tax rates", "CA");
+
+        CalculationResult result = buffer.toResult();
+
+        assertEquals("USD", result.getCurrency());
+        assertEquals("US-2025.10.0", result.getRulePackVersion());
+        assertEquals(72350.0, result.getNetAnnual());
+        assertEquals(27650.0, result.getTotalTax());
+        assertEquals("Medicare", result.getLineItems().get(0).getName());
+        assertEquals("Applied CA state tax rates", result.getExplanations().get(0).getText());
+    }
+}
@@ -0,0 +1,163 @@
+package app.salary.calculator.engine;
+
+import app.salary.common.constants.Country;
+import app.salary.common.constants.DetailLevel;
+import app.salary.common.constants.PayCadence;
+import app.salary.common.dto.Posttax;
+import app.salary.common.dto.Pretax;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalculationCoalescerTest {
+
+    private static final String VERSION = "UK-2025.4.0";
+
+    private CalculationCoalescer coalescer;
+    private AtomicInteger calculations;
+    private CountDownLatch leaderStarted;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new CalculationCoalescer(16);
+        calculations = new AtomicInteger();
+        leaderStarted = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+    }
+
+    @Test
+    void calculate_withIdenticalConcurrentInput_shouldCalculateOnceAndShareResult() throws Exception {
+        CompletableFuture<CalculationResult> leader = inBackground(ukInput(50000.0), blocking(() -> result(50000.0)));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        AtomicReference<Thread> waiterThread = new AtomicReference<>();
+        CompletableFuture<CalculationResult> waiter = CompletableFuture.supplyAsync(() -> {
+            waiterThread.set(Thread.currentThread());
+            return coalescer.calculate(ukInput(50000.0), VERSION, () -> result(50000.0));
+        });
+        awaitParked(waiterThread);
+        release.countDown();
+
+        assertSame(leader.get(5, TimeUnit.SECONDS), waiter.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calculations.get());
+        assertEquals(1, coalescer.coalescedCount());
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    void calculate_whenLeaderFails_shouldFailWaitersWithSameException() throws Exception {
+        IllegalStateException failure = new IllegalStateException("rule pack unavailable");
+        CompletableFuture<CalculationResult> leader = inBackground(ukInput(50000.0), blocking(() -> {
+            throw failure;
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        AtomicReference<Thread> waiterThread = new AtomicReference<>();
+        CompletableFuture<Throwable> waiter = CompletableFuture.supplyAsync(() -> {
+            waiterThread.set(Thread.currentThread());
+            try {
+                coalescer.calculate(ukInput(50000.0), VERSION, () -> result(50000.0));
+                return null;
+            } catch (RuntimeException e) {
+                return e;
+            }
+        });
+        awaitParked(waiterThread);
+        release.countDown();
+
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class,
+                () -> leader.get(5, TimeUnit.SECONDS));
+        assertSame(failure, leaderFailure.getCause());
+        assertSame(failure, waiter.get(5, TimeUnit.SECONDS));
+        assertEquals(0, calculations.get());
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    void calculate_beyondMaxInFlight_shouldCalculateWithoutCoalescing() throws Exception {
+        coalescer = new CalculationCoalescer(1);
+        CompletableFuture<CalculationResult> leader = inBackground(ukInput(50000.0), blocking(() -> result(50000.0)));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        CalculationResult bypassed = coalescer.calculate(ukInput(50000.0), VERSION, () -> result(50000.0));
+        release.countDown();
+
+        assertNotSame(bypassed, leader.get(5, TimeUnit.SECONDS));
+        assertEquals(2, calculations.get());
+        assertEquals(0, coalescer.coalescedCount());
+    }
+
+    @Test
+    void calculate_afterCompletion_shouldNotRetainResult() {
+        CalculationResult first = coalescer.calculate(ukInput(50000.0), VERSION, () -> result(50000.0));
+        CalculationResult second = coalescer.calculate(ukInput(50000.0), VERSION, () -> result(50000.0));
+
+        assertNotSame(first, second);
+        assertEquals(2, calculations.get());
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    void constructor_withNonPositiveLimit_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new CalculationCoalescer(0));
+    }
+
+    private CompletableFuture<CalculationResult> inBackground(CalculationInput input,
+                                                              Supplier<CalculationResult> calculation) {
+        return CompletableFuture.supplyAsync(() -> coalescer.calculate(input, VERSION, calculation));
+    }
+
+    /** Wraps {@code calculation} so it signals {@link #leaderStarted} and then holds until released. */
+    private Supplier<CalculationResult> blocking(Supplier<CalculationResult> calculation) {
+        return () -> {
+            leaderStarted.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return calculation.get();
+        };
+    }
+
+    /** Waits until the waiter has joined the in-flight calculation and parked on it. */
+    private static void awaitParked(AtomicReference<Thread> waiter) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (waiter.get() == null || waiter.get().getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < deadline, "waiter did not join the in-flight calculation");
+            Thread.sleep(1);
+        }
+    }
+
+    private CalculationResult result(double gross) {
+        calculations.incrementAndGet();
+        CalculationBuffer buffer = new CalculationBuffer();
+        buffer.reset(DetailLevel.NET_ONLY);
+        buffer.setGrossAnnual(gross);
+        buffer.setNetAnnual(gross * 0.75);
+        buffer.setCurrency("GBP");
+        buffer.setRulePackVersion(VERSION);
+        return buffer.toResult();
+    }
+
+    private static CalculationInput ukInput(double annualGross) {
+        CalculationInput input = new CalculationInput();
+        input.setCountry(Country.UK);
+        input.setTaxYear(2025);
+        input.setAnnualGross(annualGross);
+        input.setPayCadence(PayCadence.ANNUAL);
+        input.setPretax(new Pretax());
+        input.setPosttax(new Posttax());
+        return input;
+    }
+}
@@ -1,5 +1,6 @@
 package app.salary.calculator.engine;
 
+import app.salary.common.constants.Arithmetic;
 import app.salary.common.constants.Country;
 import app.salary.common.constants.FilingStatus;
 import app.salary.common.constants.PayCadence;
@@ -133,6 +134,21 @@ class CalculationInputTest {
         assertEquals(PayCadence.ANNUAL, input.getPayCadence());
         assertNotNull(input.getPretax());
         assertNotNull(input.getPosttax());
+        assertEquals(Arithmetic.DOUBLE, input.getArithmetic());
+    }
+
+    @Test
+    void from_withFixedPointArithmetic_shouldCarryItIntoCopies() {
+        CalculateRequest request = new CalculateRequest();
+        request.setCountry(Country.UK);
+        request.setTaxYear(2025);
+        request.setAnnualSalary(40000.0);
+        request.setArithmetic(Arithmetic.FIXED_POINT);
+
+        CalculationInput input = CalculationInput.from(request);
+
+        assertEquals(Arithmetic.FIXED_POINT, input.getArithmetic());
+        assertEquals(Arithmetic.FIXED_POINT, input.withAnnualGross(50000.0).getArithmetic());
     }
 
     @Test
@@ -0,0 +1,120 @@
+package app.salary.calculator.engine;
+
+import app.salary.common.constants.Country;
+import app.salary.common.constants.DetailLevel;
+import app.salary.common.constants.PayCadence;
+import app.salary.common.dto.Posttax;
+import app.salary.common.dto.Pretax;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalculationResultCacheTest {
+
+    private CalculationResultCache cache;
+    private AtomicInteger calculations;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CalculationResultCache(1024 * 1024);
+        calculations = new AtomicInteger();
+    }
+
+    @Test
+    void get_withSameNormalizedInput_shouldCalculateOnceAndShareResult() {
+        CalculationResult first = cache.get(ukInput(50000.0), "UK-2025.4.0",
+                () -> result(50000.0, "UK-2025.4.0"));
+        CalculationInput equivalent = ukInput(50000.0);
+        equivalent.getPretax().setPercent(null);
+        CalculationResult second = cache.get(equivalent, "UK-2025.4.0",
+                () -> result(50000.0, "UK-2025.4.0"));
+
+        assertEquals(1, calculations.get());
+        assertSame(first, second);
+    }
+
+    @Test
+    void get_withDifferentGross_shouldCalculateAgain() {
+        cache.get(ukInput(50000.0), "UK-2025.4.0", () -> result(50000.0, "UK-2025.4.0"));
+        cache.get(ukInput(60000.0), "UK-2025.4.0", () -> result(60000.0, "UK-2025.4.0"));
+
+        assertEquals(2, calculations.get());
+    }
+
+    @Test
+    void get_withDifferentCadence_shouldShareOneAnnualResult() {
+        CalculationResult annual = cache.get(ukInput(50000.0), "UK-2025.4.0",
+                () -> result(50000.0, "UK-2025.4.0"));
+        CalculationInput monthly = ukInput(50000.0);
+        monthly.setPayCadence(PayCadence.MONTHLY);
+        CalculationResult shared = cache.get(monthly, "UK-2025.4.0", () -> result(50000.0, "UK-2025.4.0"));
+
+        assertEquals(1, calculations.get());
+        assertSame(annual, shared);
+        assertEquals(3125.0, shared.toCadence(PayCadence.MONTHLY).getNetPerCadence(), 1e-9);
+    }
+
+    @Test
+    void get_afterRulePackVersionChange_shouldRecalculateAndEvictStaleEntries() {
+        cache.get(ukInput(50000.0), "UK-2025.4.0", () -> result(50000.0, "UK-2025.4.0"));
+        cache.get(ukInput(60000.0), "UK-2025.4.0", () -> result(60000.0, "UK-2025.4.0"));
+
+        CalculationResult republished = cache.get(ukInput(50000.0), "UK-2025.5.0",
+                () -> result(50000.0, "UK-2025.5.0"));
+
+        assertEquals(3, calculations.get());
+        assertEquals("UK-2025.5.0", republished.getRulePackVersion());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void get_shouldWeighResultWithoutRenderingDeferredExplanations() {
+        AtomicInteger renders = new AtomicInteger();
+        Object taxCode = new Object() {
+            @Override
+            public String toString() {
+                renders.incrementAndGet();
+                return "1257L";
+            }
+        };
+        CalculationBuffer buffer = new CalculationBuffer();
+        buffer.reset(DetailLevel.FULL);
+        buffer.setGrossAnnual(50000.0);
+        buffer.setNetAnnual(37500.0);
+        buffer.setCurrency("GBP");
+        buffer.setRulePackVersion("UK-2025.4.0");
+        buffer.addLineItem("Income Tax", 7486.0);
+        buffer.addExplanation("tax_code", "Tax code %s used for calculation", taxCode);
+
+        CalculationResult cached = cache.get(ukInput(50000.0), "UK-2025.4.0", buffer::toResult);
+
+        assertEquals(0, renders.get());
+        assertEquals("Tax code 1257L used for calculation", cached.getExplanations().get(0).getText());
+        assertEquals(1, renders.get());
+    }
+
+    private CalculationResult result(double gross, String rulePackVersion) {
+        calculations.incrementAndGet();
+        CalculationBuffer buffer = new CalculationBuffer();
+        buffer.reset(DetailLevel.NET_ONLY);
+        buffer.setGrossAnnual(gross);
+        buffer.setNetAnnual(gross * 0.75);
+        buffer.setCurrency("GBP");
+        buffer.setRulePackVersion(rulePackVersion);
+        return buffer.toResult();
+    }
+
+    private static CalculationInput ukInput(double annualGross) {
+        CalculationInput input = new CalculationInput();
+        input.setCountry(Country.UK);
+        input.setTaxYear(2025);
+        input.setAnnualGross(annualGross);
+        input.setPayCadence(PayCadence.ANNUAL);
+        input.setPretax(new Pretax());
+        input.setPosttax(new Posttax());
+        return input;
+    }
+}
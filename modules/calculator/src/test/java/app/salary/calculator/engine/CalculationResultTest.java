@@ -0,0 +1,59 @@
+package app.salary.calculator.engine;
+
+import app.salary.common.constants.Arithmetic;
+import app.salary.common.constants.DetailLevel;
+import app.salary.common.constants.PayCadence;
+import app.salary.common.dto.CadenceBreakdown;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalculationResultTest {
+
+    @Test
+    void toCadence_shouldProjectEveryAmountWithoutChangingTheAnnualResult() {
+        CalculationResult result = result(Arithmetic.DOUBLE);
+
+        CadenceBreakdown monthly = result.toCadence(PayCadence.MONTHLY);
+        CadenceBreakdown weekly = result.toCadence(PayCadence.WEEKLY);
+
+        assertEquals(PayCadence.MONTHLY, monthly.getCadence());
+        assertEquals(50000.5 / 12, monthly.getGrossPerCadence());
+        assertEquals(7486.0 / 52, weekly.getTotalTaxPerCadence());
+        assertEquals(7486.0 / 12, monthly.getLineItems().get(1).getAmount());
+        assertEquals(7486.0 / 52, weekly.getLineItems().get(1).getAmount());
+        assertEquals(7486.0, result.getLineItems().get(1).getAmount());
+    }
+
+    @Test
+    void toCadence_withFixedPoint_shouldRoundEachPeriodHalfUpToWholeMinorUnits() {
+        CadenceBreakdown monthly = result(Arithmetic.FIXED_POINT).toCadence(PayCadence.MONTHLY);
+
+        assertEquals(4166.71, monthly.getGrossPerCadence());
+        assertEquals(623.83, monthly.getLineItems().get(1).getAmount());
+    }
+
+    @Test
+    void getLineItems_whenCallerModifiesList_shouldNotAffectResult() {
+        CalculationResult result = result(Arithmetic.DOUBLE);
+
+        result.getLineItems().get(0).setAmount(0.0);
+        result.getLineItems().clear();
+
+        assertEquals(2, result.getLineItems().size());
+        assertEquals(50000.5, result.getLineItems().get(0).getAmount());
+        assertThrows(UnsupportedOperationException.class, () -> result.getExplanations().clear());
+    }
+
+    private static CalculationResult result(Arithmetic arithmetic) {
+        CalculationBuffer buffer = new CalculationBuffer();
+        buffer.reset(DetailLevel.FULL, arithmetic);
+        buffer.setGrossAnnual(50000.5);
+        buffer.setNetAnnual(50000.5 - 7486.0);
+        buffer.setTotalTax(7486.0);
+        buffer.addLineItem("Gross Salary", 50000.5);
+        buffer.addLineItem("Total Income Tax", 7486.0);
+        buffer.addExplanation("tax_code", "Tax code %s used for calculation", "1257L");
+        return buffer.toResult();
+    }
+}
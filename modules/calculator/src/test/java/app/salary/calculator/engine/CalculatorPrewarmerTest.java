@@ -0,0 +1,107 @@
+package app.salary.calculator.engine;
+
+import app.salary.calculator.registry.CalculatorRegistry;
+import app.salary.common.constants.Country;
+import app.salary.common.constants.DetailLevel;
+import app.salary.rules.RulePack;
+import app.salary.rules.RulesRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CalculatorPrewarmerTest {
+
+    private RulesRegistry rulesRegistry;
+    private RecordingCalculator calculator;
+    private CalculatorPrewarmer prewarmer;
+
+    @BeforeEach
+    void setUp() {
+        rulesRegistry = mock(RulesRegistry.class);
+        calculator = new RecordingCalculator();
+        CalculatorRegistry calculatorRegistry = new CalculatorRegistry(List.of(calculator));
+        prewarmer = new CalculatorPrewarmer(rulesRegistry, calculatorRegistry, Runnable::run, 2);
+    }
+
+    @Test
+    void prewarm_withRegisteredCalculator_shouldCalculateEverySalaryAndDetailLevel() {
+        RulePack rulePack = new RulePack();
+        when(rulesRegistry.getRulePack("UK", 2025)).thenReturn(rulePack);
+
+        prewarmer.prewarm("UK", 2025).join();
+
+        verify(rulesRegistry).getRulePack("UK", 2025);
+        assertEquals(2 * CalculatorPrewarmer.SALARIES.length * DetailLevel.values().length,
+                calculator.inputs.size());
+        assertTrue(calculator.inputs.stream().allMatch(input ->
+                input.getCountry() == Country.UK && input.getTaxYear() == 2025));
+        assertTrue(calculator.inputs.stream().anyMatch(input -> input.getDetail() == DetailLevel.NET_ONLY));
+        assertSame(rulePack, calculator.rulePack);
+    }
+
+    @Test
+    void prewarm_withoutRegisteredCalculator_shouldStillLoadRulePack() {
+        when(rulesRegistry.getRulePack("US", 2025)).thenReturn(new RulePack());
+
+        prewarmer.prewarm("US", 2025).join();
+
+        verify(rulesRegistry).getRulePack("US", 2025);
+        assertTrue(calculator.inputs.isEmpty());
+    }
+
+    @Test
+    void prewarm_whenRulePackFailsToLoad_shouldCompleteExceptionally() {
+        when(rulesRegistry.getRulePack("UK", 2025)).thenThrow(new RuntimeException("Invalid rule pack"));
+
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> prewarmer.prewarm("UK", 2025).join());
+
+        assertEquals("Invalid rule pack", e.getCause().getMessage());
+        assertTrue(calculator.inputs.isEmpty());
+    }
+
+    private static final class RecordingCalculator implements CountryCalculator {
+        private final List<CalculationInput> inputs = new ArrayList<>();
+        private RulePack rulePack;
+
+        @Override
+        public boolean supports(Country country, int taxYear) {
+            return country == Country.UK && taxYear == 2025;
+        }
+
+        @Override
+        public CalculationResult calculate(CalculationInput input, RulePack rules) {
+            // Copy, since the prewarmer reuses one input across detail levels
+            CalculationInput seen = input.withAnnualGross(input.getAnnualGross());
+            inputs.add(seen);
+            rulePack = rules;
+            CalculationBuffer buffer = new CalculationBuffer();
+            buffer.reset(input.getDetail());
+            buffer.setNetAnnual(input.getAnnualGross());
+            return buffer.toResult();
+        }
+
+        @Override
+        public void calculateFixedPoint(CalculationInput input, RulePack rules, CalculationBuffer buffer) {
+            calculate(input, rules, buffer);
+        }
+
+        @Override
+        public double[] netPayBreakpoints(CalculationInput profile, RulePack rules) {
+            // Net pay is linear in gross, so there are no breakpoints
+            return new double[0];
+        }
+
+        @Override
+        public void calculateJurisdiction(CalculationInput input, RulePack rules, CalculationBuffer base,
+                                          String jurisdiction, CalculationBuffer out) {
+            throw new IllegalArgumentException("No jurisdiction " + jurisdiction);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package app.salary.calculator.engine;
+
+import app.salary.calculator.countries.UKCalculator;
+import app.salary.calculator.countries.USCalculator;
+import app.salary.calculator.shared.DeductionCalculator;
+import app.salary.calculator.shared.StudentLoanCalculator;
+import app.salary.calculator.shared.TaxBracketCalculator;
+import app.salary.common.constants.Country;
+import app.salary.common.constants.FilingStatus;
+import app.salary.common.constants.StudentLoanPlan;
+import app.salary.common.dto.CountryOptionsUS;
+import app.salary.common.dto.Posttax;
+import app.salary.common.dto.Pretax;
+import app.salary.rules.RulePack;
+import app.salary.rules.RulesRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class NetPayFunctionTest {
+
+    private static final RulesRegistry RULES = new RulesRegistry();
+
+    @Spy
+    private TaxBracketCalculator bracketCalculator = new TaxBracketCalculator();
+
+    @Spy
+    private DeductionCalculator deductionCalculator = new DeductionCalculator();
+
+    @Spy
+    private StudentLoanCalculator studentLoanCalculator = new StudentLoanCalculator();
+
+    @InjectMocks
+    private USCalculator usCalculator;
+
+    @InjectMocks
+    private UKCalculator ukCalculator;
+
+    @Test
+    void netAnnual_forUS_shouldMatchCalculatorAcrossBrackets() {
+        CalculationInput profile = usProfile("MD", FilingStatus.SINGLE);
+        profile.getPretax().setPercent(0.05);
+        profile.getPretax().setHsa(3000.0);
+        RulePack rules = RULES.getRulePack("US", 2025);
+
+        assertMatchesCalculator(profile, rules, usCalculator);
+    }
+
+    @Test
+    void netAnnual_forUKWithTaperAndStudentLoan_shouldMatchCalculator() {
+        CalculationInput profile = ukProfile();
+        profile.getPretax().setPensionPercent(0.05);
+        profile.getPosttax().setStudentLoanPlan(StudentLoanPlan.PLAN2);
+        RulePack rules = RULES.getRulePack("UK", 2025);
+
+        assertMatchesCalculator(profile, rules, ukCalculator);
+    }
+
+    @Test
+    void grossForNet_shouldInvertNetAnnual() {
+        RulePack rules = RULES.getRulePack("UK", 2025);
+        NetPayFunction function = NetPayFunction.derive(ukProfile(), rules, ukCalculator);
+
+        // 110000 sits inside the personal allowance taper
+        double net = function.netAnnual(110000.0);
+        assertEquals(110000.0, function.grossForNet(net), 1e-6);
+    }
+
+    @Test
+    void marginalTaxRate_inUKTaper_shouldIncludeLostAllowance() {
+        RulePack rules = RULES.getRulePack("UK", 2025);
+        NetPayFunction function = NetPayFunction.derive(ukProfile(), rules, ukCalculator);
+
+        // 40% higher rate * 1.5 for the taper plus 2% upper NI
+        assertEquals(0.62, function.marginalTaxRate(110000.0), 1e-9);
+        assertEquals("GBP", function.getCurrency());
+    }
+
+    private void assertMatchesCalculator(CalculationInput profile, RulePack rules, CountryCalculator calculator) {
+        NetPayFunction function = NetPayFunction.derive(profile, rules, calculator);
+
+        for (double gross = 0; gross <= 800000; gross += 1237.5) {
+            CalculationResult expected = calculator.calculate(profile.withAnnualGross(gross), rules);
+            assertEquals(expected.getNetAnnual(), function.netAnnual(gross), 1e-6, "net at " + gross);
+            assertEquals(expected.getTotalTax(), function.totalTaxAnnual(gross), 1e-6, "tax at " + gross);
+        }
+    }
+
+    private static CalculationInput usProfile(String state, FilingStatus filingStatus) {
+        CalculationInput input = new CalculationInput();
+        input.setCountry(Country.US);
+        input.setTaxYear(2025);
+        input.setPretax(new Pretax());
+        input.setPosttax(new Posttax());
+        CountryOptionsUS usOptions = new CountryOptionsUS();
+        usOptions.setState(state);
+        usOptions.setFilingStatus(filingStatus);
+        input.setUsOptions(usOptions);
+        return input;
+    }
+
+    private static CalculationInput ukProfile() {
+        CalculationInput input = new CalculationInput();
+        input.setCountry(Country.UK);
+        input.setTaxYear(2025);
+        input.setPretax(new Pretax());
+        input.setPosttax(new Posttax());
+        return input;
+    }
+}
@@ -0,0 +1,50 @@
+package app.salary.calculator.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PiecewiseLinearFunctionTest {
+
+    // f(x) = x on [0, 10], flat at 10 on [10, 20], then 2x - 30
+    private final PiecewiseLinearFunction function = PiecewiseLinearFunction.fit(
+            new double[]{0.0, 10.0, 20.0}, new double[]{0.0, 10.0, 10.0}, 2.0);
+
+    @Test
+    void evaluate_shouldInterpolateWithinSegments() {
+        assertEquals(5.0, function.evaluate(5.0), 1e-12);
+        assertEquals(10.0, function.evaluate(15.0), 1e-12);
+        assertEquals(30.0, function.evaluate(30.0), 1e-12);
+    }
+
+    @Test
+    void slope_shouldReturnRightDerivative() {
+        assertEquals(1.0, function.slope(0.0), 1e-12);
+        assertEquals(0.0, function.slope(10.0), 1e-12);
+        assertEquals(2.0, function.slope(20.0), 1e-12);
+    }
+
+    @Test
+    void inverse_shouldSolveOnRisingSegments() {
+        assertEquals(4.0, function.inverse(4.0), 1e-12);
+        assertEquals(25.0, function.inverse(20.0), 1e-12);
+    }
+
+    @Test
+    void inverse_onFlatSegment_shouldReturnSmallestSolution() {
+        assertEquals(10.0, function.inverse(10.0), 1e-12);
+    }
+
+    @Test
+    void inverse_belowStart_shouldClampToDomainStart() {
+        assertEquals(0.0, function.inverse(-5.0), 1e-12);
+    }
+
+    @Test
+    void inverse_withUnreachableTarget_shouldReturnNaN() {
+        PiecewiseLinearFunction capped = PiecewiseLinearFunction.fit(
+                new double[]{0.0, 10.0}, new double[]{0.0, 10.0}, 0.0);
+
+        assertTrue(Double.isNaN(capped.inverse(11.0)));
+    }
+}
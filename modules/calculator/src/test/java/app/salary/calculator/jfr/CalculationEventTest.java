@@ -0,0 +1,18 @@
+package app.salary.calculator.jfr;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalculationEventTest {
+
+    @Test
+    void salaryBucket_shouldUseLowerBoundInclusiveBands() {
+        assertEquals("0-25k", CalculationEvent.salaryBucket(0.0));
+        assertEquals("0-25k", CalculationEvent.salaryBucket(24_999.99));
+        assertEquals("25k-50k", CalculationEvent.salaryBucket(25_000.0));
+        assertEquals("100k-150k", CalculationEvent.salaryBucket(110_000.0));
+        assertEquals("500k-1m", CalculationEvent.salaryBucket(999_999.0));
+        assertEquals("1m+", CalculationEvent.salaryBucket(5_000_000.0));
+    }
+}
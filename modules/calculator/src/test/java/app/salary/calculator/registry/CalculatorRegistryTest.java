@@ -0,0 +1,111 @@
+package app.salary.calculator.registry;
+
+import app.salary.calculator.countries.UKCalculator;
+import app.salary.calculator.countries.USCalculator;
+import app.salary.calculator.engine.CalculationBuffer;
+import app.salary.calculator.engine.CalculationInput;
+import app.salary.calculator.engine.CalculationResult;
+import app.salary.calculator.engine.CountryCalculator;
+import app.salary.common.constants.Country;
+import app.salary.rules.RulePack;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalculatorRegistryTest {
+
+    private USCalculator usCalculator;
+    private UKCalculator ukCalculator;
+    private CalculatorRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        usCalculator = new USCalculator();
+        ukCalculator = new UKCalculator();
+        registry = new CalculatorRegistry(List.of(usCalculator, ukCalculator));
+    }
+
+    @Test
+    void getCalculator_shouldDispatchByCountry() {
+        assertSame(usCalculator, registry.getCalculator(Country.US, 2025));
+        assertSame(ukCalculator, registry.getCalculator(Country.UK, 2030));
+    }
+
+    @Test
+    void getCalculator_withUnsupportedYear_shouldThrow() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> registry.getCalculator(Country.US, 2024));
+        assertEquals("No calculator found for country US and tax year 2024", ex.getMessage());
+    }
+
+    @Test
+    void getCalculator_withNullCountry_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> registry.getCalculator(null, 2025));
+    }
+
+    @Test
+    void isCountrySupported_shouldUseYearRanges() {
+        assertTrue(registry.isCountrySupported(Country.UK, 2025));
+        assertFalse(registry.isCountrySupported(Country.UK, 2024));
+    }
+
+    @Test
+    void getSupportedCountries_shouldBeComputedOnce() {
+        List<Country> countries = registry.getSupportedCountries();
+
+        assertEquals(List.of(Country.US, Country.UK), countries);
+        assertSame(countries, registry.getSupportedCountries());
+        assertEquals(2, registry.getCalculatorCount());
+    }
+
+    @Test
+    void getCalculator_withProbedRange_shouldHonourFirstRegistered() {
+        CountryCalculator legacy = new FixedRangeCalculator(2020, 2026);
+        CalculatorRegistry overlapping = new CalculatorRegistry(List.of(legacy, usCalculator));
+
+        assertSame(legacy, overlapping.getCalculator(Country.US, 2025));
+        assertSame(usCalculator, overlapping.getCalculator(Country.US, 2027));
+        assertSame(legacy, overlapping.getCalculator(Country.US, 2020));
+        assertFalse(overlapping.isCountrySupported(Country.US, 2019));
+    }
+
+    private static class FixedRangeCalculator implements CountryCalculator {
+        private final int firstYear;
+        private final int lastYear;
+
+        FixedRangeCalculator(int firstYear, int lastYear) {
+            this.firstYear = firstYear;
+            this.lastYear = lastYear;
+        }
+
+        @Override
+        public boolean supports(Country country, int taxYear) {
+            return country == Country.US && taxYear >= firstYear && taxYear <= lastYear;
+        }
+
+        @Override
+        public CalculationResult calculate(CalculationInput input, RulePack rules) {
+            return new CalculationBuffer().toResult();
+        }
+
+        @Override
+        public void calculateFixedPoint(CalculationInput input, RulePack rules, CalculationBuffer buffer) {
+            calculate(input, rules, buffer);
+        }
+
+        @Override
+        public double[] netPayBreakpoints(CalculationInput profile, RulePack rules) {
+            // Net pay is always zero, so there are no breakpoints
+            return new double[0];
+        }
+
+        @Override
+        public void calculateJurisdiction(CalculationInput input, RulePack rules, CalculationBuffer base,
+                                          String jurisdiction, CalculationBuffer out) {
+            throw new IllegalArgumentException("No jurisdiction " + jurisdiction);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package app.salary.common.constants;
+
+/**
+ * Number representation a calculation runs in. {@code DOUBLE} is the original floating-point
+ * engine; {@code FIXED_POINT} works in {@code long} minor units (cents, pence) and applies each
+ * country's statutory rounding, so every amount is a whole number of minor units.
+ */
+public enum Arithmetic {
+    DOUBLE,
+    FIXED_POINT
+}
@@ -1,6 +1,17 @@
 package app.salary.common.constants;
 
 public enum Country {
-    US,
-    UK
+    US("USD"),
+    UK("GBP");
+
+    private final String currency;
+
+    Country(String currency) {
+        this.currency = currency;
+    }
+
+    /** ISO 4217 code of the currency salaries and results are expressed in. */
+    public String getCurrency() {
+        return currency;
+    }
 }
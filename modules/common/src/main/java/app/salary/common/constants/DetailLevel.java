@@ -0,0 +1,27 @@
+package app.salary.common.constants;
+
+/**
+ * How much of a calculation's working is returned alongside net pay. Lower levels skip building
+ * line items and explanations entirely.
+ */
+public enum DetailLevel {
+    NET_ONLY(false, false),
+    LINE_ITEMS(true, false),
+    FULL(true, true);
+
+    private final boolean lineItems;
+    private final boolean explanations;
+
+    DetailLevel(boolean lineItems, boolean explanations) {
+        this.lineItems = lineItems;
+        this.explanations = explanations;
+    }
+
+    public boolean includesLineItems() {
+        return lineItems;
+    }
+
+    public boolean includesExplanations() {
+        return explanations;
+    }
+}
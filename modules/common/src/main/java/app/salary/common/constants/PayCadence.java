@@ -1,5 +1,9 @@
 package app.salary.common.constants;
 
+import app.salary.common.money.FixedPoint;
+
+import java.math.RoundingMode;
+
 public enum PayCadence {
     ANNUAL(1),
     MONTHLY(12),
@@ -15,4 +19,16 @@ public enum PayCadence {
     public int getPeriodsPerYear() {
         return periodsPerYear;
     }
+
+    /**
+     * {@code annual} spread over one period of this cadence. Fixed-point amounts stay whole minor
+     * units per period, rounded half up.
+     */
+    public double perPeriod(double annual, Arithmetic arithmetic) {
+        if (arithmetic == Arithmetic.FIXED_POINT) {
+            return FixedPoint.toMajor(FixedPoint.divide(
+                    FixedPoint.toMinor(annual), periodsPerYear, RoundingMode.HALF_UP));
+        }
+        return annual / periodsPerYear;
+    }
 }
@@ -0,0 +1,22 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@ExcludeFromCodeCoverage
+@Schema(description = "Batch of salary calculations; each item is validated and calculated independently")
+public class BatchCalculateRequest {
+    public static final int MAX_BATCH_SIZE = 10_000;
+
+    @NotEmpty
+    @Size(max = MAX_BATCH_SIZE)
+    @Schema(description = "Calculation requests (up to 10000)", required = true)
+    private List<CalculateRequest> requests;
+
+    public List<CalculateRequest> getRequests() { return requests; }
+    public void setRequests(List<CalculateRequest> requests) { this.requests = requests; }
+}
@@ -0,0 +1,39 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@ExcludeFromCodeCoverage
+@Schema(description = "Per-item results of a batch calculation, in submission order")
+public class BatchCalculateResponse {
+    @Schema(description = "One entry per submitted request, in the same order")
+    private List<BatchItemResult> results;
+
+    @Schema(description = "Number of items that calculated successfully", example = "998")
+    private int succeeded;
+
+    @Schema(description = "Number of items that failed validation or calculation", example = "2")
+    private int failed;
+
+    public BatchCalculateResponse() {}
+
+    public BatchCalculateResponse(List<BatchItemResult> results) {
+        this.results = results;
+        for (BatchItemResult item : results) {
+            if (item.getError() == null) {
+                succeeded++;
+            } else {
+                failed++;
+            }
+        }
+    }
+
+    public List<BatchItemResult> getResults() { return results; }
+    public void setResults(List<BatchItemResult> results) { this.results = results; }
+    public int getSucceeded() { return succeeded; }
+    public void setSucceeded(int succeeded) { this.succeeded = succeeded; }
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+}
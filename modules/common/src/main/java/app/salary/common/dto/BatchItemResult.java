@@ -0,0 +1,40 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@ExcludeFromCodeCoverage
+@Schema(description = "Outcome of one item in a batch: either a result or an error")
+public class BatchItemResult {
+    @Schema(description = "Position of the item in the submitted batch", example = "0")
+    private int index;
+
+    @Schema(description = "Calculation result (absent when the item failed)")
+    private CalculateResponse result;
+
+    @Schema(description = "Error message (absent when the item succeeded)", example = "State is required for US tax calculations")
+    private String error;
+
+    public BatchItemResult() {}
+
+    public static BatchItemResult success(int index, CalculateResponse result) {
+        BatchItemResult item = new BatchItemResult();
+        item.index = index;
+        item.result = result;
+        return item;
+    }
+
+    public static BatchItemResult failure(int index, String error) {
+        BatchItemResult item = new BatchItemResult();
+        item.index = index;
+        item.error = error;
+        return item;
+    }
+
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+    public CalculateResponse getResult() { return result; }
+    public void setResult(CalculateResponse result) { this.result = result; }
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -0,0 +1,68 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import app.salary.common.constants.Arithmetic;
+import app.salary.common.constants.PayCadence;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only view of an annual calculation at one pay cadence. Per-period amounts are computed
+ * from the annual ones each time they are read, typically once during serialization, so any
+ * number of views can share one calculation.
+ */
+@ExcludeFromCodeCoverage
+@JsonPropertyOrder({"cadence", "grossPerCadence", "netPerCadence", "totalTaxPerCadence", "lineItems"})
+@Schema(description = "Gross, net, total tax and line items per payment period for one pay cadence")
+public final class CadenceBreakdown {
+    private final PayCadence cadence;
+    private final Arithmetic arithmetic;
+    private final double grossAnnual;
+    private final double netAnnual;
+    private final double totalTaxAnnual;
+    private final String[] lineItemNames;
+    private final double[] lineItemAmounts;
+
+    /**
+     * The line item arrays are shared, not copied, and must not be modified afterwards;
+     * {@code lineItemNames} is {@code null} when the calculation has no line items.
+     */
+    public CadenceBreakdown(PayCadence cadence, Arithmetic arithmetic,
+                            double grossAnnual, double netAnnual, double totalTaxAnnual,
+                            String[] lineItemNames, double[] lineItemAmounts) {
+        this.cadence = cadence;
+        this.arithmetic = arithmetic;
+        this.grossAnnual = grossAnnual;
+        this.netAnnual = netAnnual;
+        this.totalTaxAnnual = totalTaxAnnual;
+        this.lineItemNames = lineItemNames;
+        this.lineItemAmounts = lineItemAmounts;
+    }
+
+    @Schema(description = "Pay frequency of these amounts", example = "MONTHLY")
+    public PayCadence getCadence() { return cadence; }
+
+    @Schema(description = "Gross pay per payment period", example = "8333.33")
+    public double getGrossPerCadence() { return cadence.perPeriod(grossAnnual, arithmetic); }
+
+    @Schema(description = "Net take-home pay per payment period", example = "6046.35")
+    public double getNetPerCadence() { return cadence.perPeriod(netAnnual, arithmetic); }
+
+    @Schema(description = "Income tax and social contributions per payment period", example = "2286.98")
+    public double getTotalTaxPerCadence() { return cadence.perPeriod(totalTaxAnnual, arithmetic); }
+
+    @Schema(description = "Itemized deductions and taxes per payment period")
+    public List<LineItem> getLineItems() {
+        if (lineItemNames == null) {
+            return null;
+        }
+        List<LineItem> lineItems = new ArrayList<>(lineItemNames.length);
+        for (int i = 0; i < lineItemNames.length; i++) {
+            lineItems.add(new LineItem(lineItemNames[i], cadence.perPeriod(lineItemAmounts[i], arithmetic)));
+        }
+        return lineItems;
+    }
+}
@@ -1,7 +1,9 @@
 package app.salary.common.dto;
 
 import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import app.salary.common.constants.Arithmetic;
 import app.salary.common.constants.Country;
+import app.salary.common.constants.DetailLevel;
 import app.salary.common.constants.PayCadence;
 import app.salary.common.validation.ValidCountryOptions;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -9,10 +11,12 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.List;
+
 @ExcludeFromCodeCoverage
 @ValidCountryOptions
 @Schema(description = "Request to calculate net salary with tax breakdown")
-public class CalculateRequest {
+public class CalculateRequest implements CalculationProfileRequest {
     @NotNull
     @Schema(description = "Country code", example = "US", required = true)
     private Country country;
@@ -42,6 +46,18 @@ public class CalculateRequest {
     @Schema(description = "Country-specific options")
     private CountryOptions countryOptions;
 
+    @Schema(description = "Response detail: NET_ONLY, LINE_ITEMS, or FULL with explanations (defaults to FULL)",
+            example = "FULL")
+    private DetailLevel detail = DetailLevel.FULL;
+
+    @Schema(description = "Engine arithmetic: DOUBLE, or FIXED_POINT for whole cents/pence with each "
+            + "country's rounding rules (defaults to DOUBLE)", example = "DOUBLE")
+    private Arithmetic arithmetic = Arithmetic.DOUBLE;
+
+    @Schema(description = "Further pay cadences to include in the response, each projected from the same "
+            + "annual calculation (optional)", example = "[\"MONTHLY\", \"WEEKLY\"]")
+    private List<PayCadence> cadences;
+
     public Country getCountry() { return country; }
     public void setCountry(Country country) { this.country = country; }
     public Integer getTaxYear() { return taxYear; }
@@ -56,4 +72,10 @@ public class CalculateRequest {
     public void setPosttax(Posttax posttax) { this.posttax = posttax; }
     public CountryOptions getCountryOptions() { return countryOptions; }
     public void setCountryOptions(CountryOptions countryOptions) { this.countryOptions = countryOptions; }
+    public DetailLevel getDetail() { return detail; }
+    public void setDetail(DetailLevel detail) { this.detail = detail; }
+    public Arithmetic getArithmetic() { return arithmetic; }
+    public void setArithmetic(Arithmetic arithmetic) { this.arithmetic = arithmetic; }
+    public List<PayCadence> getCadences() { return cadences; }
+    public void setCadences(List<PayCadence> cadences) { this.cadences = cadences; }
 }
@@ -1,9 +1,11 @@
 package app.salary.common.dto;
 
 import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import app.salary.common.constants.PayCadence;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
+import java.util.Map;
 
 @ExcludeFromCodeCoverage
 @Schema(description = "Salary calculation result with detailed tax breakdown")
@@ -23,6 +25,9 @@ public class CalculateResponse {
     @Schema(description = "Human-readable explanations of calculations")
     private List<Explanation> explanation;
 
+    @Schema(description = "The same calculation at each further cadence the request asked for")
+    private Map<PayCadence, CadenceBreakdown> cadences;
+
     @Schema(description = "Unique calculation identifier", example = "c_a1b2c3d4")
     private String calculationId;
 
@@ -39,6 +44,8 @@ public class CalculateResponse {
     public void setLineItems(List<LineItem> lineItems) { this.lineItems = lineItems; }
     public List<Explanation> getExplanation() { return explanation; }
     public void setExplanation(List<Explanation> explanation) { this.explanation = explanation; }
+    public Map<PayCadence, CadenceBreakdown> getCadences() { return cadences; }
+    public void setCadences(Map<PayCadence, CadenceBreakdown> cadences) { this.cadences = cadences; }
     public String getCalculationId() { return calculationId; }
     public void setCalculationId(String calculationId) { this.calculationId = calculationId; }
     public String getRulePackVersion() { return rulePackVersion; }
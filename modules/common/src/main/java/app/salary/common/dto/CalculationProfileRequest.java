@@ -0,0 +1,14 @@
+package app.salary.common.dto;
+
+import app.salary.common.constants.PayCadence;
+
+/**
+ * A request that describes a full calculation profile (country, year, cadence, deductions and
+ * options) independently of any one salary.
+ */
+public interface CalculationProfileRequest extends CountryScopedRequest {
+    Integer getTaxYear();
+    PayCadence getCadence();
+    Pretax getPretax();
+    Posttax getPosttax();
+}
@@ -0,0 +1,69 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import app.salary.common.constants.Country;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@ExcludeFromCodeCoverage
+@Schema(description = "One country's calculation per payment period, in its own and in the target currency")
+public class CountryComparison {
+    @Schema(description = "Country code", example = "UK")
+    private Country country;
+
+    @Schema(description = "Currency of the local amounts", example = "GBP")
+    private String currency;
+
+    @Schema(description = "Version of tax rules used", example = "UK-2025.4.0")
+    private String rulePackVersion;
+
+    @Schema(description = "Units of the target currency per unit of the local currency", example = "1.3448")
+    private Double fxRate;
+
+    @Schema(description = "Gross pay per payment period in the local currency", example = "6250.0")
+    private Double grossPerCadence;
+
+    @Schema(description = "Net take-home pay per payment period in the local currency", example = "4708.0")
+    private Double netPerCadence;
+
+    @Schema(description = "Income tax and social contributions per payment period in the local currency",
+            example = "1542.0")
+    private Double totalTaxPerCadence;
+
+    @Schema(description = "Gross pay per payment period in the target currency", example = "8405.06")
+    private Double targetGrossPerCadence;
+
+    @Schema(description = "Net take-home pay per payment period in the target currency", example = "6331.36")
+    private Double targetNetPerCadence;
+
+    @Schema(description = "Income tax and social contributions per payment period in the target currency",
+            example = "2073.70")
+    private Double targetTotalTaxPerCadence;
+
+    @Schema(description = "Total tax as a share of gross (0-1)", example = "0.2467")
+    private Double effectiveTaxRate;
+
+    public Country getCountry() { return country; }
+    public void setCountry(Country country) { this.country = country; }
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+    public String getRulePackVersion() { return rulePackVersion; }
+    public void setRulePackVersion(String rulePackVersion) { this.rulePackVersion = rulePackVersion; }
+    public Double getFxRate() { return fxRate; }
+    public void setFxRate(Double fxRate) { this.fxRate = fxRate; }
+    public Double getGrossPerCadence() { return grossPerCadence; }
+    public void setGrossPerCadence(Double grossPerCadence) { this.grossPerCadence = grossPerCadence; }
+    public Double getNetPerCadence() { return netPerCadence; }
+    public void setNetPerCadence(Double netPerCadence) { this.netPerCadence = netPerCadence; }
+    public Double getTotalTaxPerCadence() { return totalTaxPerCadence; }
+    public void setTotalTaxPerCadence(Double totalTaxPerCadence) { this.totalTaxPerCadence = totalTaxPerCadence; }
+    public Double getTargetGrossPerCadence() { return targetGrossPerCadence; }
+    public void setTargetGrossPerCadence(Double targetGrossPerCadence) { this.targetGrossPerCadence = targetGrossPerCadence; }
+    public Double getTargetNetPerCadence() { return targetNetPerCadence; }
+    public void setTargetNetPerCadence(Double targetNetPerCadence) { this.targetNetPerCadence = targetNetPerCadence; }
+    public Double getTargetTotalTaxPerCadence() { return targetTotalTaxPerCadence; }
+    public void setTargetTotalTaxPerCadence(Double targetTotalTaxPerCadence) {
+        this.targetTotalTaxPerCadence = targetTotalTaxPerCadence;
+    }
+    public Double getEffectiveTaxRate() { return effectiveTaxRate; }
+    public void setEffectiveTaxRate(Double effectiveTaxRate) { this.effectiveTaxRate = effectiveTaxRate; }
+}
@@ -0,0 +1,68 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import app.salary.common.constants.Country;
+import app.salary.common.constants.PayCadence;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+import java.util.List;
+import java.util.Map;
+
+@ExcludeFromCodeCoverage
+@Schema(description = "Request to compare one offer across countries, normalized into a target currency")
+public class CountryComparisonRequest {
+    @NotNull
+    @Min(2025)
+    @Schema(description = "Tax year for calculation", example = "2025", required = true)
+    private Integer taxYear;
+
+    @Min(0)
+    @Schema(description = "Annual gross salary of the offer, in currency; converted into each country's "
+            + "currency unless localSalaries gives that country's package", example = "100000")
+    private Double annualSalary;
+
+    @Pattern(regexp = "[A-Z]{3}")
+    @Schema(description = "ISO 4217 currency of annualSalary (defaults to targetCurrency)", example = "USD")
+    private String currency;
+
+    @NotNull
+    @Pattern(regexp = "[A-Z]{3}")
+    @Schema(description = "ISO 4217 currency every result is converted into", example = "USD", required = true)
+    private String targetCurrency;
+
+    @Schema(description = "Annual gross salary per country in that country's own currency, for packages "
+            + "that differ by country (optional)", example = "{\"UK\": 85000}")
+    private Map<Country, Double> localSalaries;
+
+    @Schema(description = "Countries to compare, in response order (defaults to every supported country)",
+            example = "[\"US\", \"UK\"]")
+    private List<Country> countries;
+
+    @Schema(description = "Pay frequency of the returned amounts (defaults to ANNUAL)", example = "MONTHLY")
+    private PayCadence cadence = PayCadence.ANNUAL;
+
+    @Valid
+    @Schema(description = "Options for each compared country; US requires state and filing status")
+    private CountryOptions countryOptions;
+
+    public Integer getTaxYear() { return taxYear; }
+    public void setTaxYear(Integer taxYear) { this.taxYear = taxYear; }
+    public Double getAnnualSalary() { return annualSalary; }
+    public void setAnnualSalary(Double annualSalary) { this.annualSalary = annualSalary; }
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+    public String getTargetCurrency() { return targetCurrency; }
+    public void setTargetCurrency(String targetCurrency) { this.targetCurrency = targetCurrency; }
+    public Map<Country, Double> getLocalSalaries() { return localSalaries; }
+    public void setLocalSalaries(Map<Country, Double> localSalaries) { this.localSalaries = localSalaries; }
+    public List<Country> getCountries() { return countries; }
+    public void setCountries(List<Country> countries) { this.countries = countries; }
+    public PayCadence getCadence() { return cadence; }
+    public void setCadence(PayCadence cadence) { this.cadence = cadence; }
+    public CountryOptions getCountryOptions() { return countryOptions; }
+    public void setCountryOptions(CountryOptions countryOptions) { this.countryOptions = countryOptions; }
+}
@@ -0,0 +1,42 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import app.salary.common.constants.PayCadence;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@ExcludeFromCodeCoverage
+@Schema(description = "One offer calculated in each compared country and converted into a target currency")
+public class CountryComparisonResponse {
+    @Schema(description = "Unique calculation identifier", example = "c_a1b2c3d4")
+    private String calculationId;
+
+    @Schema(description = "Currency of every target amount", example = "USD")
+    private String targetCurrency;
+
+    @Schema(description = "Pay frequency of every amount", example = "MONTHLY")
+    private PayCadence cadence;
+
+    @Schema(description = "Version of the FX rate table used for every conversion", example = "2025.10.0")
+    private String fxRatesVersion;
+
+    @Schema(description = "Date the FX rates were published for", example = "2025-10-01")
+    private String fxRatesAsOf;
+
+    @Schema(description = "One entry per compared country, in request order or supported-country order")
+    private List<CountryComparison> countries;
+
+    public String getCalculationId() { return calculationId; }
+    public void setCalculationId(String calculationId) { this.calculationId = calculationId; }
+    public String getTargetCurrency() { return targetCurrency; }
+    public void setTargetCurrency(String targetCurrency) { this.targetCurrency = targetCurrency; }
+    public PayCadence getCadence() { return cadence; }
+    public void setCadence(PayCadence cadence) { this.cadence = cadence; }
+    public String getFxRatesVersion() { return fxRatesVersion; }
+    public void setFxRatesVersion(String fxRatesVersion) { this.fxRatesVersion = fxRatesVersion; }
+    public String getFxRatesAsOf() { return fxRatesAsOf; }
+    public void setFxRatesAsOf(String fxRatesAsOf) { this.fxRatesAsOf = fxRatesAsOf; }
+    public List<CountryComparison> getCountries() { return countries; }
+    public void setCountries(List<CountryComparison> countries) { this.countries = countries; }
+}
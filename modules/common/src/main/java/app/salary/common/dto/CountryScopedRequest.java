@@ -0,0 +1,12 @@
+package app.salary.common.dto;
+
+import app.salary.common.constants.Country;
+
+/**
+ * A request that targets one country and may carry country-specific options, so that
+ * {@link app.salary.common.validation.ValidCountryOptions} can check any such request.
+ */
+public interface CountryScopedRequest {
+    Country getCountry();
+    CountryOptions getCountryOptions();
+}
@@ -0,0 +1,81 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import app.salary.common.constants.Country;
+import app.salary.common.constants.PayCadence;
+import app.salary.common.validation.ValidCountryOptions;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+@ExcludeFromCodeCoverage
+@ValidCountryOptions
+@Schema(description = "Request to evaluate net pay over a range of annual gross salaries")
+public class CurveRequest implements CalculationProfileRequest {
+    public static final int MAX_POINTS = 10_000;
+
+    @NotNull
+    @Schema(description = "Country code", example = "UK", required = true)
+    private Country country;
+
+    @NotNull
+    @Min(2025)
+    @Schema(description = "Tax year for calculation", example = "2025", required = true)
+    private Integer taxYear;
+
+    @Min(0)
+    @Schema(description = "Lowest annual gross salary of an evenly spaced sweep", example = "20000")
+    private Double minGross;
+
+    @Min(0)
+    @Schema(description = "Highest annual gross salary of an evenly spaced sweep", example = "200000")
+    private Double maxGross;
+
+    @Min(2)
+    @Max(MAX_POINTS)
+    @Schema(description = "Number of evenly spaced points in the sweep, including both ends", example = "181")
+    private Integer steps;
+
+    @Size(max = MAX_POINTS)
+    @Schema(description = "Explicit annual gross salaries to evaluate instead of a sweep")
+    private double[] points;
+
+    @Schema(description = "Pay frequency of the returned amounts (defaults to ANNUAL)", example = "MONTHLY")
+    private PayCadence cadence = PayCadence.ANNUAL;
+
+    @Valid
+    @Schema(description = "Pre-tax deductions (optional)")
+    private Pretax pretax;
+
+    @Valid
+    @Schema(description = "Post-tax deductions (optional)")
+    private Posttax posttax;
+
+    @Valid
+    @Schema(description = "Country-specific options")
+    private CountryOptions countryOptions;
+
+    public Country getCountry() { return country; }
+    public void setCountry(Country country) { this.country = country; }
+    public Integer getTaxYear() { return taxYear; }
+    public void setTaxYear(Integer taxYear) { this.taxYear = taxYear; }
+    public Double getMinGross() { return minGross; }
+    public void setMinGross(Double minGross) { this.minGross = minGross; }
+    public Double getMaxGross() { return maxGross; }
+    public void setMaxGross(Double maxGross) { this.maxGross = maxGross; }
+    public Integer getSteps() { return steps; }
+    public void setSteps(Integer steps) { this.steps = steps; }
+    public double[] getPoints() { return points; }
+    public void setPoints(double[] points) { this.points = points; }
+    public PayCadence getCadence() { return cadence; }
+    public void setCadence(PayCadence cadence) { this.cadence = cadence; }
+    public Pretax getPretax() { return pretax; }
+    public void setPretax(Pretax pretax) { this.pretax = pretax; }
+    public Posttax getPosttax() { return posttax; }
+    public void setPosttax(Posttax posttax) { this.posttax = posttax; }
+    public CountryOptions getCountryOptions() { return countryOptions; }
+    public void setCountryOptions(CountryOptions countryOptions) { this.countryOptions = countryOptions; }
+}
@@ -0,0 +1,50 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import app.salary.common.constants.PayCadence;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@ExcludeFromCodeCoverage
+@Schema(description = "Net pay curve as parallel arrays; index i of every array describes the same salary")
+public class CurveResponse {
+    @Schema(description = "Currency code (USD for US, GBP for UK)", example = "GBP")
+    private String currency;
+
+    @Schema(description = "Version of tax rules used", example = "UK-2025.4.0")
+    private String rulePackVersion;
+
+    @Schema(description = "Pay frequency of the gross, net and totalTax arrays", example = "ANNUAL")
+    private PayCadence cadence;
+
+    @Schema(description = "Gross pay per payment period")
+    private double[] gross;
+
+    @Schema(description = "Net take-home pay per payment period")
+    private double[] net;
+
+    @Schema(description = "Income tax plus social insurance per payment period")
+    private double[] totalTax;
+
+    @Schema(description = "Total tax as a share of gross (0-1)")
+    private double[] effectiveRate;
+
+    @Schema(description = "Tax on the next unit of gross (0-1)")
+    private double[] marginalRate;
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+    public String getRulePackVersion() { return rulePackVersion; }
+    public void setRulePackVersion(String rulePackVersion) { this.rulePackVersion = rulePackVersion; }
+    public PayCadence getCadence() { return cadence; }
+    public void setCadence(PayCadence cadence) { this.cadence = cadence; }
+    public double[] getGross() { return gross; }
+    public void setGross(double[] gross) { this.gross = gross; }
+    public double[] getNet() { return net; }
+    public void setNet(double[] net) { this.net = net; }
+    public double[] getTotalTax() { return totalTax; }
+    public void setTotalTax(double[] totalTax) { this.totalTax = totalTax; }
+    public double[] getEffectiveRate() { return effectiveRate; }
+    public void setEffectiveRate(double[] effectiveRate) { this.effectiveRate = effectiveRate; }
+    public double[] getMarginalRate() { return marginalRate; }
+    public void setMarginalRate(double[] marginalRate) { this.marginalRate = marginalRate; }
+}
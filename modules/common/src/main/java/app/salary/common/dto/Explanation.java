@@ -6,12 +6,19 @@ import io.swagger.v3.oas.annotations.media.Schema;
 @ExcludeFromCodeCoverage
 @Schema(description = "Human-readable explanation of a calculation step")
 public class Explanation {
+    // Assumed rendered length of a deferred argument that is not text, such as a formatted amount
+    private static final int ESTIMATED_ARG_LENGTH = 12;
+
     @Schema(description = "Unique identifier for this explanation", example = "fed_tax_brackets")
     private String id;
 
     @Schema(description = "Human-readable explanation text", example = "Applied 2025 federal tax brackets based on SINGLE")
     private String text;
 
+    // Pending text for deferred explanations, rendered on first read
+    private String format;
+    private Object[] args;
+
     public Explanation() {}
 
     public Explanation(String id, String text) {
@@ -19,8 +26,54 @@ public class Explanation {
         this.text = text;
     }
 
+    /**
+     * Explanation whose text is rendered from {@code format} and {@code args} on first read, so
+     * callers that never serialize it never pay for {@link String#format}.
+     */
+    public static Explanation deferred(String id, String format, Object... args) {
+        Explanation explanation = new Explanation();
+        explanation.id = id;
+        explanation.format = format;
+        explanation.args = args;
+        return explanation;
+    }
+
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
-    public String getText() { return text; }
-    public void setText(String text) { this.text = text; }
+
+    public String getText() {
+        // Racing readers may both render, but always to the same immutable string
+        String rendered = text;
+        if (rendered == null && format != null) {
+            rendered = String.format(format, args);
+            text = rendered;
+        }
+        return rendered;
+    }
+
+    /**
+     * Length of {@link #getText()}, estimated without rendering a deferred explanation: its
+     * format's length plus that of each argument, counting arguments that are not text as
+     * {@value #ESTIMATED_ARG_LENGTH} characters.
+     */
+    public int estimateTextLength() {
+        String rendered = text;
+        if (rendered != null) {
+            return rendered.length();
+        }
+        if (format == null) {
+            return 0;
+        }
+        int length = format.length();
+        for (Object arg : args) {
+            length += arg instanceof CharSequence chars ? chars.length() : ESTIMATED_ARG_LENGTH;
+        }
+        return length;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+        this.format = null;
+        this.args = null;
+    }
 }
@@ -0,0 +1,59 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import app.salary.common.constants.Country;
+import app.salary.common.constants.PayCadence;
+import app.salary.common.validation.ValidCountryOptions;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@ExcludeFromCodeCoverage
+@ValidCountryOptions
+@Schema(description = "Request to find the gross salary that yields a target net pay")
+public class InverseCalculateRequest implements CalculationProfileRequest {
+    @NotNull
+    @Schema(description = "Country code", example = "UK", required = true)
+    private Country country;
+
+    @NotNull
+    @Min(2025)
+    @Schema(description = "Tax year for calculation", example = "2025", required = true)
+    private Integer taxYear;
+
+    @NotNull
+    @Min(0)
+    @Schema(description = "Desired net take-home pay per payment period", example = "3000", required = true)
+    private Double targetNet;
+
+    @Schema(description = "Pay frequency of targetNet and of the returned amounts (defaults to ANNUAL)", example = "MONTHLY")
+    private PayCadence cadence = PayCadence.ANNUAL;
+
+    @Valid
+    @Schema(description = "Pre-tax deductions (optional)")
+    private Pretax pretax;
+
+    @Valid
+    @Schema(description = "Post-tax deductions (optional)")
+    private Posttax posttax;
+
+    @Valid
+    @Schema(description = "Country-specific options")
+    private CountryOptions countryOptions;
+
+    public Country getCountry() { return country; }
+    public void setCountry(Country country) { this.country = country; }
+    public Integer getTaxYear() { return taxYear; }
+    public void setTaxYear(Integer taxYear) { this.taxYear = taxYear; }
+    public Double getTargetNet() { return targetNet; }
+    public void setTargetNet(Double targetNet) { this.targetNet = targetNet; }
+    public PayCadence getCadence() { return cadence; }
+    public void setCadence(PayCadence cadence) { this.cadence = cadence; }
+    public Pretax getPretax() { return pretax; }
+    public void setPretax(Pretax pretax) { this.pretax = pretax; }
+    public Posttax getPosttax() { return posttax; }
+    public void setPosttax(Posttax posttax) { this.posttax = posttax; }
+    public CountryOptions getCountryOptions() { return countryOptions; }
+    public void setCountryOptions(CountryOptions countryOptions) { this.countryOptions = countryOptions; }
+}
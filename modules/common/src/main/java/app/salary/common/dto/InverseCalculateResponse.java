@@ -0,0 +1,39 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@ExcludeFromCodeCoverage
+@Schema(description = "Gross salary required to reach a target net pay")
+public class InverseCalculateResponse {
+    @Schema(description = "Unique calculation identifier", example = "c_a1b2c3d4")
+    private String calculationId;
+
+    @Schema(description = "Required annual gross salary", example = "47520.0")
+    private Double annualGross;
+
+    @Schema(description = "Required gross pay per payment period", example = "3960.0")
+    private Double grossPerCadence;
+
+    @Schema(description = "Net take-home pay per payment period at that gross", example = "3000.0")
+    private Double netPerCadence;
+
+    @Schema(description = "Currency code (USD for US, GBP for UK)", example = "GBP")
+    private String currency;
+
+    @Schema(description = "Version of tax rules used", example = "UK-2025.4.0")
+    private String rulePackVersion;
+
+    public String getCalculationId() { return calculationId; }
+    public void setCalculationId(String calculationId) { this.calculationId = calculationId; }
+    public Double getAnnualGross() { return annualGross; }
+    public void setAnnualGross(Double annualGross) { this.annualGross = annualGross; }
+    public Double getGrossPerCadence() { return grossPerCadence; }
+    public void setGrossPerCadence(Double grossPerCadence) { this.grossPerCadence = grossPerCadence; }
+    public Double getNetPerCadence() { return netPerCadence; }
+    public void setNetPerCadence(Double netPerCadence) { this.netPerCadence = netPerCadence; }
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+    public String getRulePackVersion() { return rulePackVersion; }
+    public void setRulePackVersion(String rulePackVersion) { this.rulePackVersion = rulePackVersion; }
+}
@@ -0,0 +1,52 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@ExcludeFromCodeCoverage
+@Schema(description = "Gross, net and tax in one projected tax year, per payment period")
+public class ProjectedYear {
+    @Schema(description = "Tax year", example = "2027")
+    private Integer taxYear;
+
+    @Schema(description = "Whether the rules were projected from an earlier year's published rule pack "
+            + "rather than published for this year", example = "true")
+    private Boolean projected;
+
+    @Schema(description = "Rule pack version; projected versions carry a +projected suffix",
+            example = "UK-2025.4.0+projected.2027@0.025")
+    private String rulePackVersion;
+
+    @Schema(description = "Gross pay per payment period", example = "63654.00")
+    private Double grossPerCadence;
+
+    @Schema(description = "Net take-home pay per payment period", example = "48011.10")
+    private Double netPerCadence;
+
+    @Schema(description = "Income tax and social contributions per payment period", example = "15642.90")
+    private Double totalTaxPerCadence;
+
+    @Schema(description = "Net pay per payment period in first-year money, deflated by the projection's "
+            + "inflation rate", example = "45697.66")
+    private Double realNetPerCadence;
+
+    @Schema(description = "Total tax as a fraction of gross pay", example = "0.2457")
+    private Double effectiveTaxRate;
+
+    public Integer getTaxYear() { return taxYear; }
+    public void setTaxYear(Integer taxYear) { this.taxYear = taxYear; }
+    public Boolean getProjected() { return projected; }
+    public void setProjected(Boolean projected) { this.projected = projected; }
+    public String getRulePackVersion() { return rulePackVersion; }
+    public void setRulePackVersion(String rulePackVersion) { this.rulePackVersion = rulePackVersion; }
+    public Double getGrossPerCadence() { return grossPerCadence; }
+    public void setGrossPerCadence(Double grossPerCadence) { this.grossPerCadence = grossPerCadence; }
+    public Double getNetPerCadence() { return netPerCadence; }
+    public void setNetPerCadence(Double netPerCadence) { this.netPerCadence = netPerCadence; }
+    public Double getTotalTaxPerCadence() { return totalTaxPerCadence; }
+    public void setTotalTaxPerCadence(Double totalTaxPerCadence) { this.totalTaxPerCadence = totalTaxPerCadence; }
+    public Double getRealNetPerCadence() { return realNetPerCadence; }
+    public void setRealNetPerCadence(Double realNetPerCadence) { this.realNetPerCadence = realNetPerCadence; }
+    public Double getEffectiveTaxRate() { return effectiveTaxRate; }
+    public void setEffectiveTaxRate(Double effectiveTaxRate) { this.effectiveTaxRate = effectiveTaxRate; }
+}
@@ -0,0 +1,92 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import app.salary.common.constants.Country;
+import app.salary.common.constants.PayCadence;
+import app.salary.common.validation.ValidCountryOptions;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@ExcludeFromCodeCoverage
+@ValidCountryOptions
+@Schema(description = "Request to project net pay over consecutive tax years along a salary growth path")
+public class ProjectionRequest implements CalculationProfileRequest {
+    public static final int DEFAULT_YEARS = 10;
+    public static final int MAX_YEARS = 50;
+    // Within the projector's 50-year reach of the first published tax year, and with inflation
+    // in range, every indexed threshold of a 50-year run stays within the fixed-point range
+    public static final int MAX_TAX_YEAR = 2075;
+
+    @NotNull
+    @Schema(description = "Country code", example = "UK", required = true)
+    private Country country;
+
+    @NotNull
+    @Min(2025)
+    @Max(MAX_TAX_YEAR)
+    @Schema(description = "First tax year of the projection", example = "2025", required = true)
+    private Integer taxYear;
+
+    @Min(1)
+    @Max(MAX_YEARS)
+    @Schema(description = "Number of consecutive tax years to project (defaults to 10)", example = "10")
+    private Integer years = DEFAULT_YEARS;
+
+    @NotNull
+    @Min(0)
+    @Schema(description = "Annual gross salary in the first tax year", example = "60000", required = true)
+    private Double annualSalary;
+
+    @DecimalMin("-0.5")
+    @DecimalMax("1.0")
+    @Schema(description = "Annual salary growth rate, compounded from the first year (defaults to 0)",
+            example = "0.03")
+    private Double salaryGrowth = 0.0;
+
+    @DecimalMin("-0.05")
+    @DecimalMax("0.1")
+    @Schema(description = "Annual inflation rate used to index the thresholds of years without a "
+            + "published rule pack (defaults to the service's configured rate)", example = "0.025")
+    private Double inflation;
+
+    @Schema(description = "Pay frequency of the returned amounts (defaults to ANNUAL)", example = "MONTHLY")
+    private PayCadence cadence = PayCadence.ANNUAL;
+
+    @Valid
+    @Schema(description = "Pre-tax deductions, applied as given in every year (optional)")
+    private Pretax pretax;
+
+    @Valid
+    @Schema(description = "Post-tax deductions, applied as given in every year (optional)")
+    private Posttax posttax;
+
+    @Valid
+    @Schema(description = "Country-specific options")
+    private CountryOptions countryOptions;
+
+    public Country getCountry() { return country; }
+    public void setCountry(Country country) { this.country = country; }
+    public Integer getTaxYear() { return taxYear; }
+    public void setTaxYear(Integer taxYear) { this.taxYear = taxYear; }
+    public Integer getYears() { return years; }
+    public void setYears(Integer years) { this.years = years; }
+    public Double getAnnualSalary() { return annualSalary; }
+    public void setAnnualSalary(Double annualSalary) { this.annualSalary = annualSalary; }
+    public Double getSalaryGrowth() { return salaryGrowth; }
+    public void setSalaryGrowth(Double salaryGrowth) { this.salaryGrowth = salaryGrowth; }
+    public Double getInflation() { return inflation; }
+    public void setInflation(Double inflation) { this.inflation = inflation; }
+    public PayCadence getCadence() { return cadence; }
+    public void setCadence(PayCadence cadence) { this.cadence = cadence; }
+    public Pretax getPretax() { return pretax; }
+    public void setPretax(Pretax pretax) { this.pretax = pretax; }
+    public Posttax getPosttax() { return posttax; }
+    public void setPosttax(Posttax posttax) { this.posttax = posttax; }
+    public CountryOptions getCountryOptions() { return countryOptions; }
+    public void setCountryOptions(CountryOptions countryOptions) { this.countryOptions = countryOptions; }
+}
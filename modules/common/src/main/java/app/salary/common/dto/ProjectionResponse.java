@@ -0,0 +1,49 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import app.salary.common.constants.Country;
+import app.salary.common.constants.PayCadence;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@ExcludeFromCodeCoverage
+@Schema(description = "Net pay projected over consecutive tax years along a salary growth path")
+public class ProjectionResponse {
+    @Schema(description = "Unique calculation identifier", example = "c_a1b2c3d4")
+    private String calculationId;
+
+    @Schema(description = "Country code", example = "UK")
+    private Country country;
+
+    @Schema(description = "Currency of every amount", example = "GBP")
+    private String currency;
+
+    @Schema(description = "Pay frequency of every amount", example = "ANNUAL")
+    private PayCadence cadence;
+
+    @Schema(description = "Annual salary growth rate applied", example = "0.03")
+    private Double salaryGrowth;
+
+    @Schema(description = "Annual inflation rate used to index projected rule packs and deflate real net pay",
+            example = "0.025")
+    private Double inflation;
+
+    @Schema(description = "One entry per tax year, in order")
+    private List<ProjectedYear> years;
+
+    public String getCalculationId() { return calculationId; }
+    public void setCalculationId(String calculationId) { this.calculationId = calculationId; }
+    public Country getCountry() { return country; }
+    public void setCountry(Country country) { this.country = country; }
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+    public PayCadence getCadence() { return cadence; }
+    public void setCadence(PayCadence cadence) { this.cadence = cadence; }
+    public Double getSalaryGrowth() { return salaryGrowth; }
+    public void setSalaryGrowth(Double salaryGrowth) { this.salaryGrowth = salaryGrowth; }
+    public Double getInflation() { return inflation; }
+    public void setInflation(Double inflation) { this.inflation = inflation; }
+    public List<ProjectedYear> getYears() { return years; }
+    public void setYears(List<ProjectedYear> years) { this.years = years; }
+}
@@ -0,0 +1,36 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@ExcludeFromCodeCoverage
+@Schema(description = "Net pay and state-level taxes in one state, per payment period")
+public class StateComparison {
+    @Schema(description = "US state code", example = "CA")
+    private String state;
+
+    @Schema(description = "State income tax, including any local income tax", example = "496.07")
+    private Double stateIncomeTaxPerCadence;
+
+    @Schema(description = "Local income tax levied on top of the state rates", example = "0.0")
+    private Double localTaxPerCadence;
+
+    @Schema(description = "Federal, state and local income tax plus FICA", example = "2286.98")
+    private Double totalTaxPerCadence;
+
+    @Schema(description = "Net take-home pay", example = "6046.35")
+    private Double netPerCadence;
+
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+    public Double getStateIncomeTaxPerCadence() { return stateIncomeTaxPerCadence; }
+    public void setStateIncomeTaxPerCadence(Double stateIncomeTaxPerCadence) {
+        this.stateIncomeTaxPerCadence = stateIncomeTaxPerCadence;
+    }
+    public Double getLocalTaxPerCadence() { return localTaxPerCadence; }
+    public void setLocalTaxPerCadence(Double localTaxPerCadence) { this.localTaxPerCadence = localTaxPerCadence; }
+    public Double getTotalTaxPerCadence() { return totalTaxPerCadence; }
+    public void setTotalTaxPerCadence(Double totalTaxPerCadence) { this.totalTaxPerCadence = totalTaxPerCadence; }
+    public Double getNetPerCadence() { return netPerCadence; }
+    public void setNetPerCadence(Double netPerCadence) { this.netPerCadence = netPerCadence; }
+}
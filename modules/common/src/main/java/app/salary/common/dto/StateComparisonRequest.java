@@ -0,0 +1,59 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import app.salary.common.constants.FilingStatus;
+import app.salary.common.constants.PayCadence;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+@ExcludeFromCodeCoverage
+@Schema(description = "Request to compare net pay for one US profile across states")
+public class StateComparisonRequest {
+    @NotNull
+    @Min(2025)
+    @Schema(description = "Tax year for calculation", example = "2025", required = true)
+    private Integer taxYear;
+
+    @NotNull
+    @Min(0)
+    @Schema(description = "Annual gross salary", example = "100000", required = true)
+    private Double annualSalary;
+
+    @NotNull
+    @Schema(description = "Tax filing status: SINGLE or MARRIED", example = "SINGLE", required = true)
+    private FilingStatus filingStatus;
+
+    @Schema(description = "State codes to compare, in response order (defaults to every state in the rule pack)",
+            example = "[\"CA\", \"NY\", \"TX\"]")
+    private List<String> states;
+
+    @Schema(description = "Pay frequency of the returned amounts (defaults to ANNUAL)", example = "MONTHLY")
+    private PayCadence cadence = PayCadence.ANNUAL;
+
+    @Valid
+    @Schema(description = "Pre-tax deductions (optional)")
+    private Pretax pretax;
+
+    @Valid
+    @Schema(description = "Post-tax deductions (optional)")
+    private Posttax posttax;
+
+    public Integer getTaxYear() { return taxYear; }
+    public void setTaxYear(Integer taxYear) { this.taxYear = taxYear; }
+    public Double getAnnualSalary() { return annualSalary; }
+    public void setAnnualSalary(Double annualSalary) { this.annualSalary = annualSalary; }
+    public FilingStatus getFilingStatus() { return filingStatus; }
+    public void setFilingStatus(FilingStatus filingStatus) { this.filingStatus = filingStatus; }
+    public List<String> getStates() { return states; }
+    public void setStates(List<String> states) { this.states = states; }
+    public PayCadence getCadence() { return cadence; }
+    public void setCadence(PayCadence cadence) { this.cadence = cadence; }
+    public Pretax getPretax() { return pretax; }
+    public void setPretax(Pretax pretax) { this.pretax = pretax; }
+    public Posttax getPosttax() { return posttax; }
+    public void setPosttax(Posttax posttax) { this.posttax = posttax; }
+}
@@ -0,0 +1,61 @@
+package app.salary.common.dto;
+
+import app.salary.common.annotation.ExcludeFromCodeCoverage;
+import app.salary.common.constants.PayCadence;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@ExcludeFromCodeCoverage
+@Schema(description = "Net pay for one US profile in each compared state; federal tax and FICA are the same in all")
+public class StateComparisonResponse {
+    @Schema(description = "Unique calculation identifier", example = "c_a1b2c3d4")
+    private String calculationId;
+
+    @Schema(description = "Currency code", example = "USD")
+    private String currency;
+
+    @Schema(description = "Version of tax rules used", example = "US-2025.10.0")
+    private String rulePackVersion;
+
+    @Schema(description = "Pay frequency of every amount", example = "MONTHLY")
+    private PayCadence cadence;
+
+    @Schema(description = "Gross pay per payment period", example = "8333.33")
+    private Double grossPerCadence;
+
+    @Schema(description = "Federal income tax per payment period", example = "1153.42")
+    private Double federalIncomeTaxPerCadence;
+
+    @Schema(description = "Social Security tax per payment period", example = "516.67")
+    private Double socialSecurityPerCadence;
+
+    @Schema(description = "Medicare tax per payment period", example = "120.83")
+    private Double medicarePerCadence;
+
+    @Schema(description = "One entry per compared state, in request order or by state code")
+    private List<StateComparison> states;
+
+    public String getCalculationId() { return calculationId; }
+    public void setCalculationId(String calculationId) { this.calculationId = calculationId; }
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+    public String getRulePackVersion() { return rulePackVersion; }
+    public void setRulePackVersion(String rulePackVersion) { this.rulePackVersion = rulePackVersion; }
+    public PayCadence getCadence() { return cadence; }
+    public void setCadence(PayCadence cadence) { this.cadence = cadence; }
+    public Double getGrossPerCadence() { return grossPerCadence; }
+    public void setGrossPerCadence(Double grossPerCadence) { this.grossPerCadence = grossPerCadence; }
+    public Double getFederalIncomeTaxPerCadence() { return federalIncomeTaxPerCadence; }
+    public void setFederalIncomeTaxPerCadence(Double federalIncomeTaxPerCadence) {
+        this.federalIncomeTaxPerCadence = federalIncomeTaxPerCadence;
+    }
+    public Double getSocialSecurityPerCadence() { return socialSecurityPerCadence; }
+    public void setSocialSecurityPerCadence(Double socialSecurityPerCadence) {
+        this.socialSecurityPerCadence = socialSecurityPerCadence;
+    }
+    public Double getMedicarePerCadence() { return medicarePerCadence; }
+    public void setMedicarePerCadence(Double medicarePerCadence) { this.medicarePerCadence = medicarePerCadence; }
+    public List<StateComparison> getStates() { return states; }
+    public void setStates(List<StateComparison> states) { this.states = states; }
+}
@@ -0,0 +1,86 @@
+package app.salary.common.money;
+
+import java.math.RoundingMode;
+
+/**
+ * Exact money arithmetic on {@code long} amounts in minor units (cents, pence) and rates in parts
+ * per million. Multiplying an amount by a rate gives a <em>scaled</em> amount, in minor units times
+ * {@link #RATE_SCALE}, which is exact; rounding back to minor units happens once, where the caller
+ * says and with the {@link RoundingMode} it chooses.
+ * <p>
+ * Conversions from {@code double} round to the nearest minor unit or rate unit, which is exact for
+ * the two-decimal amounts and six-decimal rates that requests and rule packs carry.
+ */
+public final class FixedPoint {
+    public static final long MINOR_UNITS = 100;
+    public static final long RATE_SCALE = 1_000_000;
+
+    // Keeps amount * rate within a long for any rate up to 100%
+    public static final double MAX_AMOUNT = 10_000_000_000.0;
+
+    private FixedPoint() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code amount} is not finite or exceeds {@link #MAX_AMOUNT}
+     */
+    public static long toMinor(double amount) {
+        if (!(Math.abs(amount) <= MAX_AMOUNT)) {
+            throw new IllegalArgumentException(String.format(
+                    "Amount %s is outside the fixed-point range of ±%.0f", amount, MAX_AMOUNT));
+        }
+        return Math.round(amount * MINOR_UNITS);
+    }
+
+    public static double toMajor(long minor) {
+        return minor / (double) MINOR_UNITS;
+    }
+
+    public static long toRate(double rate) {
+        return Math.round(rate * RATE_SCALE);
+    }
+
+    /** {@code minor * rate} in minor units times {@link #RATE_SCALE}, without rounding. */
+    public static long scaled(long minor, long rate) {
+        return Math.multiplyExact(minor, rate);
+    }
+
+    /** Rounds a scaled amount back to minor units. */
+    public static long unscale(long scaled, RoundingMode rounding) {
+        return divide(scaled, RATE_SCALE, rounding);
+    }
+
+    public static long applyRate(long minor, long rate, RoundingMode rounding) {
+        return unscale(scaled(minor, rate), rounding);
+    }
+
+    /** Rounds {@code minor} to a multiple of {@code unit}, e.g. {@link #MINOR_UNITS} for whole pounds. */
+    public static long roundTo(long minor, long unit, RoundingMode rounding) {
+        return divide(minor, unit, rounding) * unit;
+    }
+
+    /** {@code dividend / divisor} rounded with {@code rounding}, as {@link java.math.BigDecimal} would. */
+    public static long divide(long dividend, long divisor, RoundingMode rounding) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        int sign = (dividend < 0) == (divisor < 0) ? 1 : -1;
+        // Compares the discarded fraction with one half without doubling the remainder
+        int half = Long.compare(Math.abs(remainder), Math.abs(divisor) - Math.abs(remainder));
+        boolean awayFromZero = switch (rounding) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> sign > 0;
+            case FLOOR -> sign < 0;
+            case HALF_UP -> half >= 0;
+            case HALF_DOWN -> half > 0;
+            case HALF_EVEN -> half > 0 || (half == 0 && (quotient & 1) != 0);
+            case UNNECESSARY -> throw new ArithmeticException(
+                    dividend + " / " + divisor + " is not a whole number");
+        };
+        return awayFromZero ? quotient + sign : quotient;
+    }
+}
@@ -1,14 +1,14 @@
 package app.salary.common.validation;
 
 import app.salary.common.constants.Country;
-import app.salary.common.dto.CalculateRequest;
+import app.salary.common.dto.CountryScopedRequest;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-public class CountryOptionsValidator implements ConstraintValidator<ValidCountryOptions, CalculateRequest> {
+public class CountryOptionsValidator implements ConstraintValidator<ValidCountryOptions, CountryScopedRequest> {
 
     @Override
-    public boolean isValid(CalculateRequest request, ConstraintValidatorContext context) {
+    public boolean isValid(CountryScopedRequest request, ConstraintValidatorContext context) {
         if (request == null || request.getCountry() == null) {
             return true; // Let @NotNull handle null checks
         }
@@ -0,0 +1,61 @@
+package app.salary.common.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedPointTest {
+
+    @Test
+    void toMinor_shouldRoundToWholeMinorUnits() {
+        assertEquals(10000001L, FixedPoint.toMinor(100000.01));
+        assertEquals(-1257000L, FixedPoint.toMinor(-12570.0));
+        assertEquals(100000.01, FixedPoint.toMajor(10000001L));
+    }
+
+    @Test
+    void toMinor_outsideRange_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> FixedPoint.toMinor(1e11));
+        assertThrows(IllegalArgumentException.class, () -> FixedPoint.toMinor(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> FixedPoint.toMinor(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    void applyRate_shouldRoundOnceWithGivenMode() {
+        // 8% of £374.31 is 2994.48p
+        assertEquals(2994L, FixedPoint.applyRate(37431L, FixedPoint.toRate(0.08), RoundingMode.HALF_UP));
+        assertEquals(2995L, FixedPoint.applyRate(37431L, FixedPoint.toRate(0.08), RoundingMode.UP));
+    }
+
+    @Test
+    void roundTo_wholePounds_shouldRoundDown() {
+        assertEquals(3743000L, FixedPoint.roundTo(3743099L, FixedPoint.MINOR_UNITS, RoundingMode.DOWN));
+        assertEquals(3743000L, FixedPoint.roundTo(3743000L, FixedPoint.MINOR_UNITS, RoundingMode.DOWN));
+    }
+
+    @Test
+    void divide_shouldMatchBigDecimalForEveryRoundingMode() {
+        long[] dividends = {7, -7, 5, -5, 15, -15, 25, -25, 1, -1, 0, 999_999, -1_000_001};
+        long[] divisors = {10, -10, 3, 1_000_000};
+        for (RoundingMode mode : RoundingMode.values()) {
+            if (mode == RoundingMode.UNNECESSARY) continue;
+            for (long dividend : dividends) {
+                for (long divisor : divisors) {
+                    long expected = BigDecimal.valueOf(dividend)
+                            .divide(BigDecimal.valueOf(divisor), 0, mode).longValueExact();
+                    assertEquals(expected, FixedPoint.divide(dividend, divisor, mode),
+                            dividend + " / " + divisor + " " + mode);
+                }
+            }
+        }
+    }
+
+    @Test
+    void divide_unnecessaryWithRemainder_shouldThrow() {
+        assertEquals(3L, FixedPoint.divide(30, 10, RoundingMode.UNNECESSARY));
+        assertThrows(ArithmeticException.class, () -> FixedPoint.divide(31, 10, RoundingMode.UNNECESSARY));
+    }
+}
@@ -0,0 +1,106 @@
+package app.salary.integration;
+
+import app.salary.api.SalaryCalculatorApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = SalaryCalculatorApplication.class)
+@AutoConfigureMockMvc
+class BatchCalculateEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void calculateBatch_withMixedCountries_shouldReturnResultPerItemInOrder() throws Exception {
+        String requestJson = """
+            {
+                "requests": [
+                    {
+                        "country": "US",
+                        "taxYear": 2025,
+                        "annualSalary": 100000,
+                        "countryOptions": { "US": { "state": "CA", "filingStatus": "SINGLE" } }
+                    },
+                    {
+                        "country": "UK",
+                        "taxYear": 2025,
+                        "annualSalary": 60000,
+                        "cadence": "MONTHLY"
+                    },
+                    {
+                        "country": "US",
+                        "taxYear": 2025,
+                        "annualSalary": 50000,
+                        "countryOptions": { "US": { "state": "CA", "filingStatus": "SINGLE" } }
+                    }
+                ]
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded", is(3)))
+                .andExpect(jsonPath("$.failed", is(0)))
+                .andExpect(jsonPath("$.results", hasSize(3)))
+                .andExpect(jsonPath("$.results[0].index", is(0)))
+                .andExpect(jsonPath("$.results[0].result.currency", is("USD")))
+                .andExpect(jsonPath("$.results[0].result.grossPerCadence", is(100000.0)))
+                .andExpect(jsonPath("$.results[1].result.currency", is("GBP")))
+                .andExpect(jsonPath("$.results[1].result.grossPerCadence", is(5000.0)))
+                .andExpect(jsonPath("$.results[2].index", is(2)))
+                .andExpect(jsonPath("$.results[2].result.grossPerCadence", is(50000.0)));
+    }
+
+    @Test
+    void calculateBatch_withInvalidItem_shouldReportErrorForThatItemOnly() throws Exception {
+        String requestJson = """
+            {
+                "requests": [
+                    {
+                        "country": "US",
+                        "taxYear": 2025,
+                        "annualSalary": 100000
+                    },
+                    {
+                        "country": "UK",
+                        "taxYear": 2025,
+                        "annualSalary": 50000
+                    }
+                ]
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded", is(1)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.results[0].index", is(0)))
+                .andExpect(jsonPath("$.results[0].error",
+                    containsString("US calculations require state and filing status")))
+                .andExpect(jsonPath("$.results[0].result").doesNotExist())
+                .andExpect(jsonPath("$.results[1].index", is(1)))
+                .andExpect(jsonPath("$.results[1].result.currency", is("GBP")));
+    }
+
+    @Test
+    void calculateBatch_withEmptyRequests_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/v1/calculate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"requests\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.requests", notNullValue()));
+    }
+}
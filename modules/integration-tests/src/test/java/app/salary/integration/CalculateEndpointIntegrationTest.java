@@ -342,4 +342,93 @@ class CalculateEndpointIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.explanation[?(@.id == 'tax_code')]", hasSize(1)));
     }
+
+    @Test
+    void calculate_withNetOnlyDetail_shouldOmitLineItemsAndExplanations() throws Exception {
+        String requestJson = """
+            {
+                "country": "UK",
+                "taxYear": 2025,
+                "annualSalary": 110000,
+                "detail": "NET_ONLY"
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.netPerCadence", closeTo(72357.4, 1e-6)))
+                .andExpect(jsonPath("$.lineItems").doesNotExist())
+                .andExpect(jsonPath("$.explanation").doesNotExist());
+    }
+
+    @Test
+    void calculate_withLineItemsDetail_shouldOmitExplanations() throws Exception {
+        String requestJson = """
+            {
+                "country": "UK",
+                "taxYear": 2025,
+                "annualSalary": 110000,
+                "detail": "LINE_ITEMS"
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lineItems[?(@.name == 'Income Tax (Higher Rate 40%)')]", hasSize(1)))
+                .andExpect(jsonPath("$.explanation").doesNotExist());
+    }
+
+    @Test
+    void calculate_withFixedPointArithmetic_shouldReturnWholePennies() throws Exception {
+        String requestJson = """
+            {
+                "country": "UK",
+                "taxYear": 2025,
+                "annualSalary": 50000.50,
+                "cadence": "MONTHLY",
+                "detail": "LINE_ITEMS",
+                "arithmetic": "FIXED_POINT"
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.grossPerCadence", is(4166.71)))
+                .andExpect(jsonPath("$.netPerCadence", is(3293.34)))
+                .andExpect(jsonPath("$.lineItems[?(@.name == 'Taxable Income')].amount", contains(3119.17)))
+                .andExpect(jsonPath("$.lineItems[?(@.name == 'Total Income Tax')].amount", contains(623.83)));
+    }
+
+    @Test
+    void calculate_withAdditionalCadences_shouldProjectOneCalculationOntoEach() throws Exception {
+        String requestJson = """
+            {
+                "country": "UK",
+                "taxYear": 2025,
+                "annualSalary": 62400,
+                "cadence": "ANNUAL",
+                "cadences": ["MONTHLY", "WEEKLY"],
+                "detail": "LINE_ITEMS"
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.grossPerCadence", is(62400.0)))
+                .andExpect(jsonPath("$.lineItems[?(@.name == 'Gross Salary')].amount", contains(62400.0)))
+                .andExpect(jsonPath("$.cadences.MONTHLY.grossPerCadence", is(5200.0)))
+                .andExpect(jsonPath("$.cadences.MONTHLY.lineItems[?(@.name == 'Gross Salary')].amount",
+                        contains(5200.0)))
+                .andExpect(jsonPath("$.cadences.WEEKLY.cadence", is("WEEKLY")))
+                .andExpect(jsonPath("$.cadences.WEEKLY.grossPerCadence", is(1200.0)))
+                .andExpect(jsonPath("$.cadences.BIWEEKLY").doesNotExist());
+    }
 }
@@ -0,0 +1,118 @@
+package app.salary.integration;
+
+import app.salary.api.SalaryCalculatorApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = SalaryCalculatorApplication.class)
+@AutoConfigureMockMvc
+class CountryComparisonEndpointIntegrationTest {
+
+    // USD -> GBP in the bundled FX table, version 2025.10.0
+    private static final double USD_TO_GBP = 0.7436;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void compareCountries_shouldCalculateInLocalCurrencyAndConvertToTarget() throws Exception {
+        // 72556.15 is the annual net of a single CA calculation at 100000 (see the inverse tests)
+        String requestJson = """
+            {
+                "taxYear": 2025,
+                "annualSalary": 100000,
+                "currency": "USD",
+                "targetCurrency": "GBP",
+                "countries": ["US", "UK"],
+                "countryOptions": {
+                    "US": {
+                        "state": "CA",
+                        "filingStatus": "SINGLE"
+                    }
+                }
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/countries")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.calculationId", notNullValue()))
+                .andExpect(jsonPath("$.targetCurrency", is("GBP")))
+                .andExpect(jsonPath("$.cadence", is("ANNUAL")))
+                .andExpect(jsonPath("$.fxRatesVersion", is("2025.10.0")))
+                .andExpect(jsonPath("$.countries[*].country", contains("US", "UK")))
+                .andExpect(jsonPath("$.countries[0].currency", is("USD")))
+                .andExpect(jsonPath("$.countries[0].fxRate", closeTo(USD_TO_GBP, 1e-12)))
+                .andExpect(jsonPath("$.countries[0].netPerCadence", closeTo(72556.15, 1e-6)))
+                .andExpect(jsonPath("$.countries[0].targetNetPerCadence", closeTo(72556.15 * USD_TO_GBP, 1e-6)))
+                .andExpect(jsonPath("$.countries[1].currency", is("GBP")))
+                .andExpect(jsonPath("$.countries[1].fxRate", closeTo(1.0, 1e-12)))
+                .andExpect(jsonPath("$.countries[1].grossPerCadence", closeTo(100000 * USD_TO_GBP, 1e-6)));
+    }
+
+    @Test
+    void compareCountries_withLocalSalary_shouldUseItInsteadOfConvertedOffer() throws Exception {
+        String requestJson = """
+            {
+                "taxYear": 2025,
+                "annualSalary": 100000,
+                "currency": "USD",
+                "targetCurrency": "USD",
+                "countries": ["UK"],
+                "localSalaries": {"UK": 85000},
+                "cadence": "MONTHLY"
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/countries")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countries", hasSize(1)))
+                .andExpect(jsonPath("$.countries[0].grossPerCadence", closeTo(85000.0 / 12, 1e-6)))
+                .andExpect(jsonPath("$.countries[0].targetGrossPerCadence",
+                        closeTo(85000.0 / 12 / USD_TO_GBP, 1e-6)));
+    }
+
+    @Test
+    void compareCountries_withUnknownCurrency_shouldReturnUnprocessableEntity() throws Exception {
+        String requestJson = """
+            {
+                "taxYear": 2025,
+                "annualSalary": 100000,
+                "targetCurrency": "XYZ",
+                "countries": ["UK"]
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/countries")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.error", containsString("XYZ")));
+    }
+
+    @Test
+    void compareCountries_withoutTargetCurrency_shouldReturnBadRequest() throws Exception {
+        String requestJson = """
+            {
+                "taxYear": 2025,
+                "annualSalary": 100000
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/countries")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isBadRequest());
+    }
+}
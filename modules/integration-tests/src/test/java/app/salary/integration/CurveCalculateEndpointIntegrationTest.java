@@ -0,0 +1,136 @@
+package app.salary.integration;
+
+import app.salary.api.SalaryCalculatorApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = SalaryCalculatorApplication.class)
+@AutoConfigureMockMvc
+class CurveCalculateEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void calculateCurve_withUKSweep_shouldReturnParallelArrays() throws Exception {
+        String requestJson = """
+            {
+                "country": "UK",
+                "taxYear": 2025,
+                "minGross": 0,
+                "maxGross": 200000,
+                "steps": 21
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/curve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currency", is("GBP")))
+                .andExpect(jsonPath("$.rulePackVersion", is("UK-2025.4.0")))
+                .andExpect(jsonPath("$.gross", hasSize(21)))
+                .andExpect(jsonPath("$.net", hasSize(21)))
+                .andExpect(jsonPath("$.totalTax", hasSize(21)))
+                .andExpect(jsonPath("$.effectiveRate", hasSize(21)))
+                .andExpect(jsonPath("$.marginalRate", hasSize(21)))
+                .andExpect(jsonPath("$.gross[11]", closeTo(110000.0, 1e-6)))
+                .andExpect(jsonPath("$.net[0]", closeTo(0.0, 1e-6)))
+                .andExpect(jsonPath("$.net[11]", closeTo(72357.4, 1e-6)))
+                // 40% higher rate plus the 20% personal allowance taper plus 2% NI
+                .andExpect(jsonPath("$.marginalRate[11]", closeTo(0.62, 1e-9)));
+    }
+
+    @Test
+    void calculateCurve_withExplicitPointsAndCadence_shouldScaleAmounts() throws Exception {
+        String requestJson = """
+            {
+                "country": "UK",
+                "taxYear": 2025,
+                "points": [110000, 12000],
+                "cadence": "MONTHLY"
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/curve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cadence", is("MONTHLY")))
+                .andExpect(jsonPath("$.gross[0]", closeTo(110000.0 / 12, 1e-6)))
+                .andExpect(jsonPath("$.net[0]", closeTo(72357.4 / 12, 1e-6)))
+                .andExpect(jsonPath("$.net[1]", closeTo(1000.0, 1e-6)))
+                .andExpect(jsonPath("$.effectiveRate[1]", closeTo(0.0, 1e-9)));
+    }
+
+    @Test
+    void calculateCurve_withUSOptions_shouldReturnUSDCurve() throws Exception {
+        String requestJson = """
+            {
+                "country": "US",
+                "taxYear": 2025,
+                "minGross": 50000,
+                "maxGross": 150000,
+                "steps": 3,
+                "countryOptions": {
+                    "US": {
+                        "state": "CA",
+                        "filingStatus": "SINGLE"
+                    }
+                }
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/curve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currency", is("USD")))
+                .andExpect(jsonPath("$.gross", contains(50000.0, 100000.0, 150000.0)))
+                .andExpect(jsonPath("$.net[1]", greaterThan(50000.0)))
+                .andExpect(jsonPath("$.effectiveRate[2]", greaterThan(0.0)));
+    }
+
+    @Test
+    void calculateCurve_withoutRangeOrPoints_shouldReturnUnprocessableEntity() throws Exception {
+        String requestJson = """
+            {
+                "country": "UK",
+                "taxYear": 2025,
+                "minGross": 10000
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/curve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void calculateCurve_withTooFewSteps_shouldReturnBadRequest() throws Exception {
+        String requestJson = """
+            {
+                "country": "UK",
+                "taxYear": 2025,
+                "minGross": 10000,
+                "maxGross": 20000,
+                "steps": 1
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/curve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.steps", notNullValue()));
+    }
+}
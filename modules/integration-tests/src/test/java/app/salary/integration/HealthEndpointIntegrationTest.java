@@ -46,4 +46,11 @@ class HealthEndpointIntegrationTest {
                 .andExpect(jsonPath("$.calculators", notNullValue()))
                 .andExpect(jsonPath("$.supportedCountries", notNullValue()));
     }
+
+    @Test
+    void readinessProbe_afterStartupPrewarm_shouldReportUp() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("UP")));
+    }
 }
@@ -0,0 +1,105 @@
+package app.salary.integration;
+
+import app.salary.api.SalaryCalculatorApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = SalaryCalculatorApplication.class)
+@AutoConfigureMockMvc
+class InverseCalculateEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void calculateInverse_withUKMonthlyTarget_shouldReturnRequiredGross() throws Exception {
+        String requestJson = """
+            {
+                "country": "UK",
+                "taxYear": 2025,
+                "targetNet": 3000,
+                "cadence": "MONTHLY"
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/inverse")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.calculationId", notNullValue()))
+                .andExpect(jsonPath("$.netPerCadence", closeTo(3000.0, 1e-6)))
+                .andExpect(jsonPath("$.grossPerCadence", greaterThan(3000.0)))
+                .andExpect(jsonPath("$.currency", is("GBP")))
+                .andExpect(jsonPath("$.rulePackVersion", is("UK-2025.4.0")));
+    }
+
+    @Test
+    void calculateInverse_inUKTaperRegion_shouldRoundTripThroughCalculate() throws Exception {
+        // Net at 110000 gross falls inside the 60% personal allowance taper
+        String requestJson = """
+            {
+                "country": "UK",
+                "taxYear": 2025,
+                "targetNet": 72357.4
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/inverse")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.annualGross", closeTo(110000.0, 1e-3)))
+                .andExpect(jsonPath("$.netPerCadence", closeTo(72357.4, 1e-6)));
+    }
+
+    @Test
+    void calculateInverse_withUSOptions_shouldReturnRequiredGross() throws Exception {
+        String requestJson = """
+            {
+                "country": "US",
+                "taxYear": 2025,
+                "targetNet": 72556.15,
+                "countryOptions": {
+                    "US": {
+                        "state": "CA",
+                        "filingStatus": "SINGLE"
+                    }
+                }
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/inverse")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.annualGross", greaterThan(72556.15)))
+                .andExpect(jsonPath("$.netPerCadence", closeTo(72556.15, 1e-6)))
+                .andExpect(jsonPath("$.currency", is("USD")));
+    }
+
+    @Test
+    void calculateInverse_withoutUSCountryOptions_shouldReturnBadRequest() throws Exception {
+        String requestJson = """
+            {
+                "country": "US",
+                "taxYear": 2025,
+                "targetNet": 50000
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/inverse")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.inverseCalculateRequest",
+                    containsString("US calculations require state and filing status")));
+    }
+}
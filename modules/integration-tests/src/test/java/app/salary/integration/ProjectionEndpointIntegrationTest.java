@@ -0,0 +1,160 @@
+package app.salary.integration;
+
+import app.salary.api.SalaryCalculatorApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = SalaryCalculatorApplication.class)
+@AutoConfigureMockMvc
+class ProjectionEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void project_withSalaryGrowth_shouldUsePublishedPackThenProjectedOnes() throws Exception {
+        // 45357.40 is the annual net of a single UK calculation at 60000
+        String requestJson = """
+            {
+                "country": "UK",
+                "taxYear": 2025,
+                "years": 3,
+                "annualSalary": 60000,
+                "salaryGrowth": 0.03
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/projection")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.calculationId", notNullValue()))
+                .andExpect(jsonPath("$.currency", is("GBP")))
+                .andExpect(jsonPath("$.inflation", is(0.025)))
+                .andExpect(jsonPath("$.years", hasSize(3)))
+                .andExpect(jsonPath("$.years[*].taxYear", contains(2025, 2026, 2027)))
+                .andExpect(jsonPath("$.years[0].projected", is(false)))
+                .andExpect(jsonPath("$.years[0].rulePackVersion", is("UK-2025.4.0")))
+                .andExpect(jsonPath("$.years[0].netPerCadence", closeTo(45357.40, 1e-6)))
+                .andExpect(jsonPath("$.years[1].projected", is(true)))
+                .andExpect(jsonPath("$.years[1].rulePackVersion", is("UK-2025.4.0+projected.2026@0.025")))
+                .andExpect(jsonPath("$.years[1].grossPerCadence", closeTo(61800.0, 1e-6)))
+                .andExpect(jsonPath("$.years[2].netPerCadence", closeTo(48011.10, 1e-6)))
+                .andExpect(jsonPath("$.years[2].realNetPerCadence", lessThan(48011.10)));
+    }
+
+    @Test
+    void project_withoutYears_shouldProjectTenYears() throws Exception {
+        String requestJson = """
+            {
+                "country": "US",
+                "taxYear": 2025,
+                "annualSalary": 100000,
+                "inflation": 0.03,
+                "cadence": "MONTHLY",
+                "countryOptions": {
+                    "US": {
+                        "state": "MD",
+                        "filingStatus": "SINGLE"
+                    }
+                }
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/projection")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cadence", is("MONTHLY")))
+                .andExpect(jsonPath("$.years", hasSize(10)))
+                .andExpect(jsonPath("$.years[9].taxYear", is(2034)))
+                .andExpect(jsonPath("$.years[9].rulePackVersion", is("US-2025.10.0+projected.2034@0.03")))
+                .andExpect(jsonPath("$.years[9].netPerCadence", greaterThan(5884.29)));
+    }
+
+    @Test
+    void project_withTooManyYears_shouldReturnBadRequest() throws Exception {
+        String requestJson = """
+            {
+                "country": "UK",
+                "taxYear": 2025,
+                "years": 51,
+                "annualSalary": 60000
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/projection")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void project_atUpperBounds_shouldProjectEveryYear() throws Exception {
+        String requestJson = """
+            {
+                "country": "US",
+                "taxYear": 2075,
+                "years": 50,
+                "annualSalary": 100000,
+                "inflation": 0.1,
+                "countryOptions": {
+                    "US": {
+                        "state": "CA",
+                        "filingStatus": "SINGLE"
+                    }
+                }
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/projection")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.years", hasSize(50)))
+                .andExpect(jsonPath("$.years[49].taxYear", is(2124)))
+                .andExpect(jsonPath("$.years[49].projected", is(true)));
+    }
+
+    @Test
+    void project_withInflationPastUpperBound_shouldReturnBadRequest() throws Exception {
+        String requestJson = """
+            {
+                "country": "UK",
+                "taxYear": 2025,
+                "annualSalary": 60000,
+                "inflation": 0.11
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/projection")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void project_withTaxYearPastUpperBound_shouldReturnBadRequest() throws Exception {
+        String requestJson = """
+            {
+                "country": "UK",
+                "taxYear": 2076,
+                "years": 2,
+                "annualSalary": 60000
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/projection")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,98 @@
+package app.salary.integration;
+
+import app.salary.api.SalaryCalculatorApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = SalaryCalculatorApplication.class)
+@AutoConfigureMockMvc
+class StateComparisonEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void compareStates_withoutStates_shouldReturnEveryStateByCode() throws Exception {
+        String requestJson = """
+            {
+                "taxYear": 2025,
+                "annualSalary": 100000,
+                "filingStatus": "SINGLE",
+                "cadence": "MONTHLY"
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/states")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.calculationId", notNullValue()))
+                .andExpect(jsonPath("$.currency", is("USD")))
+                .andExpect(jsonPath("$.cadence", is("MONTHLY")))
+                .andExpect(jsonPath("$.federalIncomeTaxPerCadence", greaterThan(0.0)))
+                .andExpect(jsonPath("$.states[0].state", is("CA")))
+                .andExpect(jsonPath("$.states[*].state", hasItems("CA", "MD")))
+                .andExpect(jsonPath("$.states[?(@.state == 'MD')].localTaxPerCadence", contains(greaterThan(0.0))));
+    }
+
+    @Test
+    void compareStates_withSubset_shouldMatchSingleCalculationInEachState() throws Exception {
+        // 72556.15 is the annual net of a single CA calculation at 100000 (see the inverse tests)
+        String requestJson = """
+            {
+                "taxYear": 2025,
+                "annualSalary": 100000,
+                "filingStatus": "SINGLE",
+                "states": ["CA"]
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/states")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.states", hasSize(1)))
+                .andExpect(jsonPath("$.states[0].netPerCadence", closeTo(72556.15, 1e-6)));
+    }
+
+    @Test
+    void compareStates_withUnknownState_shouldReturnUnprocessableEntity() throws Exception {
+        String requestJson = """
+            {
+                "taxYear": 2025,
+                "annualSalary": 100000,
+                "filingStatus": "SINGLE",
+                "states": ["CA", "ZZ"]
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/states")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.error", containsString("ZZ")));
+    }
+
+    @Test
+    void compareStates_withoutFilingStatus_shouldReturnBadRequest() throws Exception {
+        String requestJson = """
+            {
+                "taxYear": 2025,
+                "annualSalary": 100000
+            }
+            """;
+
+        mockMvc.perform(post("/v1/calculate/states")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+                .andExpect(status().isBadRequest());
+    }
+}
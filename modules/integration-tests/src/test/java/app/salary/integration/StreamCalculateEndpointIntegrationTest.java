@@ -0,0 +1,111 @@
+package app.salary.integration;
+
+import app.salary.api.SalaryCalculatorApplication;
+import app.salary.api.controller.CalculateController;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = SalaryCalculatorApplication.class)
+@AutoConfigureMockMvc
+class StreamCalculateEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void calculateStream_shouldWriteOneLinePerRequest() throws Exception {
+        String body = """
+            {"country":"UK","taxYear":2025,"annualSalary":50000}
+            {"country":"US","taxYear":2025,"annualSalary":100000,"countryOptions":{"US":{"state":"CA","filingStatus":"SINGLE"}}}
+
+            {"country":"UK","taxYear":2025,"annualSalary":60000,"cadence":"MONTHLY"}
+            """;
+
+        String content = mockMvc.perform(post("/v1/calculate/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = content.split("\n");
+        assertEquals(3, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("GBP", first.get("currency").asText());
+        assertEquals(50000.0, first.get("grossPerCadence").asDouble());
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals("USD", second.get("currency").asText());
+
+        JsonNode third = objectMapper.readTree(lines[2]);
+        assertEquals(5000.0, third.get("grossPerCadence").asDouble());
+    }
+
+    @Test
+    void calculateStream_withBadLines_shouldReportErrorsAndContinue() throws Exception {
+        String body = """
+            {"country":"US","taxYear":2025,"annualSalary":100000}
+            not json
+            {"country":"UK","taxYear":2025,"annualSalary":50000}
+            """;
+
+        String content = mockMvc.perform(post("/v1/calculate/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = content.split("\n");
+        assertEquals(3, lines.length);
+
+        JsonNode invalid = objectMapper.readTree(lines[0]);
+        assertEquals(0, invalid.get("index").asInt());
+        assertTrue(invalid.get("error").asText().contains("US calculations require state and filing status"));
+
+        JsonNode malformed = objectMapper.readTree(lines[1]);
+        assertEquals(1, malformed.get("index").asInt());
+        assertTrue(malformed.get("error").asText().startsWith("Malformed request"));
+
+        JsonNode valid = objectMapper.readTree(lines[2]);
+        assertEquals("GBP", valid.get("currency").asText());
+    }
+
+    @Test
+    void calculateStream_withOversizedLine_shouldReportItAndContinue() throws Exception {
+        String oversized = "{\"country\":\"UK\",\"note\":\""
+                + "x".repeat(CalculateController.MAX_STREAM_LINE_LENGTH) + "\"}";
+        String body = "{\"country\":\"UK\",\"taxYear\":2025,\"annualSalary\":50000}\n"
+                + oversized + "\n"
+                + "{\"country\":\"UK\",\"taxYear\":2025,\"annualSalary\":60000}\n";
+
+        String content = mockMvc.perform(post("/v1/calculate/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = content.split("\n");
+        assertEquals(3, lines.length);
+
+        JsonNode rejected = objectMapper.readTree(lines[1]);
+        assertEquals(1, rejected.get("index").asInt());
+        assertTrue(rejected.get("error").asText().startsWith("Line exceeds"));
+
+        JsonNode after = objectMapper.readTree(lines[2]);
+        assertEquals(60000.0, after.get("grossPerCadence").asDouble());
+    }
+}
@@ -0,0 +1,220 @@
+package app.salary.rules;
+
+import app.salary.common.money.FixedPoint;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluation-ready form of a {@link RulePack}.
+ * <p>
+ * Every bracket list in the pack (federal, each state, UK income tax bands) is flattened into
+ * parallel primitive arrays with the tax accrued at each bracket's lower bound precomputed, so
+ * evaluating a bracket schedule is a binary search plus one multiply-add with no unboxing.
+ * Each table also carries a {@link FixedPoint} copy in minor units for the fixed-point engine.
+ */
+public class CompiledRulePack {
+    private final RulePack source;
+    private final BracketTable federalBrackets;
+    private final Map<String, BracketTable> stateBrackets;
+    private final BracketTable incomeTaxBands;
+
+    private CompiledRulePack(RulePack source, BracketTable federalBrackets,
+                             Map<String, BracketTable> stateBrackets, BracketTable incomeTaxBands) {
+        this.source = source;
+        this.federalBrackets = federalBrackets;
+        this.stateBrackets = stateBrackets;
+        this.incomeTaxBands = incomeTaxBands;
+    }
+
+    public static CompiledRulePack compile(RulePack rulePack) {
+        BracketTable federal = null;
+        if (rulePack.getFederal() != null) {
+            federal = BracketTable.of(rulePack.getFederal().getBrackets());
+        }
+
+        Map<String, BracketTable> states = Collections.emptyMap();
+        if (rulePack.getStates() != null) {
+            states = new HashMap<>();
+            for (Map.Entry<String, RulePack.StateRules> entry : rulePack.getStates().entrySet()) {
+                states.put(entry.getKey(), BracketTable.of(entry.getValue().getBrackets()));
+            }
+        }
+
+        BracketTable bands = null;
+        if (rulePack.getIncomeTax() != null) {
+            bands = BracketTable.of(rulePack.getIncomeTax().getBands());
+        }
+
+        return new CompiledRulePack(rulePack, federal, states, bands);
+    }
+
+    public RulePack getSource() { return source; }
+    public BracketTable getFederalBrackets() { return federalBrackets; }
+    public BracketTable getStateBrackets(String state) { return stateBrackets.get(state); }
+    public Map<String, BracketTable> getStateBrackets() { return stateBrackets; }
+    public BracketTable getIncomeTaxBands() { return incomeTaxBands; }
+
+    /**
+     * A progressive bracket schedule as parallel arrays. Bracket {@code i} covers income in
+     * {@code (thresholds[i], upperBounds[i]]} and is taxed at {@code rates[i]};
+     * {@code cumulativeTax[i]} is the total tax owed at exactly {@code thresholds[i]}.
+     * Income above a closed final bracket is untaxed, matching {@code TaxBracketCalculator}.
+     * <p>
+     * The {@code long} methods evaluate the same schedule on {@link FixedPoint} minor units, with
+     * thresholds in minor units, rates in {@link FixedPoint#RATE_SCALE} and tax returned scaled
+     * and unrounded so the caller applies its own rounding rule once.
+     */
+    public static final class BracketTable {
+        private static final BracketTable EMPTY =
+                new BracketTable(new double[0], new double[0], new double[0], new double[0]);
+
+        private final double[] thresholds;
+        private final double[] upperBounds;
+        private final double[] rates;
+        private final double[] cumulativeTax;
+        private final long[] minorThresholds;
+        private final long[] minorUpperBounds;
+        private final long[] fixedRates;
+        private final long[] scaledCumulativeTax;
+
+        private BracketTable(double[] thresholds, double[] upperBounds,
+                             double[] rates, double[] cumulativeTax) {
+            this.thresholds = thresholds;
+            this.upperBounds = upperBounds;
+            this.rates = rates;
+            this.cumulativeTax = cumulativeTax;
+
+            int size = rates.length;
+            this.minorThresholds = new long[size];
+            this.minorUpperBounds = new long[size];
+            this.fixedRates = new long[size];
+            this.scaledCumulativeTax = new long[size];
+            long accrued = 0L;
+            for (int i = 0; i < size; i++) {
+                minorThresholds[i] = FixedPoint.toMinor(thresholds[i]);
+                minorUpperBounds[i] = upperBounds[i] == Double.POSITIVE_INFINITY
+                        ? Long.MAX_VALUE : FixedPoint.toMinor(upperBounds[i]);
+                fixedRates[i] = FixedPoint.toRate(rates[i]);
+                scaledCumulativeTax[i] = accrued;
+                if (minorUpperBounds[i] != Long.MAX_VALUE) {
+                    accrued = Math.addExact(accrued,
+                            FixedPoint.scaled(minorUpperBounds[i] - minorThresholds[i], fixedRates[i]));
+                }
+            }
+        }
+
+        public static BracketTable of(List<RulePack.TaxBracket> brackets) {
+            if (brackets == null || brackets.isEmpty()) {
+                return EMPTY;
+            }
+
+            int size = 0;
+            while (size < brackets.size()) {
+                size++;
+                if (brackets.get(size - 1).getUpTo() == null) break;
+            }
+
+            double[] thresholds = new double[size];
+            double[] upperBounds = new double[size];
+            double[] rates = new double[size];
+            double[] cumulativeTax = new double[size];
+
+            double previousThreshold = 0.0;
+            double accrued = 0.0;
+            for (int i = 0; i < size; i++) {
+                RulePack.TaxBracket bracket = brackets.get(i);
+                if (bracket.getRate() == null) {
+                    throw new IllegalArgumentException("Tax bracket " + i + " has no rate");
+                }
+                double upTo = bracket.getUpTo() != null ? bracket.getUpTo() : Double.POSITIVE_INFINITY;
+                if (upTo < previousThreshold) {
+                    throw new IllegalArgumentException(String.format(
+                            "Tax bracket %d upper bound %.2f is below previous threshold %.2f",
+                            i, upTo, previousThreshold));
+                }
+
+                thresholds[i] = previousThreshold;
+                upperBounds[i] = upTo;
+                rates[i] = bracket.getRate();
+                cumulativeTax[i] = accrued;
+
+                accrued += (upTo - previousThreshold) * rates[i];
+                previousThreshold = upTo;
+            }
+            return new BracketTable(thresholds, upperBounds, rates, cumulativeTax);
+        }
+
+        public double tax(double income) {
+            if (rates.length == 0) {
+                return 0.0;
+            }
+            int i = bracketIndex(income);
+            double capped = Math.min(income, upperBounds[i]);
+            return cumulativeTax[i] + (capped - thresholds[i]) * rates[i];
+        }
+
+        /** Index of the bracket that taxes the last unit of {@code income}. */
+        public int bracketIndex(double income) {
+            int index = Arrays.binarySearch(thresholds, income);
+            if (index < 0) {
+                index = -index - 2;
+            } else {
+                index -= 1;
+            }
+            return Math.max(0, index);
+        }
+
+        /** Portion of {@code income} that falls inside bracket {@code i}. */
+        public double incomeInBracket(int i, double income) {
+            return Math.max(0.0, Math.min(income, upperBounds[i]) - thresholds[i]);
+        }
+
+        /** Rate applied to the next unit of income above {@code income}. */
+        public double marginalRate(double income) {
+            if (rates.length == 0) {
+                return 0.0;
+            }
+            int i = bracketIndex(income);
+            if (income < upperBounds[i]) {
+                return rates[i];
+            }
+            return i + 1 < rates.length ? rates[i + 1] : 0.0;
+        }
+
+        /** Tax on {@code minorIncome}, exact, in minor units times {@link FixedPoint#RATE_SCALE}. */
+        public long scaledTax(long minorIncome) {
+            if (fixedRates.length == 0) {
+                return 0L;
+            }
+            int i = bracketIndex(minorIncome);
+            long capped = Math.min(minorIncome, minorUpperBounds[i]);
+            return Math.addExact(scaledCumulativeTax[i],
+                    FixedPoint.scaled(capped - minorThresholds[i], fixedRates[i]));
+        }
+
+        public int bracketIndex(long minorIncome) {
+            int index = Arrays.binarySearch(minorThresholds, minorIncome);
+            if (index < 0) {
+                index = -index - 2;
+            } else {
+                index -= 1;
+            }
+            return Math.max(0, index);
+        }
+
+        public long incomeInBracket(int i, long minorIncome) {
+            return Math.max(0L, Math.min(minorIncome, minorUpperBounds[i]) - minorThresholds[i]);
+        }
+
+        public int size() { return rates.length; }
+        public double threshold(int i) { return thresholds[i]; }
+        public double upperBound(int i) { return upperBounds[i]; }
+        public double rate(int i) { return rates[i]; }
+        public double cumulativeTax(int i) { return cumulativeTax[i]; }
+        public long fixedRate(int i) { return fixedRates[i]; }
+    }
+}
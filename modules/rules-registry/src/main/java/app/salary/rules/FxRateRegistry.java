@@ -0,0 +1,100 @@
+package app.salary.rules;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Holds the current {@link FxRateTable}. The table is loaded once at construction, from the
+ * external directory if it has a {@value #FILE_NAME}, otherwise from the bundled copy, and kept
+ * in memory until it is swapped: {@link RulePackDirectoryWatcher} calls {@link #reload} when the
+ * file changes, and {@link #swap} installs a table built elsewhere. Callers read the table once
+ * per operation so a swap never mixes two tables within one result.
+ */
+public class FxRateRegistry {
+    private static final Logger log = LoggerFactory.getLogger(FxRateRegistry.class);
+    public static final String FILE_NAME = "fx-rates.json";
+    public static final String RESOURCE = "/fx/" + FILE_NAME;
+
+    private final MeterRegistry meterRegistry;
+    private final Path externalDirectory;
+    private volatile FxRateTable current;
+
+    public FxRateRegistry() {
+        this(Metrics.globalRegistry, null);
+    }
+
+    /**
+     * @param externalDirectory directory whose {@value #FILE_NAME} overrides the bundled table, or
+     *                          {@code null} to use the classpath only
+     */
+    public FxRateRegistry(MeterRegistry meterRegistry, Path externalDirectory) {
+        this.meterRegistry = meterRegistry;
+        this.externalDirectory = externalDirectory;
+        this.current = load("initial");
+    }
+
+    public FxRateTable getRates() {
+        return current;
+    }
+
+    /**
+     * Reads and validates the table again and swaps it in. If loading fails the current table
+     * stays in place and the exception propagates.
+     */
+    public FxRateTable reload() {
+        FxRateTable table = load("watch");
+        swap(table);
+        return table;
+    }
+
+    public void swap(FxRateTable table) {
+        FxRateTable previous = current;
+        current = table;
+        log.info("Swapped FX rate table {} for {}", previous.getVersion(), table.getVersion());
+    }
+
+    private FxRateTable load(String trigger) {
+        String outcome = "failure";
+        try {
+            FxRateTable table = read();
+            outcome = "success";
+            return table;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load FX rate table", e);
+        } finally {
+            Counter.builder("salary.fx.loads")
+                    .description("FX rate table loads")
+                    .tags("trigger", trigger, "outcome", outcome)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private FxRateTable read() throws IOException {
+        if (externalDirectory != null) {
+            Path file = externalDirectory.resolve(FILE_NAME);
+            if (Files.isRegularFile(file)) {
+                log.info("Loading FX rate table: {}", file);
+                try (InputStream is = Files.newInputStream(file)) {
+                    return FxRateTable.read(is);
+                }
+            }
+        }
+        try (InputStream is = getClass().getResourceAsStream(RESOURCE)) {
+            if (is == null) {
+                throw new IOException("FX rate table not found: " + RESOURCE);
+            }
+            log.info("Loading FX rate table: {}", RESOURCE);
+            return FxRateTable.read(is);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package app.salary.rules;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable, versioned table of exchange rates, read from JSON as units of each currency per one
+ * unit of a base currency. The cross rate between every pair of currencies is computed once when
+ * the table is built, so converting is an index lookup and a multiplication.
+ */
+public final class FxRateTable {
+    private static final Pattern CURRENCY_CODE = Pattern.compile("[A-Z]{3}");
+
+    private final String version;
+    private final String asOf;
+    private final String base;
+    private final List<String> currencies;
+    private final Map<String, Integer> index;
+    // cross[from * n + to] converts one unit of currency "from" into currency "to"
+    private final double[] cross;
+
+    private FxRateTable(String version, String asOf, String base, String[] currencies, double[] perBase) {
+        this.version = version;
+        this.asOf = asOf;
+        this.base = base;
+        this.currencies = List.of(currencies);
+        this.index = new HashMap<>();
+        for (int i = 0; i < currencies.length; i++) {
+            index.put(currencies[i], i);
+        }
+        int n = currencies.length;
+        this.cross = new double[n * n];
+        for (int from = 0; from < n; from++) {
+            for (int to = 0; to < n; to++) {
+                cross[from * n + to] = from == to ? 1.0 : perBase[to] / perBase[from];
+            }
+        }
+    }
+
+    /**
+     * Builds and validates a table from {@code rates}, in units of each currency per one unit of
+     * {@code base}, which must itself be listed at 1.
+     *
+     * @throws IllegalArgumentException if the table is incomplete or a rate is not positive
+     */
+    public static FxRateTable of(String version, String asOf, String base, Map<String, Double> rates) {
+        if (version == null || version.isBlank()) {
+            throw new IllegalArgumentException("FX rate table has no version");
+        }
+        if (rates == null || rates.get(base) == null || rates.get(base) != 1.0) {
+            throw new IllegalArgumentException("FX rate table must list its base currency " + base + " at 1");
+        }
+        String[] currencies = rates.keySet().stream().sorted().toArray(String[]::new);
+        double[] perBase = new double[currencies.length];
+        for (int i = 0; i < currencies.length; i++) {
+            Double rate = rates.get(currencies[i]);
+            if (!CURRENCY_CODE.matcher(currencies[i]).matches()) {
+                throw new IllegalArgumentException("Invalid currency code in FX rate table: " + currencies[i]);
+            }
+            if (rate == null || !(rate > 0) || Double.isInfinite(rate)) {
+                throw new IllegalArgumentException("Invalid FX rate for " + currencies[i] + ": " + rate);
+            }
+            perBase[i] = rate;
+        }
+        return new FxRateTable(version, asOf, base, currencies, perBase);
+    }
+
+    /** Reads and validates a table in the bundled {@code fx-rates.json} format. */
+    public static FxRateTable read(InputStream json) throws IOException {
+        Source source = new ObjectMapper().readValue(json, Source.class);
+        return of(source.version(), source.asOf(), source.base(), source.rates());
+    }
+
+    public String getVersion() { return version; }
+    public String getAsOf() { return asOf; }
+    public String getBase() { return base; }
+    public List<String> getCurrencies() { return currencies; }
+
+    public boolean supports(String currency) {
+        return index.containsKey(currency);
+    }
+
+    /**
+     * Units of {@code to} per one unit of {@code from}.
+     *
+     * @throws IllegalArgumentException if either currency is not in this table
+     */
+    public double rate(String from, String to) {
+        return cross[indexOf(from) * currencies.size() + indexOf(to)];
+    }
+
+    public double convert(double amount, String from, String to) {
+        return amount * rate(from, to);
+    }
+
+    private int indexOf(String currency) {
+        Integer i = index.get(currency);
+        if (i == null) {
+            throw new IllegalArgumentException(String.format(
+                    "No FX rate for %s in table %s; available: %s", currency, version, currencies));
+        }
+        return i;
+    }
+
+    @Override
+    public String toString() {
+        return "FxRateTable[" + version + ", as of " + asOf + ", " + currencies + "]";
+    }
+
+    private record Source(String version, String asOf, String base, Map<String, Double> rates) {
+    }
+}
@@ -1,5 +1,7 @@
 package app.salary.rules;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.util.List;
 import java.util.Map;
 
@@ -12,10 +14,14 @@ public class RulePack {
     private NationalInsurance ni;
     private Map<String, StudentLoanRules> studentLoan;
 
+    @JsonIgnore
+    private CompiledRulePack compiled;
+
     public static class Metadata {
         private String country;
         private Integer taxYear;
         private String version;
+        private String projectedFrom;
 
         public String getCountry() { return country; }
         public void setCountry(String country) { this.country = country;}
@@ -23,6 +29,9 @@ public class RulePack {
         public void setTaxYear(Integer taxYear) { this.taxYear = taxYear; }
         public String getVersion() { return version; }
         public void setVersion(String version) { this.version = version; }
+        /** Version of the published pack a {@link RulePackProjector} derived this one from; null if published. */
+        public String getProjectedFrom() { return projectedFrom; }
+        public void setProjectedFrom(String projectedFrom) { this.projectedFrom = projectedFrom; }
     }
 
     public static class Federal {
@@ -142,5 +151,9 @@ public class RulePack {
         this.studentLoan = studentLoan;
     }
 
-
+    /** Primitive evaluation tables for this pack; null until compiled by {@link RulesRegistry}. */
+    @JsonIgnore
+    public CompiledRulePack getCompiled() { return compiled; }
+    @JsonIgnore
+    public void setCompiled(CompiledRulePack compiled) { this.compiled = compiled; }
 }
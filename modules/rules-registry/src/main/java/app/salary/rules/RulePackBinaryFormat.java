@@ -0,0 +1,295 @@
+package app.salary.rules;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compact binary encoding of a {@link RulePack}, generated at build time from the JSON packs by
+ * {@link RulePackCompiler} and read back by {@link RulesRegistry} from a memory-mapped file.
+ * <p>
+ * The layout is positional: a magic number and format version, then every section in a fixed
+ * order. Decoding is a sequence of absolute-size reads with no tokenizing, field-name matching
+ * or reflection. Conventions, all big-endian:
+ * <ul>
+ *   <li>absent {@code Double}: {@code NaN}, which JSON cannot express</li>
+ *   <li>string: {@code int} UTF-8 length, {@code -1} when absent, then the bytes</li>
+ *   <li>list or map: {@code int} size, {@code -1} when absent; map keys are strings and keep
+ *       their order</li>
+ *   <li>section object: one presence byte</li>
+ * </ul>
+ * Bump {@link #FORMAT_VERSION} on any layout change; readers reject other versions and the
+ * registry falls back to the JSON pack.
+ */
+public final class RulePackBinaryFormat {
+    public static final String FILE_EXTENSION = ".rpk";
+    static final int MAGIC = 0x52504B21; // "RPK!"
+    static final short FORMAT_VERSION = 2;
+
+    private RulePackBinaryFormat() {
+    }
+
+    public static byte[] write(RulePack rulePack) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+
+            RulePack.Metadata metadata = rulePack.getMetadata();
+            if (present(out, metadata)) {
+                writeString(out, metadata.getCountry());
+                out.writeInt(metadata.getTaxYear() != null ? metadata.getTaxYear() : Integer.MIN_VALUE);
+                writeString(out, metadata.getVersion());
+                writeString(out, metadata.getProjectedFrom());
+            }
+
+            RulePack.Federal federal = rulePack.getFederal();
+            if (present(out, federal)) {
+                writeMap(out, federal.getStandardDeductions(), RulePackBinaryFormat::writeDouble);
+                writeBrackets(out, federal.getBrackets());
+            }
+
+            RulePack.Fica fica = rulePack.getFica();
+            if (present(out, fica)) {
+                writeDouble(out, fica.getSsRate());
+                writeDouble(out, fica.getSsWageBase());
+                writeDouble(out, fica.getMedicareRate());
+                writeDouble(out, fica.getAdditionalMedicareThreshold());
+                writeDouble(out, fica.getAdditionalRate());
+            }
+
+            writeMap(out, rulePack.getStates(), (o, state) -> {
+                if (present(o, state)) {
+                    writeBrackets(o, state.getBrackets());
+                    writeDouble(o, state.getLocal());
+                }
+            });
+
+            RulePack.IncomeTax incomeTax = rulePack.getIncomeTax();
+            if (present(out, incomeTax)) {
+                writeDouble(out, incomeTax.getPersonalAllowance());
+                writeDouble(out, incomeTax.getTaperStart());
+                writeDouble(out, incomeTax.getTaperRate());
+                writeBrackets(out, incomeTax.getBands());
+            }
+
+            RulePack.NationalInsurance ni = rulePack.getNi();
+            if (present(out, ni)) {
+                writeDouble(out, ni.getPrimaryThresholdAnnual());
+                writeDouble(out, ni.getUpperEarningsLimit());
+                writeDouble(out, ni.getMainRate());
+                writeDouble(out, ni.getUpperRate());
+            }
+
+            writeMap(out, rulePack.getStudentLoan(), (o, plan) -> {
+                if (present(o, plan)) {
+                    writeDouble(o, plan.getThreshold());
+                    writeDouble(o, plan.getRate());
+                }
+            });
+        } catch (IOException e) {
+            throw new IllegalStateException("Writing to memory failed", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a pack from {@code buffer}'s current position. The returned pack is not yet
+     * compiled.
+     *
+     * @throws IllegalArgumentException if the buffer is not a rule pack in this format version
+     */
+    public static RulePack read(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a binary rule pack");
+            }
+            short version = buffer.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException(
+                        "Unsupported binary rule pack format " + version + ", expected " + FORMAT_VERSION);
+            }
+
+            RulePack rulePack = new RulePack();
+            if (present(buffer)) {
+                RulePack.Metadata metadata = new RulePack.Metadata();
+                metadata.setCountry(readString(buffer));
+                int taxYear = buffer.getInt();
+                metadata.setTaxYear(taxYear != Integer.MIN_VALUE ? taxYear : null);
+                metadata.setVersion(readString(buffer));
+                metadata.setProjectedFrom(readString(buffer));
+                rulePack.setMetadata(metadata);
+            }
+
+            if (present(buffer)) {
+                RulePack.Federal federal = new RulePack.Federal();
+                federal.setStandardDeductions(readMap(buffer, RulePackBinaryFormat::readDouble));
+                federal.setBrackets(readBrackets(buffer));
+                rulePack.setFederal(federal);
+            }
+
+            if (present(buffer)) {
+                RulePack.Fica fica = new RulePack.Fica();
+                fica.setSsRate(readDouble(buffer));
+                fica.setSsWageBase(readDouble(buffer));
+                fica.setMedicareRate(readDouble(buffer));
+                fica.setAdditionalMedicareThreshold(readDouble(buffer));
+                fica.setAdditionalRate(readDouble(buffer));
+                rulePack.setFica(fica);
+            }
+
+            rulePack.setStates(readMap(buffer, b -> {
+                if (!present(b)) {
+                    return null;
+                }
+                RulePack.StateRules state = new RulePack.StateRules();
+                state.setBrackets(readBrackets(b));
+                state.setLocal(readDouble(b));
+                return state;
+            }));
+
+            if (present(buffer)) {
+                RulePack.IncomeTax incomeTax = new RulePack.IncomeTax();
+                incomeTax.setPersonalAllowance(readDouble(buffer));
+                incomeTax.setTaperStart(readDouble(buffer));
+                incomeTax.setTaperRate(readDouble(buffer));
+                incomeTax.setBands(readBrackets(buffer));
+                rulePack.setIncomeTax(incomeTax);
+            }
+
+            if (present(buffer)) {
+                RulePack.NationalInsurance ni = new RulePack.NationalInsurance();
+                ni.setPrimaryThresholdAnnual(readDouble(buffer));
+                ni.setUpperEarningsLimit(readDouble(buffer));
+                ni.setMainRate(readDouble(buffer));
+                ni.setUpperRate(readDouble(buffer));
+                rulePack.setNi(ni);
+            }
+
+            rulePack.setStudentLoan(readMap(buffer, b -> {
+                if (!present(b)) {
+                    return null;
+                }
+                RulePack.StudentLoanRules plan = new RulePack.StudentLoanRules();
+                plan.setThreshold(readDouble(b));
+                plan.setRate(readDouble(b));
+                return plan;
+            }));
+            return rulePack;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated binary rule pack", e);
+        }
+    }
+
+    private interface Writer<T> {
+        void write(DataOutputStream out, T value) throws IOException;
+    }
+
+    private static boolean present(DataOutputStream out, Object section) throws IOException {
+        out.writeBoolean(section != null);
+        return section != null;
+    }
+
+    private static boolean present(ByteBuffer buffer) {
+        return buffer.get() != 0;
+    }
+
+    private static void writeDouble(DataOutputStream out, Double value) throws IOException {
+        out.writeDouble(value != null ? value : Double.NaN);
+    }
+
+    private static Double readDouble(ByteBuffer buffer) {
+        double value = buffer.getDouble();
+        return Double.isNaN(value) ? null : value;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        checkRemaining(buffer, length);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeBrackets(DataOutputStream out, List<RulePack.TaxBracket> brackets) throws IOException {
+        if (brackets == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(brackets.size());
+        for (RulePack.TaxBracket bracket : brackets) {
+            writeDouble(out, bracket.getUpTo());
+            writeDouble(out, bracket.getRate());
+        }
+    }
+
+    private static List<RulePack.TaxBracket> readBrackets(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        if (size < 0) {
+            return null;
+        }
+        checkRemaining(buffer, (long) size * 2 * Double.BYTES);
+        List<RulePack.TaxBracket> brackets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            RulePack.TaxBracket bracket = new RulePack.TaxBracket();
+            bracket.setUpTo(readDouble(buffer));
+            bracket.setRate(readDouble(buffer));
+            brackets.add(bracket);
+        }
+        return brackets;
+    }
+
+    private static <V> void writeMap(DataOutputStream out, Map<String, V> map, Writer<V> values) throws IOException {
+        if (map == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(map.size());
+        for (Map.Entry<String, V> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            values.write(out, entry.getValue());
+        }
+    }
+
+    // Guards allocations against a corrupt length before reading the elements
+    private static void checkRemaining(ByteBuffer buffer, long bytes) {
+        if (bytes > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+    }
+
+    private static <V> Map<String, V> readMap(ByteBuffer buffer, Function<ByteBuffer, V> values) {
+        int size = buffer.getInt();
+        if (size < 0) {
+            return null;
+        }
+        checkRemaining(buffer, (long) size * Integer.BYTES);
+        Map<String, V> map = new LinkedHashMap<>(Math.max(16, size * 2));
+        for (int i = 0; i < size; i++) {
+            String key = readString(buffer);
+            map.put(key, values.apply(buffer));
+        }
+        return map;
+    }
+}
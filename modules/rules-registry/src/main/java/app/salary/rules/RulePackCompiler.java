@@ -0,0 +1,80 @@
+package app.salary.rules;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+
+/**
+ * Build-time entry point that turns each JSON rule pack into its {@link RulePackBinaryFormat}
+ * counterpart and writes a {@link RulePackManifest} listing them. Every pack is checked by
+ * {@link RulePackValidator} and compiled with {@link CompiledRulePack#compile} first, so a broken
+ * pack fails the build instead of a request, and the service can trust the bundled packs.
+ * <p>
+ * Usage: {@code RulePackCompiler <json pack directory> <output directory>}
+ */
+public final class RulePackCompiler {
+
+    private RulePackCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: RulePackCompiler <json pack directory> <output directory>");
+            System.exit(2);
+        }
+        Path source = Path.of(args[0]);
+        Path target = Path.of(args[1]);
+        Files.createDirectories(target);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> errors = new ArrayList<>();
+        List<RulePackManifest.Entry> compiled = new ArrayList<>();
+        try (DirectoryStream<Path> packs = Files.newDirectoryStream(source, "*.json")) {
+            for (Path pack : packs) {
+                String fileName = pack.getFileName().toString();
+                Matcher matcher = RulesRegistry.RULE_PACK_FILE_NAME.matcher(fileName);
+                if (!matcher.matches()) {
+                    errors.add(fileName + ": file name must be <COUNTRY>-<YEAR>.json");
+                    continue;
+                }
+                try {
+                    RulePack rulePack = objectMapper.readValue(pack.toFile(), RulePack.class);
+                    String country = matcher.group(1);
+                    int taxYear = Integer.parseInt(matcher.group(2));
+                    RulesRegistry.checkIdentity(rulePack, country, taxYear);
+                    List<String> problems = RulePackValidator.validate(rulePack);
+                    if (!problems.isEmpty()) {
+                        problems.forEach(problem -> errors.add(fileName + ": " + problem));
+                        continue;
+                    }
+                    CompiledRulePack.compile(rulePack);
+                    String binaryName = fileName.substring(0, fileName.length() - ".json".length())
+                            + RulePackBinaryFormat.FILE_EXTENSION;
+                    Files.write(target.resolve(binaryName), RulePackBinaryFormat.write(rulePack));
+                    compiled.add(new RulePackManifest.Entry(
+                            country, taxYear, rulePack.getMetadata().getVersion(), binaryName));
+                } catch (IOException | IllegalArgumentException e) {
+                    errors.add(fileName + ": " + e.getMessage());
+                }
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            errors.forEach(error -> System.err.println("Invalid rule pack " + error));
+            System.exit(1);
+        }
+        compiled.sort(Comparator.comparing(RulePackManifest.Entry::country)
+                .thenComparingInt(RulePackManifest.Entry::taxYear));
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(
+                target.resolve(RulePackManifest.FILE_NAME).toFile(),
+                new RulePackManifest(compiled));
+        System.out.printf("Compiled %d rule pack(s) into %s%n", compiled.size(), target);
+    }
+}
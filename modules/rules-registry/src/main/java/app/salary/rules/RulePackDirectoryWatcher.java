@@ -0,0 +1,170 @@
+package app.salary.rules;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Watches the {@link RulesRegistry} external directory and reloads a pack whenever its file is
+ * created, modified or deleted (a deleted pack falls back to the bundled one). Reloads run on the
+ * watcher thread, so requests keep using the current pack until the new one is parsed, validated
+ * and compiled; a pack that fails to load is logged and the current one kept.
+ * <p>
+ * A pack may be a JSON or a binary {@link RulePackBinaryFormat} file; a change to either reloads
+ * it once. Writing a pack to a temporary name and renaming it into place avoids reading it
+ * half-written; in-place edits of JSON packs also work because events are left to settle before
+ * reloading. Binary packs are memory-mapped, so they must be replaced by rename: one rewritten in
+ * place can shrink under a reload, which then ignores it and falls back to the JSON pack.
+ * <p>
+ * Given an {@link FxRateRegistry}, a {@value FxRateRegistry#FILE_NAME} in the same directory is
+ * reloaded the same way.
+ */
+public class RulePackDirectoryWatcher implements Closeable {
+    private static final Logger log = LoggerFactory.getLogger(RulePackDirectoryWatcher.class);
+    private static final long SETTLE_MILLIS = 250;
+
+    private final RulesRegistry rulesRegistry;
+    private final FxRateRegistry fxRates;
+    private final Path directory;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    public RulePackDirectoryWatcher(RulesRegistry rulesRegistry) throws IOException {
+        this(rulesRegistry, null);
+    }
+
+    /** @param fxRates registry to reload when the FX rate table changes, or {@code null} */
+    public RulePackDirectoryWatcher(RulesRegistry rulesRegistry, FxRateRegistry fxRates) throws IOException {
+        this.rulesRegistry = rulesRegistry;
+        this.fxRates = fxRates;
+        this.directory = rulesRegistry.getExternalDirectory();
+        if (directory == null || !Files.isDirectory(directory)) {
+            throw new IllegalArgumentException("Rule pack directory does not exist: " + directory);
+        }
+        this.watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        this.thread = Thread.ofPlatform().daemon().name("rulepack-watcher").unstarted(this::watch);
+    }
+
+    /**
+     * Loads every pack already in the directory, so packs published while this node was down are
+     * live before it serves traffic, then starts watching for changes.
+     */
+    public void start() throws IOException {
+        Set<Path> files = new LinkedHashSet<>();
+        addAllPackFiles(files);
+        int packs = reloadAll(files);
+        thread.start();
+        log.info("Watching {} for rule pack changes ({} pack(s) loaded)", directory, packs);
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        thread.interrupt();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                Set<Path> changed = new LinkedHashSet<>();
+                if (!collect(watchService.take(), changed)) {
+                    return;
+                }
+                // Editors and copies emit several events per file; reload once they stop
+                WatchKey more;
+                while ((more = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    if (!collect(more, changed)) {
+                        return;
+                    }
+                }
+                reloadAll(changed);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            log.debug("Stopped watching {}", directory);
+        }
+    }
+
+    private boolean collect(WatchKey key, Set<Path> changed) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                try {
+                    addAllPackFiles(changed);
+                } catch (IOException e) {
+                    log.error("Failed to rescan rule pack directory {}", directory, e);
+                }
+            } else {
+                changed.add(directory.resolve((Path) event.context()));
+            }
+        }
+        if (!key.reset()) {
+            log.error("Rule pack directory {} is no longer accessible; hot reload stopped", directory);
+            return false;
+        }
+        return true;
+    }
+
+    private void addAllPackFiles(Set<Path> files) throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.{json,rpk}")) {
+            stream.forEach(files::add);
+        }
+    }
+
+    /**
+     * Reloads the pack behind each of {@code files} once, even when both its JSON and its binary
+     * file are listed, and returns the number of packs reloaded.
+     */
+    private int reloadAll(Set<Path> files) {
+        Set<String> packs = new HashSet<>();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (fxRates != null && name.equals(FxRateRegistry.FILE_NAME)) {
+                reloadFxRates();
+                continue;
+            }
+            Matcher matcher = RulesRegistry.RULE_PACK_FILE_NAME.matcher(name);
+            if (matcher.matches() && packs.add(matcher.group(1) + "-" + matcher.group(2))) {
+                reload(matcher.group(1), Integer.parseInt(matcher.group(2)));
+            }
+        }
+        return packs.size();
+    }
+
+    private void reload(String country, int taxYear) {
+        try {
+            RulePack rulePack = rulesRegistry.reload(country, taxYear);
+            log.info("Reloaded rule pack {}-{}: version {}", country, taxYear,
+                    rulePack.getMetadata().getVersion());
+        } catch (RuntimeException e) {
+            log.warn("Keeping current rule pack {}-{}: {}", country, taxYear, e.getMessage());
+        }
+    }
+
+    private void reloadFxRates() {
+        try {
+            FxRateTable table = fxRates.reload();
+            log.info("Reloaded FX rate table: version {}", table.getVersion());
+        } catch (RuntimeException e) {
+            log.warn("Keeping current FX rate table: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package app.salary.rules;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A rule pack read, parsed and compiled from the classpath, on a cache miss or a background refresh.
+ */
+@Name("app.salary.RulePackLoad")
+@Label("Rule Pack Load")
+@Category({"Salary Calculator", "Rules"})
+@Description("Loading and compiling a rule pack")
+public class RulePackLoadEvent extends jdk.jfr.Event {
+    @Label("Country")
+    public String country;
+
+    @Label("Tax Year")
+    public int taxYear;
+
+    @Label("Rule Pack Version")
+    public String rulePackVersion;
+
+    @Label("Trigger")
+    @Description("initial, refresh or watch")
+    public String trigger;
+
+    @Label("Outcome")
+    @Description("success, failure or not_found")
+    public String outcome;
+}
@@ -0,0 +1,43 @@
+package app.salary.rules;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Index of the rule packs bundled on the classpath, written to {@value #RESOURCE} by
+ * {@link RulePackCompiler} once every pack has been validated and compiled. Startup reads it
+ * instead of scanning the classpath for pack files.
+ */
+public class RulePackManifest {
+    public static final String FILE_NAME = "index.json";
+    public static final String RESOURCE = "/rulepacks/" + FILE_NAME;
+
+    private List<Entry> rulePacks;
+
+    public RulePackManifest() {
+    }
+
+    public RulePackManifest(List<Entry> rulePacks) {
+        this.rulePacks = rulePacks;
+    }
+
+    /** A pack that passed build-time validation; {@code file} is its binary pack's file name. */
+    public record Entry(String country, int taxYear, String version, String file) {
+    }
+
+    /**
+     * Reads the manifest bundled on the classpath, or returns {@code null} if there is none,
+     * as when running from sources without the Gradle {@code compileRulePacks} task.
+     */
+    public static RulePackManifest loadBundled() throws IOException {
+        try (InputStream is = RulePackManifest.class.getResourceAsStream(RESOURCE)) {
+            return is != null ? new ObjectMapper().readValue(is, RulePackManifest.class) : null;
+        }
+    }
+
+    public List<Entry> getRulePacks() { return rulePacks; }
+    public void setRulePacks(List<Entry> rulePacks) { this.rulePacks = rulePacks; }
+}
@@ -0,0 +1,242 @@
+package app.salary.rules;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rule packs for tax years that have no published pack, derived from the latest published one by
+ * indexing its thresholds with a constant annual inflation rate.
+ * <p>
+ * A projected pack keeps every rate of its base pack and scales allowances, standard deductions,
+ * bracket bounds, the Social Security wage base, National Insurance thresholds and student loan
+ * thresholds by {@code (1 + inflation)^years}, rounded to whole currency units as published
+ * thresholds are. Thresholds fixed in statute rather than indexed, the US additional Medicare
+ * threshold and the UK personal allowance taper start, are carried over unchanged. Its version is
+ * the base version with a {@code +projected.<year>@<inflation>} suffix, and
+ * {@link RulePack.Metadata#getProjectedFrom} names the base.
+ * <p>
+ * Projections are validated, compiled and cached here, apart from the published packs in
+ * {@link RulesRegistry}. Entries are keyed by the base pack's version, which the registry never
+ * lets change content, so a republished base is never mixed with projections of its predecessor.
+ * A published pack always takes precedence over a projection for the same year.
+ */
+public class RulePackProjector implements MeterBinder {
+    public static final String CACHE_NAME = "rulepack.projections";
+    public static final double DEFAULT_INFLATION = 0.025;
+    public static final long DEFAULT_MAXIMUM_SIZE = 256;
+    /** How far back from a projected year to look for a published pack to derive it from. */
+    static final int MAX_PROJECTION_YEARS = 50;
+
+    private final RulesRegistry rulesRegistry;
+    private final double defaultInflation;
+    private final Cache<ProjectionKey, RulePack> projections;
+
+    public RulePackProjector(RulesRegistry rulesRegistry) {
+        this(rulesRegistry, DEFAULT_INFLATION, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public RulePackProjector(RulesRegistry rulesRegistry, double defaultInflation, long maximumSize) {
+        checkInflation(defaultInflation);
+        this.rulesRegistry = rulesRegistry;
+        this.defaultInflation = defaultInflation;
+        this.projections = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /** Inflation rate to project at when a caller does not choose one. */
+    public double getDefaultInflation() {
+        return defaultInflation;
+    }
+
+    /** The published pack for {@code taxYear} if there is one, otherwise a projection at {@code inflation}. */
+    public RulePack getRulePack(String country, int taxYear, double inflation) {
+        return getRulePacks(country, taxYear, 1, inflation).get(0);
+    }
+
+    /**
+     * Packs for {@code years} consecutive tax years from {@code firstYear}: published ones where
+     * they exist, projections otherwise. Each projected year is derived from the latest published
+     * pack before it, which is looked up once for the whole run rather than once per year, so a
+     * run over cached projections costs a few map lookups per year.
+     *
+     * @throws IllegalArgumentException if {@code inflation} is not a finite rate above -1, the
+     *                                  years run past {@link Integer#MAX_VALUE}, or no pack is
+     *                                  published for {@code country} within
+     *                                  {@value #MAX_PROJECTION_YEARS} years before a projected year
+     */
+    public List<RulePack> getRulePacks(String country, int firstYear, int years, double inflation) {
+        checkInflation(inflation);
+        if (years < 1) {
+            throw new IllegalArgumentException("years must be at least 1");
+        }
+        if (firstYear > Integer.MAX_VALUE - (years - 1)) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot project %d years from tax year %d", years, firstYear));
+        }
+
+        List<RulePack> rulePacks = new ArrayList<>(years);
+        RulePack base = null;
+        for (int taxYear = firstYear; taxYear < firstYear + years; taxYear++) {
+            if (rulesRegistry.hasRulePack(country, taxYear)) {
+                base = rulesRegistry.getRulePack(country, taxYear);
+                rulePacks.add(base);
+                continue;
+            }
+            if (base == null) {
+                base = findPublished(country, taxYear);
+            }
+            RulePack from = base;
+            int year = taxYear;
+            rulePacks.add(projections.get(
+                    new ProjectionKey(country, from.getMetadata().getVersion(), year, inflation),
+                    key -> project(from, year, inflation)));
+        }
+        return rulePacks;
+    }
+
+    public void clearCache() {
+        projections.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, projections, CACHE_NAME);
+    }
+
+    private RulePack findPublished(String country, int taxYear) {
+        for (int year = taxYear - 1; year >= taxYear - MAX_PROJECTION_YEARS; year--) {
+            if (rulesRegistry.hasRulePack(country, year)) {
+                return rulesRegistry.getRulePack(country, year);
+            }
+        }
+        throw new IllegalArgumentException(String.format(
+                "No published rule pack for %s within %d years before tax year %d to project from",
+                country, MAX_PROJECTION_YEARS, taxYear));
+    }
+
+    /** Derives the pack for {@code taxYear} from {@code base}, validated and compiled. */
+    static RulePack project(RulePack base, int taxYear, double inflation) {
+        RulePack.Metadata baseMetadata = base.getMetadata();
+        double factor = Math.pow(1.0 + inflation, taxYear - baseMetadata.getTaxYear());
+
+        RulePack.Metadata metadata = new RulePack.Metadata();
+        metadata.setCountry(baseMetadata.getCountry());
+        metadata.setTaxYear(taxYear);
+        metadata.setVersion(String.format("%s+projected.%d@%s", baseMetadata.getVersion(), taxYear,
+                BigDecimal.valueOf(inflation).stripTrailingZeros().toPlainString()));
+        metadata.setProjectedFrom(baseMetadata.getVersion());
+
+        RulePack projected = new RulePack();
+        projected.setMetadata(metadata);
+
+        if (base.getFederal() != null) {
+            RulePack.Federal federal = new RulePack.Federal();
+            federal.setStandardDeductions(index(base.getFederal().getStandardDeductions(), factor));
+            federal.setBrackets(index(base.getFederal().getBrackets(), factor));
+            projected.setFederal(federal);
+        }
+        if (base.getFica() != null) {
+            RulePack.Fica fica = new RulePack.Fica();
+            fica.setSsRate(base.getFica().getSsRate());
+            fica.setSsWageBase(index(base.getFica().getSsWageBase(), factor));
+            fica.setMedicareRate(base.getFica().getMedicareRate());
+            fica.setAdditionalMedicareThreshold(base.getFica().getAdditionalMedicareThreshold());
+            fica.setAdditionalRate(base.getFica().getAdditionalRate());
+            projected.setFica(fica);
+        }
+        if (base.getStates() != null) {
+            Map<String, RulePack.StateRules> states = new LinkedHashMap<>();
+            base.getStates().forEach((state, rules) -> {
+                RulePack.StateRules indexed = new RulePack.StateRules();
+                indexed.setBrackets(index(rules.getBrackets(), factor));
+                indexed.setLocal(rules.getLocal());
+                states.put(state, indexed);
+            });
+            projected.setStates(states);
+        }
+        if (base.getIncomeTax() != null) {
+            RulePack.IncomeTax incomeTax = new RulePack.IncomeTax();
+            incomeTax.setPersonalAllowance(index(base.getIncomeTax().getPersonalAllowance(), factor));
+            incomeTax.setTaperStart(base.getIncomeTax().getTaperStart());
+            incomeTax.setTaperRate(base.getIncomeTax().getTaperRate());
+            incomeTax.setBands(index(base.getIncomeTax().getBands(), factor));
+            projected.setIncomeTax(incomeTax);
+        }
+        if (base.getNi() != null) {
+            RulePack.NationalInsurance ni = new RulePack.NationalInsurance();
+            ni.setPrimaryThresholdAnnual(index(base.getNi().getPrimaryThresholdAnnual(), factor));
+            ni.setUpperEarningsLimit(index(base.getNi().getUpperEarningsLimit(), factor));
+            ni.setMainRate(base.getNi().getMainRate());
+            ni.setUpperRate(base.getNi().getUpperRate());
+            projected.setNi(ni);
+        }
+        if (base.getStudentLoan() != null) {
+            Map<String, RulePack.StudentLoanRules> studentLoan = new LinkedHashMap<>();
+            base.getStudentLoan().forEach((plan, rules) -> {
+                RulePack.StudentLoanRules indexed = new RulePack.StudentLoanRules();
+                indexed.setThreshold(index(rules.getThreshold(), factor));
+                indexed.setRate(rules.getRate());
+                studentLoan.put(plan, indexed);
+            });
+            projected.setStudentLoan(studentLoan);
+        }
+
+        // Extreme rates or distances push thresholds out of the fixed-point range or round them together
+        try {
+            RulePackValidator.check(projected);
+            projected.setCompiled(CompiledRulePack.compile(projected));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot project %s to tax year %d at inflation %s: %s",
+                    baseMetadata.getVersion(), taxYear, inflation, e.getMessage()), e);
+        }
+        return projected;
+    }
+
+    private static Double index(Double amount, double factor) {
+        return amount != null ? (double) Math.round(amount * factor) : null;
+    }
+
+    private static Map<String, Double> index(Map<String, Double> amounts, double factor) {
+        if (amounts == null) {
+            return null;
+        }
+        Map<String, Double> indexed = new LinkedHashMap<>();
+        amounts.forEach((name, amount) -> indexed.put(name, index(amount, factor)));
+        return indexed;
+    }
+
+    private static List<RulePack.TaxBracket> index(List<RulePack.TaxBracket> brackets, double factor) {
+        if (brackets == null) {
+            return null;
+        }
+        List<RulePack.TaxBracket> indexed = new ArrayList<>(brackets.size());
+        for (RulePack.TaxBracket bracket : brackets) {
+            RulePack.TaxBracket copy = new RulePack.TaxBracket();
+            copy.setUpTo(index(bracket.getUpTo(), factor));
+            copy.setRate(bracket.getRate());
+            indexed.add(copy);
+        }
+        return indexed;
+    }
+
+    private static void checkInflation(double inflation) {
+        if (!Double.isFinite(inflation) || inflation <= -1.0) {
+            throw new IllegalArgumentException("inflation must be a finite annual rate above -1, was " + inflation);
+        }
+    }
+
+    private record ProjectionKey(String country, String baseVersion, int taxYear, double inflation) {
+    }
+}
@@ -0,0 +1,161 @@
+package app.salary.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consistency checks for a parsed {@link RulePack}, beyond what {@link CompiledRulePack#compile}
+ * needs to succeed: the sections each country's calculator reads are present, bracket bounds
+ * strictly increase with only the last bracket open-ended, and every rate lies in {@code [0, 1]}.
+ * <p>
+ * Run at build time by {@link RulePackCompiler} for the bundled packs and at load time by
+ * {@link RulesRegistry} for everything else.
+ */
+public final class RulePackValidator {
+
+    private RulePackValidator() {
+    }
+
+    /** Returns every problem found, or an empty list if the pack is valid. */
+    public static List<String> validate(RulePack rulePack) {
+        List<String> problems = new ArrayList<>();
+        RulePack.Metadata metadata = rulePack.getMetadata();
+        if (metadata == null) {
+            problems.add("metadata is missing");
+            return problems;
+        }
+        require(problems, metadata.getCountry(), "metadata.country");
+        require(problems, metadata.getTaxYear(), "metadata.taxYear");
+        require(problems, metadata.getVersion(), "metadata.version");
+
+        if ("US".equals(metadata.getCountry())) {
+            validateUS(rulePack, problems);
+        } else if ("UK".equals(metadata.getCountry())) {
+            validateUK(rulePack, problems);
+        }
+        return problems;
+    }
+
+    /**
+     * @throws IllegalArgumentException listing every problem if the pack is invalid
+     */
+    public static void check(RulePack rulePack) {
+        List<String> problems = validate(rulePack);
+        if (!problems.isEmpty()) {
+            throw new IllegalArgumentException(String.join("; ", problems));
+        }
+    }
+
+    private static void validateUS(RulePack rulePack, List<String> problems) {
+        RulePack.Federal federal = rulePack.getFederal();
+        if (require(problems, federal, "federal")) {
+            if (require(problems, federal.getStandardDeductions(), "federal.standardDeductions")) {
+                federal.getStandardDeductions().forEach((status, amount) ->
+                        amount(problems, amount, "federal.standardDeductions." + status));
+            }
+            brackets(problems, federal.getBrackets(), "federal.brackets", true);
+        }
+
+        RulePack.Fica fica = rulePack.getFica();
+        if (require(problems, fica, "fica")) {
+            rate(problems, fica.getSsRate(), "fica.ssRate");
+            amount(problems, fica.getSsWageBase(), "fica.ssWageBase");
+            rate(problems, fica.getMedicareRate(), "fica.medicareRate");
+            amount(problems, fica.getAdditionalMedicareThreshold(), "fica.additionalMedicareThreshold");
+            rate(problems, fica.getAdditionalRate(), "fica.additionalRate");
+        }
+
+        if (require(problems, rulePack.getStates(), "states")) {
+            for (Map.Entry<String, RulePack.StateRules> state : rulePack.getStates().entrySet()) {
+                String path = "states." + state.getKey();
+                if (require(problems, state.getValue(), path)) {
+                    // States without an income tax have an empty schedule
+                    brackets(problems, state.getValue().getBrackets(), path + ".brackets", false);
+                    if (state.getValue().getLocal() != null) {
+                        rate(problems, state.getValue().getLocal(), path + ".local");
+                    }
+                }
+            }
+        }
+    }
+
+    private static void validateUK(RulePack rulePack, List<String> problems) {
+        RulePack.IncomeTax incomeTax = rulePack.getIncomeTax();
+        if (require(problems, incomeTax, "incomeTax")) {
+            amount(problems, incomeTax.getPersonalAllowance(), "incomeTax.personalAllowance");
+            amount(problems, incomeTax.getTaperStart(), "incomeTax.taperStart");
+            rate(problems, incomeTax.getTaperRate(), "incomeTax.taperRate");
+            brackets(problems, incomeTax.getBands(), "incomeTax.bands", true);
+        }
+
+        RulePack.NationalInsurance ni = rulePack.getNi();
+        if (require(problems, ni, "ni")) {
+            amount(problems, ni.getPrimaryThresholdAnnual(), "ni.primaryThresholdAnnual");
+            amount(problems, ni.getUpperEarningsLimit(), "ni.upperEarningsLimit");
+            rate(problems, ni.getMainRate(), "ni.mainRate");
+            rate(problems, ni.getUpperRate(), "ni.upperRate");
+            if (ni.getPrimaryThresholdAnnual() != null && ni.getUpperEarningsLimit() != null
+                    && ni.getUpperEarningsLimit() < ni.getPrimaryThresholdAnnual()) {
+                problems.add("ni.upperEarningsLimit is below ni.primaryThresholdAnnual");
+            }
+        }
+
+        if (require(problems, rulePack.getStudentLoan(), "studentLoan")) {
+            for (Map.Entry<String, RulePack.StudentLoanRules> plan : rulePack.getStudentLoan().entrySet()) {
+                String path = "studentLoan." + plan.getKey();
+                if (require(problems, plan.getValue(), path)) {
+                    amount(problems, plan.getValue().getThreshold(), path + ".threshold");
+                    rate(problems, plan.getValue().getRate(), path + ".rate");
+                }
+            }
+        }
+    }
+
+    private static void brackets(List<String> problems, List<RulePack.TaxBracket> brackets,
+                                 String path, boolean required) {
+        if (brackets == null || brackets.isEmpty()) {
+            if (required) {
+                problems.add(path + " is missing or empty");
+            }
+            return;
+        }
+        double previous = 0.0;
+        for (int i = 0; i < brackets.size(); i++) {
+            RulePack.TaxBracket bracket = brackets.get(i);
+            String bracketPath = path + "[" + i + "]";
+            rate(problems, bracket.getRate(), bracketPath + ".rate");
+            Double upTo = bracket.getUpTo();
+            if (upTo == null) {
+                if (i < brackets.size() - 1) {
+                    problems.add(bracketPath + " is open-ended but is not the last bracket");
+                }
+            } else if (upTo <= previous) {
+                problems.add(String.format("%s.upTo %.2f does not exceed the previous bound %.2f",
+                        bracketPath, upTo, previous));
+            } else {
+                previous = upTo;
+            }
+        }
+    }
+
+    private static boolean require(List<String> problems, Object value, String path) {
+        if (value == null) {
+            problems.add(path + " is missing");
+            return false;
+        }
+        return true;
+    }
+
+    private static void rate(List<String> problems, Double rate, String path) {
+        if (require(problems, rate, path) && !(rate >= 0.0 && rate <= 1.0)) {
+            problems.add(path + " " + rate + " is outside [0, 1]");
+        }
+    }
+
+    private static void amount(List<String> problems, Double amount, String path) {
+        if (require(problems, amount, path) && !(amount >= 0.0 && Double.isFinite(amount))) {
+            problems.add(path + " " + amount + " must be a non-negative amount");
+        }
+    }
+}
@@ -1,55 +1,432 @@
 package app.salary.rules;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
+/**
+ * Loads and caches rule packs. The cache is asynchronous so that loading, which reads from the
+ * classpath, never runs inside the cache's map lock: a virtual thread waiting for a pack parks on
+ * the pending future instead of pinning its carrier thread.
+ * <p>
+ * Packs never expire. Once a pack is older than the refresh interval, the next read still returns
+ * it and triggers a background reload that replaces it when done; if the reload fails the current
+ * pack stays in place. Only the first request for a country and tax year waits for a load.
+ * <p>
+ * When an external directory is configured, a pack file there takes precedence over the one
+ * bundled on the classpath; {@link RulePackDirectoryWatcher} calls {@link #reload} as files change.
+ * Each pack is read from its precompiled {@link RulePackBinaryFormat} file when there is one,
+ * memory-mapped from the external directory, and from JSON otherwise.
+ * <p>
+ * Calculation results, net-pay functions and projections are cached by pack version, so a version
+ * must always mean the same rules: a pack whose content differs from a pack loaded earlier under
+ * the same version is rejected like an invalid one, and the current pack stays in place.
+ * <p>
+ * Meters are tagged with the tax year only for years a pack is published for, bundled or loaded
+ * since; any other year a caller asks for is tagged {@value #OTHER_TAX_YEAR}.
+ */
 public class RulesRegistry {
     private static final Logger log = LoggerFactory.getLogger(RulesRegistry.class);
+    public static final Duration DEFAULT_REFRESH_AFTER = Duration.ofHours(1);
+    /** File name of a JSON or binary rule pack, in the external directory or under {@code /rulepacks/}. */
+    public static final Pattern RULE_PACK_FILE_NAME = Pattern.compile("([A-Z]{2})-(\\d{4})\\.(?:json|rpk)");
+    /** {@code tax_year} tag value for years no pack is published for. */
+    public static final String OTHER_TAX_YEAR = "other";
+    private static final long MAX_UNPUBLISHED = 1_000;
+    private static final String BUNDLED_DIRECTORY = "rulepacks/";
+
     private final ObjectMapper objectMapper;
-    private final Cache<String, RulePack> cache;
+    private final ObjectWriter fingerprintWriter;
+    private final AsyncLoadingCache<RulePackKey, RulePack> cache;
+    private final MeterRegistry meterRegistry;
+    private final Path externalDirectory;
+    private final ClassLoader bundledPacks;
+    // Packs hasRulePack found no file for; forgotten when the pack is reloaded or the cache cleared,
+    // and bounded because the years probed come from requests
+    private final Cache<RulePackKey, Boolean> unpublished = Caffeine.newBuilder()
+            .maximumSize(MAX_UNPUBLISHED)
+            .build();
+    // Bounded by the pack files that exist, so request input cannot add tag values or meters
+    private final Map<Integer, String> taxYearTags = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Timer> resolveTimers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> loadCounters = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Timer> loadTimers = new ConcurrentHashMap<>();
+    // Content fingerprint of every pack version loaded, kept across evictions and clearCache()
+    // because the caches keyed by version outlive this one
+    private final Map<PackVersion, String> fingerprints = new ConcurrentHashMap<>();
 
     public RulesRegistry() {
+        this(Metrics.globalRegistry);
+    }
+
+    public RulesRegistry(MeterRegistry meterRegistry) {
+        this(meterRegistry, DEFAULT_REFRESH_AFTER);
+    }
+
+    public RulesRegistry(MeterRegistry meterRegistry, Duration refreshAfter) {
+        this(meterRegistry, refreshAfter, null);
+    }
+
+    /**
+     * @param externalDirectory directory whose pack files override the bundled ones, or
+     *                          {@code null} to use the classpath only
+     */
+    public RulesRegistry(MeterRegistry meterRegistry, Duration refreshAfter, Path externalDirectory) {
+        this(meterRegistry, refreshAfter, externalDirectory, RulesRegistry.class.getClassLoader(),
+                Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    /** @param bundledPacks class loader to read the {@code rulepacks/} resources from */
+    RulesRegistry(MeterRegistry meterRegistry, Duration refreshAfter, Path externalDirectory,
+                  ClassLoader bundledPacks, Ticker ticker, Executor executor) {
+        this.meterRegistry = meterRegistry;
+        this.externalDirectory = externalDirectory;
+        this.bundledPacks = bundledPacks;
         this.objectMapper = new ObjectMapper();
+        this.fingerprintWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        tagBundledTaxYears();
         this.cache = Caffeine.newBuilder()
                 .maximumSize(100)
-                .expireAfterWrite(Duration.ofHours(1))
-                .build();
+                .refreshAfterWrite(refreshAfter)
+                .ticker(ticker)
+                .executor(executor)
+                .buildAsync(new CacheLoader<RulePackKey, RulePack>() {
+                    @Override
+                    public RulePack load(RulePackKey key) {
+                        return loadRulePack(key.country(), key.taxYear(), "initial");
+                    }
+
+                    @Override
+                    public RulePack reload(RulePackKey key, RulePack current) {
+                        try {
+                            return loadRulePack(key.country(), key.taxYear(), "refresh");
+                        } catch (RuntimeException e) {
+                            log.warn("Refreshing rule pack {} failed, keeping the current pack", key);
+                            throw e;
+                        }
+                    }
+                });
     }
 
     public RulePack getRulePack(String country, int taxYear) {
-        String key = String.format("%s-%d", country, taxYear);
-        return cache.get(key, k -> loadRulePack(country, taxYear));
+        long start = System.nanoTime();
+        RulePackKey key = new RulePackKey(country, taxYear);
+        String outcome = "hit";
+        try {
+            CompletableFuture<RulePack> rulePack = cache.getIfPresent(key);
+            if (rulePack == null) {
+                outcome = "load";
+                rulePack = cache.get(key);
+            }
+            return join(rulePack);
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            resolveTimers.computeIfAbsent(new MeterKey(country, taxYearTag(taxYear), null, outcome),
+                            meterKey -> Timer.builder("salary.rulepack.resolve")
+                                    .description("Rule pack resolution, from cache or by loading")
+                                    .tags("country", meterKey.country(), "tax_year", meterKey.taxYear(),
+                                            "outcome", meterKey.outcome())
+                                    .register(meterRegistry))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
     }
 
-    private RulePack loadRulePack(String country, int taxYear) {
-        String fileName = String.format("/rulepacks/%s-%d.json", country, taxYear);
-        log.info("Loading rule pack: {}", fileName);
+    public CompiledRulePack getCompiledRulePack(String country, int taxYear) {
+        return getRulePack(country, taxYear).getCompiled();
+    }
 
-        try (InputStream is = getClass().getResourceAsStream(fileName)) {
-            if (is == null) {
+    /**
+     * Whether a pack for {@code country} and {@code taxYear} is cached or could be loaded, checked
+     * without reading it, so callers can probe for published years without failed loads. Recent
+     * misses are remembered until {@link #reload} is called for that pack, as the directory
+     * watcher does when a file appears.
+     */
+    public boolean hasRulePack(String country, int taxYear) {
+        RulePackKey key = new RulePackKey(country, taxYear);
+        CompletableFuture<RulePack> cached = cache.getIfPresent(key);
+        if (cached != null && !cached.isCompletedExceptionally()) {
+            return true;
+        }
+        if (unpublished.getIfPresent(key) != null) {
+            return false;
+        }
+        String name = key.toString();
+        boolean exists = externalDirectory != null
+                && (Files.isRegularFile(externalDirectory.resolve(name + RulePackBinaryFormat.FILE_EXTENSION))
+                || Files.isRegularFile(externalDirectory.resolve(name + ".json")))
+                || bundledPacks.getResource(BUNDLED_DIRECTORY + name + RulePackBinaryFormat.FILE_EXTENSION) != null
+                || bundledPacks.getResource(BUNDLED_DIRECTORY + name + ".json") != null;
+        if (!exists) {
+            unpublished.put(key, Boolean.TRUE);
+        }
+        return exists;
+    }
+
+    /**
+     * Loads, validates and compiles the pack for {@code country} and {@code taxYear} on the
+     * calling thread, then swaps it in for subsequent requests. Calculations already holding the
+     * previous pack finish with it. If loading fails the current pack stays in place and the
+     * exception propagates.
+     */
+    public RulePack reload(String country, int taxYear) {
+        unpublished.invalidate(new RulePackKey(country, taxYear));
+        RulePack rulePack = loadRulePack(country, taxYear, "watch");
+        cache.put(new RulePackKey(country, taxYear), CompletableFuture.completedFuture(rulePack));
+        return rulePack;
+    }
+
+    /**
+     * The {@code tax_year} tag value for {@code taxYear}: the year itself if a pack is published
+     * for it, otherwise {@value #OTHER_TAX_YEAR}.
+     */
+    public String taxYearTag(int taxYear) {
+        return taxYearTags.getOrDefault(taxYear, OTHER_TAX_YEAR);
+    }
+
+    public Path getExternalDirectory() {
+        return externalDirectory;
+    }
+
+    private RulePack loadRulePack(String country, int taxYear, String trigger) {
+        long start = System.nanoTime();
+        RulePackLoadEvent event = new RulePackLoadEvent();
+        event.begin();
+        String name = String.format("%s-%d", country, taxYear);
+
+        try {
+            LoadedRulePack loaded = readRulePack(name);
+            if (loaded == null) {
                 String errorMsg = String.format(
-                    "Rule pack not found: %s. Please ensure tax year %d is supported for country %s. " +
+                    "Rule pack not found: /rulepacks/%s.json. Please ensure tax year %d is supported for country %s. " +
                     "Available rule packs should be placed in src/main/resources/rulepacks/",
-                    fileName, taxYear, country
+                    name, taxYear, country
                 );
                 log.error(errorMsg);
+                recordLoad(event, start, country, taxYear, trigger, "not_found", null);
                 throw new RuntimeException(errorMsg);
             }
-            return objectMapper.readValue(is, RulePack.class);
+            RulePack rulePack = loaded.rulePack();
+            checkIdentity(rulePack, country, taxYear);
+            // Bundled binary packs were validated when the build compiled them
+            if (!loaded.prevalidated()) {
+                RulePackValidator.check(rulePack);
+            }
+            checkFingerprint(rulePack, country, taxYear);
+            rulePack.setCompiled(CompiledRulePack.compile(rulePack));
+            taxYearTags.computeIfAbsent(taxYear, year -> Integer.toString(year));
+            recordLoad(event, start, country, taxYear, trigger, "success",
+                    rulePack.getMetadata() != null ? rulePack.getMetadata().getVersion() : null);
+            return rulePack;
         } catch (IOException io) {
-            log.error("Failed to load rule pack: {}", fileName, io);
-            throw new RuntimeException("Failed to load rule pack: " + fileName, io);
+            log.error("Failed to load rule pack: {}", name, io);
+            recordLoad(event, start, country, taxYear, trigger, "failure", null);
+            throw new RuntimeException("Failed to load rule pack: " + name, io);
+        } catch (IllegalArgumentException invalid) {
+            log.error("Invalid rule pack: {}", name, invalid);
+            recordLoad(event, start, country, taxYear, trigger, "failure", null);
+            throw new RuntimeException("Invalid rule pack: " + name, invalid);
+        }
+    }
+
+    /**
+     * Reads a pack from the external directory if it has one, otherwise from the classpath. In
+     * either place the precompiled binary pack is preferred and the JSON pack is the fallback.
+     * Returns {@code null} if neither exists.
+     */
+    private LoadedRulePack readRulePack(String name) throws IOException {
+        if (externalDirectory != null) {
+            Path binary = externalDirectory.resolve(name + RulePackBinaryFormat.FILE_EXTENSION);
+            Path json = externalDirectory.resolve(name + ".json");
+            // Packs are usually edited as JSON, so a binary pack older than its JSON is stale
+            if (Files.isRegularFile(binary) && (!Files.isRegularFile(json)
+                    || Files.getLastModifiedTime(binary).compareTo(Files.getLastModifiedTime(json)) >= 0)) {
+                RulePack rulePack = decodeBinary(mapReadOnly(binary), binary.toString());
+                if (rulePack != null) {
+                    return new LoadedRulePack(rulePack, false);
+                }
+            }
+            if (Files.isRegularFile(json)) {
+                log.info("Loading rule pack: {}", json);
+                try (InputStream is = Files.newInputStream(json)) {
+                    return new LoadedRulePack(objectMapper.readValue(is, RulePack.class), false);
+                }
+            }
+        }
+
+        String binaryResource = BUNDLED_DIRECTORY + name + RulePackBinaryFormat.FILE_EXTENSION;
+        try (InputStream is = bundledPacks.getResourceAsStream(binaryResource)) {
+            if (is != null) {
+                // Resources inside a jar cannot be mapped, so they are read into a heap buffer
+                RulePack rulePack = decodeBinary(ByteBuffer.wrap(is.readAllBytes()), binaryResource);
+                if (rulePack != null) {
+                    return new LoadedRulePack(rulePack, true);
+                }
+            }
+        }
+        String jsonResource = BUNDLED_DIRECTORY + name + ".json";
+        try (InputStream is = bundledPacks.getResourceAsStream(jsonResource)) {
+            if (is == null) {
+                return null;
+            }
+            log.info("Loading rule pack: {}", jsonResource);
+            return new LoadedRulePack(objectMapper.readValue(is, RulePack.class), false);
+        }
+    }
+
+    static ByteBuffer mapReadOnly(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    // A binary pack in another format version or a truncated copy falls back to the JSON pack
+    static RulePack decodeBinary(ByteBuffer buffer, String source) {
+        log.info("Loading rule pack: {}", source);
+        try {
+            return RulePackBinaryFormat.read(buffer);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring binary rule pack {}: {}", source, e.getMessage());
+            return null;
+        } catch (InternalError e) {
+            // Reading a mapped file that was truncated after it was mapped faults instead of underflowing
+            log.warn("Ignoring binary rule pack {} that changed while being read: {}", source, e.getMessage());
+            return null;
+        }
+    }
+
+    // A pack copied under the wrong file name must not silently replace another country or year
+    static void checkIdentity(RulePack rulePack, String country, int taxYear) {
+        RulePack.Metadata metadata = rulePack.getMetadata();
+        if (metadata == null || !country.equals(metadata.getCountry())
+                || metadata.getTaxYear() == null || metadata.getTaxYear() != taxYear) {
+            throw new IllegalArgumentException(String.format(
+                    "Rule pack metadata does not match %s-%d", country, taxYear));
+        }
+    }
+
+    private void checkFingerprint(RulePack rulePack, String country, int taxYear) throws IOException {
+        String version = rulePack.getMetadata().getVersion();
+        String fingerprint = fingerprint(rulePack);
+        String previous = fingerprints.putIfAbsent(
+                new PackVersion(new RulePackKey(country, taxYear), version), fingerprint);
+        if (previous != null && !previous.equals(fingerprint)) {
+            throw new IllegalArgumentException(String.format(
+                    "Rule pack %s-%d changed without a new version; publish it under a version other than %s",
+                    country, taxYear, version));
+        }
+    }
+
+    private String fingerprint(RulePack rulePack) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(fingerprintWriter.writeValueAsBytes(rulePack)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
 
     public void clearCache() {
-        cache.invalidateAll();
+        cache.synchronous().invalidateAll();
+        unpublished.invalidateAll();
+    }
+
+    // Rethrows the loader's own exception so callers see the same errors as a synchronous load
+    private static RulePack join(CompletableFuture<RulePack> rulePack) {
+        try {
+            return rulePack.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void recordLoad(RulePackLoadEvent event, long startNanos, String country, int taxYear,
+                            String trigger, String outcome, String rulePackVersion) {
+        MeterKey meterKey = new MeterKey(country, taxYearTag(taxYear), trigger, outcome);
+        loadCounters.computeIfAbsent(meterKey, key -> Counter.builder("salary.rulepack.loads")
+                        .description("Rule pack loads from the classpath")
+                        .tags(key.tags())
+                        .register(meterRegistry))
+                .increment();
+        loadTimers.computeIfAbsent(meterKey, key -> Timer.builder("salary.rulepack.load")
+                        .description("Reading, parsing and compiling a rule pack, on first use or refresh")
+                        .tags(key.tags())
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+        if (event.shouldCommit()) {
+            event.country = country;
+            event.taxYear = taxYear;
+            event.rulePackVersion = rulePackVersion;
+            event.trigger = trigger;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    private void tagBundledTaxYears() {
+        try {
+            RulePackManifest manifest = RulePackManifest.loadBundled();
+            if (manifest != null && manifest.getRulePacks() != null) {
+                manifest.getRulePacks().forEach(entry ->
+                        taxYearTags.putIfAbsent(entry.taxYear(), Integer.toString(entry.taxYear())));
+            }
+        } catch (IOException e) {
+            log.warn("Could not read the rule pack manifest, tax years are tagged as packs load", e);
+        }
+    }
+
+    private record MeterKey(String country, String taxYear, String trigger, String outcome) {
+        String[] tags() {
+            return new String[] {"country", country, "tax_year", taxYear, "trigger", trigger, "outcome", outcome};
+        }
+    }
+
+    private record PackVersion(RulePackKey key, String version) {
+    }
+
+    private record LoadedRulePack(RulePack rulePack, boolean prevalidated) {
+    }
+
+    private record RulePackKey(String country, int taxYear) {
+        @Override
+        public String toString() {
+            return country + "-" + taxYear;
+        }
     }
 }
@@ -0,0 +1,117 @@
+package app.salary.rules;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledRulePackTest {
+
+    private RulePack rulePack;
+
+    @BeforeEach
+    void setUp() {
+        rulePack = new RulePack();
+
+        RulePack.Federal federal = new RulePack.Federal();
+        federal.setBrackets(List.of(
+                bracket(10000.0, 0.10),
+                bracket(40000.0, 0.20),
+                bracket(null, 0.30)));
+        rulePack.setFederal(federal);
+
+        RulePack.StateRules ca = new RulePack.StateRules();
+        ca.setBrackets(List.of(bracket(20000.0, 0.05)));
+        RulePack.StateRules tx = new RulePack.StateRules();
+        tx.setBrackets(new ArrayList<>());
+        Map<String, RulePack.StateRules> states = new HashMap<>();
+        states.put("CA", ca);
+        states.put("TX", tx);
+        rulePack.setStates(states);
+    }
+
+    @Test
+    void compile_shouldPrecomputeCumulativeTaxAtThresholds() {
+        CompiledRulePack.BracketTable table = CompiledRulePack.compile(rulePack).getFederalBrackets();
+
+        assertEquals(3, table.size());
+        assertEquals(0.0, table.cumulativeTax(0));
+        assertEquals(1000.0, table.cumulativeTax(1), 1e-9);
+        assertEquals(7000.0, table.cumulativeTax(2), 1e-9);
+        assertEquals(40000.0, table.threshold(2));
+    }
+
+    @Test
+    void tax_shouldMatchProgressiveSchedule() {
+        CompiledRulePack.BracketTable table = CompiledRulePack.compile(rulePack).getFederalBrackets();
+
+        assertEquals(0.0, table.tax(0.0));
+        assertEquals(500.0, table.tax(5000.0), 1e-9);
+        assertEquals(1000.0, table.tax(10000.0), 1e-9);
+        assertEquals(3000.0, table.tax(20000.0), 1e-9);
+        assertEquals(10000.0, table.tax(50000.0), 1e-9);
+    }
+
+    @Test
+    void tax_aboveClosedFinalBracket_shouldNotTaxExcess() {
+        CompiledRulePack.BracketTable table = CompiledRulePack.compile(rulePack).getStateBrackets("CA");
+
+        assertEquals(1000.0, table.tax(20000.0), 1e-9);
+        assertEquals(1000.0, table.tax(90000.0), 1e-9);
+        assertEquals(0.0, table.marginalRate(90000.0));
+    }
+
+    @Test
+    void tax_withEmptyBrackets_shouldReturnZero() {
+        CompiledRulePack.BracketTable table = CompiledRulePack.compile(rulePack).getStateBrackets("TX");
+
+        assertEquals(0, table.size());
+        assertEquals(0.0, table.tax(100000.0));
+    }
+
+    @Test
+    void marginalRate_atThreshold_shouldUseNextBracket() {
+        CompiledRulePack.BracketTable table = CompiledRulePack.compile(rulePack).getFederalBrackets();
+
+        assertEquals(0.10, table.marginalRate(9999.0));
+        assertEquals(0.20, table.marginalRate(10000.0));
+        assertEquals(0.30, table.marginalRate(1_000_000.0));
+    }
+
+    @Test
+    void incomeInBracket_shouldSplitIncomeAcrossBands() {
+        CompiledRulePack.BracketTable table = CompiledRulePack.compile(rulePack).getFederalBrackets();
+
+        assertEquals(10000.0, table.incomeInBracket(0, 25000.0));
+        assertEquals(15000.0, table.incomeInBracket(1, 25000.0));
+        assertEquals(0.0, table.incomeInBracket(2, 25000.0));
+    }
+
+    @Test
+    void scaledTax_shouldEvaluateScheduleExactlyInMinorUnits() {
+        CompiledRulePack.BracketTable table = CompiledRulePack.compile(rulePack).getFederalBrackets();
+
+        // 10% of 10000 + 20% of 15000.01 = 4000.002, in pennies scaled by a million
+        assertEquals(400_000_200_000L, table.scaledTax(2_500_001L));
+        assertEquals(0L, table.scaledTax(0L));
+        assertEquals(1, table.bracketIndex(2_500_001L));
+        assertEquals(1_500_001L, table.incomeInBracket(1, 2_500_001L));
+        assertEquals(300_000L, table.fixedRate(2));
+    }
+
+    @Test
+    void compile_withDecreasingThresholds_shouldThrow() {
+        rulePack.getFederal().setBrackets(List.of(bracket(10000.0, 0.10), bracket(5000.0, 0.20)));
+
+        assertThrows(IllegalArgumentException.class, () -> CompiledRulePack.compile(rulePack));
+    }
+
+    private static RulePack.TaxBracket bracket(Double upTo, double rate) {
+        RulePack.TaxBracket bracket = new RulePack.TaxBracket();
+        bracket.setUpTo(upTo);
+        bracket.setRate(rate);
+        return bracket;
+    }
+}
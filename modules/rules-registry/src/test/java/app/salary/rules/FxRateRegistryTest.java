@@ -0,0 +1,84 @@
+package app.salary.rules;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FxRateRegistryTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void constructor_withoutExternalTable_shouldLoadBundledTable() {
+        FxRateRegistry registry = new FxRateRegistry(meterRegistry, directory);
+
+        FxRateTable rates = registry.getRates();
+        assertEquals("2025.10.0", rates.getVersion());
+        assertEquals("USD", rates.getBase());
+        assertTrue(rates.supports("GBP"));
+    }
+
+    @Test
+    void constructor_withExternalTable_shouldPreferItOverBundledOne() throws IOException {
+        writeTable("2025.11.0", "0.8");
+
+        FxRateRegistry registry = new FxRateRegistry(meterRegistry, directory);
+
+        assertEquals("2025.11.0", registry.getRates().getVersion());
+        assertEquals(0.8, registry.getRates().rate("USD", "GBP"), 1e-12);
+    }
+
+    @Test
+    void reload_shouldSwapInNewTableWhileHoldersKeepTheOldOne() throws IOException {
+        FxRateRegistry registry = new FxRateRegistry(meterRegistry, directory);
+        FxRateTable held = registry.getRates();
+
+        writeTable("2025.11.0", "0.8");
+        registry.reload();
+
+        assertEquals("2025.10.0", held.getVersion());
+        assertEquals("2025.11.0", registry.getRates().getVersion());
+        assertEquals(1.0, meterRegistry.get("salary.fx.loads").tag("trigger", "watch").tag("outcome", "success")
+                .counter().count());
+    }
+
+    @Test
+    void reload_withInvalidTable_shouldKeepCurrentTable() throws IOException {
+        writeTable("2025.11.0", "0.8");
+        FxRateRegistry registry = new FxRateRegistry(meterRegistry, directory);
+        FxRateTable current = registry.getRates();
+
+        writeTable("2025.12.0", "-1");
+        assertThrows(IllegalArgumentException.class, registry::reload);
+        Files.writeString(directory.resolve(FxRateRegistry.FILE_NAME), "{ \"version\": ");
+        assertThrows(RuntimeException.class, registry::reload);
+
+        assertSame(current, registry.getRates());
+    }
+
+    @Test
+    void reload_afterTableDeleted_shouldFallBackToBundledTable() throws IOException {
+        writeTable("2025.11.0", "0.8");
+        FxRateRegistry registry = new FxRateRegistry(meterRegistry, directory);
+
+        Files.delete(directory.resolve(FxRateRegistry.FILE_NAME));
+        registry.reload();
+
+        assertEquals("2025.10.0", registry.getRates().getVersion());
+    }
+
+    private void writeTable(String version, String gbpRate) throws IOException {
+        Files.writeString(directory.resolve(FxRateRegistry.FILE_NAME), """
+            {"version": "%s", "asOf": "2025-11-01", "base": "USD", "rates": {"USD": 1.0, "GBP": %s}}
+            """.formatted(version, gbpRate));
+    }
+}
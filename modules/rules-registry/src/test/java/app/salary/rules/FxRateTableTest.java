@@ -0,0 +1,81 @@
+package app.salary.rules;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FxRateTableTest {
+
+    private final FxRateTable table = FxRateTable.of("test-1", "2025-10-01", "USD",
+            Map.of("USD", 1.0, "GBP", 0.75, "EUR", 0.9));
+
+    @Test
+    void rate_shouldCrossThroughBaseCurrency() {
+        assertEquals(0.75, table.rate("USD", "GBP"), 1e-12);
+        assertEquals(1.0 / 0.75, table.rate("GBP", "USD"), 1e-12);
+        assertEquals(0.9 / 0.75, table.rate("GBP", "EUR"), 1e-12);
+    }
+
+    @Test
+    void rate_inBothDirections_shouldBeInverse() {
+        for (String from : table.getCurrencies()) {
+            assertEquals(1.0, table.rate(from, from));
+            for (String to : table.getCurrencies()) {
+                assertEquals(1.0, table.rate(from, to) * table.rate(to, from), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void convert_shouldApplyCrossRate() {
+        assertEquals(75000.0, table.convert(100000.0, "USD", "GBP"), 1e-9);
+        assertEquals(120000.0, table.convert(100000.0, "GBP", "EUR"), 1e-9);
+    }
+
+    @Test
+    void rate_withUnknownCurrency_shouldThrow() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> table.rate("USD", "XYZ"));
+        assertTrue(e.getMessage().contains("XYZ"));
+        assertFalse(table.supports("XYZ"));
+        assertFalse(table.supports(null));
+    }
+
+    @Test
+    void of_shouldListCurrenciesInOrder() {
+        assertEquals(List.of("EUR", "GBP", "USD"), table.getCurrencies());
+    }
+
+    @Test
+    void of_withInvalidTable_shouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> FxRateTable.of(null, null, "USD", Map.of("USD", 1.0)));
+        assertThrows(IllegalArgumentException.class,
+                () -> FxRateTable.of("v", null, "USD", Map.of("GBP", 0.75)));
+        assertThrows(IllegalArgumentException.class,
+                () -> FxRateTable.of("v", null, "USD", Map.of("USD", 1.0, "gbp", 0.75)));
+        assertThrows(IllegalArgumentException.class,
+                () -> FxRateTable.of("v", null, "USD", Map.of("USD", 1.0, "GBP", 0.0)));
+        assertThrows(IllegalArgumentException.class,
+                () -> FxRateTable.of("v", null, "USD", Map.of("USD", 1.0, "GBP", Double.NaN)));
+    }
+
+    @Test
+    void read_shouldParseJson() throws IOException {
+        String json = """
+            {"version": "2025.10.0", "asOf": "2025-10-01", "base": "GBP", "rates": {"GBP": 1.0, "USD": 1.25}}
+            """;
+
+        FxRateTable read = FxRateTable.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("2025.10.0", read.getVersion());
+        assertEquals("2025-10-01", read.getAsOf());
+        assertEquals("GBP", read.getBase());
+        assertEquals(0.8, read.rate("USD", "GBP"), 1e-12);
+    }
+}
@@ -0,0 +1,140 @@
+package app.salary.rules;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RulePackBinaryFormatTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private int nextValue;
+
+    @Test
+    void read_ofWrittenUKPack_shouldMatchJsonPack() throws IOException {
+        assertRoundTrip("UK-2025");
+    }
+
+    @Test
+    void read_ofWrittenUSPack_shouldMatchJsonPack() throws IOException {
+        assertRoundTrip("US-2025");
+    }
+
+    @Test
+    void read_ofWrittenProjectedPack_shouldKeepItsBase() throws IOException {
+        RulePack projected = RulePackProjector.project(jsonPack("UK-2025"), 2027, 0.025);
+
+        RulePack decoded = RulePackBinaryFormat.read(ByteBuffer.wrap(RulePackBinaryFormat.write(projected)));
+
+        assertEquals("UK-2025.4.0", decoded.getMetadata().getProjectedFrom());
+        assertEquals(objectMapper.valueToTree(projected), objectMapper.valueToTree(decoded));
+    }
+
+    @Test
+    void read_ofPackWithEveryPropertySet_shouldKeepEveryProperty() throws ReflectiveOperationException {
+        // Set reflectively, so a property added to RulePack fails here until the format carries it
+        RulePack rulePack = (RulePack) populated(RulePack.class);
+
+        RulePack decoded = RulePackBinaryFormat.read(ByteBuffer.wrap(RulePackBinaryFormat.write(rulePack)));
+
+        assertEquals(objectMapper.valueToTree(rulePack), objectMapper.valueToTree(decoded));
+    }
+
+    @Test
+    void read_withAbsentSectionsAndValues_shouldKeepThemAbsent() {
+        RulePack rulePack = new RulePack();
+        RulePack.Metadata metadata = new RulePack.Metadata();
+        metadata.setCountry("UK");
+        rulePack.setMetadata(metadata);
+        rulePack.setIncomeTax(new RulePack.IncomeTax());
+
+        RulePack decoded = RulePackBinaryFormat.read(ByteBuffer.wrap(RulePackBinaryFormat.write(rulePack)));
+
+        assertEquals("UK", decoded.getMetadata().getCountry());
+        assertNull(decoded.getMetadata().getTaxYear());
+        assertNull(decoded.getIncomeTax().getPersonalAllowance());
+        assertNull(decoded.getIncomeTax().getBands());
+        assertNull(decoded.getFederal());
+        assertNull(decoded.getStates());
+    }
+
+    @Test
+    void read_withOtherFormatVersion_shouldReject() throws IOException {
+        byte[] bytes = RulePackBinaryFormat.write(jsonPack("UK-2025"));
+        bytes[5]++;
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> RulePackBinaryFormat.read(ByteBuffer.wrap(bytes)));
+        assertTrue(e.getMessage().contains("Unsupported binary rule pack format"));
+    }
+
+    @Test
+    void read_withTruncatedPack_shouldReject() throws IOException {
+        byte[] bytes = RulePackBinaryFormat.write(jsonPack("US-2025"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> RulePackBinaryFormat.read(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length / 2))));
+    }
+
+    private void assertRoundTrip(String name) throws IOException {
+        RulePack json = jsonPack(name);
+
+        RulePack decoded = RulePackBinaryFormat.read(ByteBuffer.wrap(RulePackBinaryFormat.write(json)));
+
+        assertEquals(objectMapper.valueToTree(json), objectMapper.valueToTree(decoded));
+    }
+
+    // A distinct value for every property at every depth, with two entries per list and map
+    private Object populated(Type type) throws ReflectiveOperationException {
+        if (type == String.class) {
+            return "value" + nextValue++;
+        }
+        if (type == Integer.class) {
+            return nextValue++;
+        }
+        if (type == Double.class) {
+            return nextValue++ + 0.5;
+        }
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() == List.class) {
+            Type element = parameterized.getActualTypeArguments()[0];
+            return List.of(populated(element), populated(element));
+        }
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() == Map.class) {
+            Type value = parameterized.getActualTypeArguments()[1];
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("first", populated(value));
+            map.put("second", populated(value));
+            return map;
+        }
+        if (!(type instanceof Class<?> section)
+                || section != RulePack.class && section.getEnclosingClass() != RulePack.class) {
+            return fail("No test value for property type " + type);
+        }
+        Object value = section.getDeclaredConstructor().newInstance();
+        for (Method setter : section.getMethods()) {
+            if (setter.getName().startsWith("set") && setter.getParameterCount() == 1
+                    && !setter.isAnnotationPresent(JsonIgnore.class)) {
+                setter.invoke(value, populated(setter.getGenericParameterTypes()[0]));
+            }
+        }
+        return value;
+    }
+
+    private RulePack jsonPack(String name) throws IOException {
+        try (InputStream is = getClass().getResourceAsStream("/rulepacks/" + name + ".json")) {
+            return objectMapper.readValue(is, RulePack.class);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package app.salary.rules;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RulePackDirectoryWatcherTest {
+
+    @TempDir
+    Path directory;
+
+    private String bundledPack;
+    private SimpleMeterRegistry meterRegistry;
+    private RulesRegistry rulesRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (InputStream is = getClass().getResourceAsStream("/rulepacks/UK-2025.json")) {
+            bundledPack = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        meterRegistry = new SimpleMeterRegistry();
+        rulesRegistry = new RulesRegistry(meterRegistry, Duration.ofHours(1), directory);
+    }
+
+    @Test
+    void start_shouldLoadPacksAlreadyInDirectoryOverBundledOnes() throws IOException {
+        writePack("UK-2025.5.0");
+
+        try (RulePackDirectoryWatcher watcher = new RulePackDirectoryWatcher(rulesRegistry)) {
+            watcher.start();
+
+            assertEquals("UK-2025.5.0", rulesRegistry.getRulePack("UK", 2025).getMetadata().getVersion());
+        }
+    }
+
+    @Test
+    void start_withOnlyBinaryPackInDirectory_shouldLoadItBeforeFirstUse() throws IOException {
+        writeBinaryPack("UK-2025.5.0");
+
+        try (RulePackDirectoryWatcher watcher = new RulePackDirectoryWatcher(rulesRegistry)) {
+            watcher.start();
+
+            assertEquals(1.0, watchLoads());
+            assertEquals("UK-2025.5.0", rulesRegistry.getRulePack("UK", 2025).getMetadata().getVersion());
+        }
+    }
+
+    @Test
+    void start_withJsonAndBinaryFilesForOnePack_shouldReloadItOnce() throws IOException {
+        writePack("UK-2025.5.0");
+        writeBinaryPack("UK-2025.5.0");
+
+        try (RulePackDirectoryWatcher watcher = new RulePackDirectoryWatcher(rulesRegistry)) {
+            watcher.start();
+
+            assertEquals(1.0, watchLoads());
+        }
+    }
+
+    @Test
+    void start_thenPackWrittenToDirectory_shouldSwapItInOnWatcherThread() throws Exception {
+        try (RulePackDirectoryWatcher watcher = new RulePackDirectoryWatcher(rulesRegistry)) {
+            watcher.start();
+            assertEquals("UK-2025.4.0", rulesRegistry.getRulePack("UK", 2025).getMetadata().getVersion());
+
+            // Written to a temporary name and renamed into place, as the README recommends
+            Path staged = directory.resolve("UK-2025.json.tmp");
+            Files.writeString(staged, bundledPack.replace("UK-2025.4.0", "UK-2025.5.0"));
+            Files.move(staged, directory.resolve("UK-2025.json"), StandardCopyOption.ATOMIC_MOVE);
+            awaitVersion("UK-2025.5.0");
+
+            Files.writeString(directory.resolve("UK-2025.json"), bundledPack.replace("UK-2025.4.0", "UK-2025.6.0"));
+            awaitVersion("UK-2025.6.0");
+
+            Files.delete(directory.resolve("UK-2025.json"));
+            awaitVersion("UK-2025.4.0");
+        }
+    }
+
+    @Test
+    void start_withFxRateTableInDirectory_shouldSwapInTableWithoutTouchingRulePacks() throws IOException {
+        FxRateRegistry fxRates = new FxRateRegistry(new SimpleMeterRegistry(), directory);
+        Files.writeString(directory.resolve(FxRateRegistry.FILE_NAME), """
+            {"version": "2025.11.0", "asOf": "2025-11-01", "base": "USD", "rates": {"USD": 1.0, "GBP": 0.8}}
+            """);
+
+        try (RulePackDirectoryWatcher watcher = new RulePackDirectoryWatcher(rulesRegistry, fxRates)) {
+            watcher.start();
+
+            assertEquals("2025.11.0", fxRates.getRates().getVersion());
+            assertEquals("UK-2025.4.0", rulesRegistry.getRulePack("UK", 2025).getMetadata().getVersion());
+        }
+    }
+
+    @Test
+    void reload_shouldSwapInNewPackWhileHoldersKeepTheOldOne() throws IOException {
+        writePack("UK-2025.5.0");
+        RulePack held = rulesRegistry.getRulePack("UK", 2025);
+
+        writePack("UK-2025.6.0");
+        rulesRegistry.reload("UK", 2025);
+
+        assertEquals("UK-2025.5.0", held.getMetadata().getVersion());
+        assertEquals("UK-2025.6.0", rulesRegistry.getRulePack("UK", 2025).getMetadata().getVersion());
+    }
+
+    @Test
+    void reload_withInvalidOrMislabelledPack_shouldKeepCurrentPack() throws IOException {
+        writePack("UK-2025.5.0");
+        RulePack current = rulesRegistry.getRulePack("UK", 2025);
+
+        Files.writeString(directory.resolve("UK-2025.json"), "{ \"metadata\": ");
+        assertThrows(RuntimeException.class, () -> rulesRegistry.reload("UK", 2025));
+        Files.writeString(directory.resolve("UK-2025.json"), bundledPack.replace("\"taxYear\": 2025", "\"taxYear\": 2026"));
+        assertThrows(RuntimeException.class, () -> rulesRegistry.reload("UK", 2025));
+
+        assertSame(current, rulesRegistry.getRulePack("UK", 2025));
+    }
+
+    @Test
+    void reload_withChangedContentUnderSameVersion_shouldKeepCurrentPack() throws IOException {
+        writePack("UK-2025.5.0");
+        RulePack current = rulesRegistry.getRulePack("UK", 2025);
+
+        Files.writeString(directory.resolve("UK-2025.json"), bundledPack
+                .replace("UK-2025.4.0", "UK-2025.5.0")
+                .replace("12570", "13000"));
+        RuntimeException e = assertThrows(RuntimeException.class, () -> rulesRegistry.reload("UK", 2025));
+        assertTrue(e.getCause().getMessage().contains("changed without a new version"));
+        assertSame(current, rulesRegistry.getRulePack("UK", 2025));
+
+        writePack("UK-2025.5.0");
+        assertEquals(current.getIncomeTax().getPersonalAllowance(),
+                rulesRegistry.reload("UK", 2025).getIncomeTax().getPersonalAllowance());
+    }
+
+    @Test
+    void reload_afterPackFileDeleted_shouldFallBackToBundledPack() throws IOException {
+        writePack("UK-2025.5.0");
+        rulesRegistry.getRulePack("UK", 2025);
+
+        Files.delete(directory.resolve("UK-2025.json"));
+        rulesRegistry.reload("UK", 2025);
+
+        assertEquals("UK-2025.4.0", rulesRegistry.getRulePack("UK", 2025).getMetadata().getVersion());
+    }
+
+    // The watcher settles events for 250 ms before reloading; allow for slower polling watch services
+    private void awaitVersion(String version) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!version.equals(rulesRegistry.getRulePack("UK", 2025).getMetadata().getVersion())) {
+            if (System.nanoTime() > deadline) {
+                fail("Rule pack was not reloaded to " + version);
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private void writePack(String version) throws IOException {
+        Files.writeString(directory.resolve("UK-2025.json"), bundledPack.replace("UK-2025.4.0", version));
+    }
+
+    private double watchLoads() {
+        return meterRegistry.get("salary.rulepack.loads")
+                .tags("country", "UK", "tax_year", "2025", "trigger", "watch", "outcome", "success")
+                .counter().count();
+    }
+
+    private void writeBinaryPack(String version) throws IOException {
+        RulePack rulePack = new ObjectMapper().readValue(bundledPack, RulePack.class);
+        rulePack.getMetadata().setVersion(version);
+        Files.write(directory.resolve("UK-2025" + RulePackBinaryFormat.FILE_EXTENSION),
+                RulePackBinaryFormat.write(rulePack));
+    }
+}
@@ -0,0 +1,158 @@
+package app.salary.rules;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RulePackProjectorTest {
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RulesRegistry rulesRegistry;
+    private RulePackProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rulesRegistry = new RulesRegistry(meterRegistry, Duration.ofHours(1), directory);
+        projector = new RulePackProjector(rulesRegistry);
+    }
+
+    @Test
+    void getRulePack_forPublishedYear_shouldReturnPublishedPack() {
+        assertSame(rulesRegistry.getRulePack("UK", 2025), projector.getRulePack("UK", 2025, 0.025));
+    }
+
+    @Test
+    void getRulePack_forUnpublishedYear_shouldIndexThresholdsAndKeepRates() {
+        RulePack base = rulesRegistry.getRulePack("UK", 2025);
+
+        RulePack projected = projector.getRulePack("UK", 2027, 0.025);
+
+        // 1.025^2 = 1.050625, rounded to whole pounds
+        assertEquals(13206.0, projected.getIncomeTax().getPersonalAllowance());
+        assertEquals(39609.0, projected.getIncomeTax().getBands().get(0).getUpTo());
+        assertEquals(13206.0, projected.getNi().getPrimaryThresholdAnnual());
+        assertEquals(52815.0, projected.getNi().getUpperEarningsLimit());
+        assertEquals(28677.0, projected.getStudentLoan().get("plan2").getThreshold());
+        assertEquals(base.getIncomeTax().getTaperStart(), projected.getIncomeTax().getTaperStart());
+        assertEquals(base.getIncomeTax().getBands().get(1).getRate(), projected.getIncomeTax().getBands().get(1).getRate());
+        assertEquals(base.getNi().getMainRate(), projected.getNi().getMainRate());
+
+        assertEquals(2027, projected.getMetadata().getTaxYear());
+        assertEquals("UK-2025.4.0+projected.2027@0.025", projected.getMetadata().getVersion());
+        assertEquals("UK-2025.4.0", projected.getMetadata().getProjectedFrom());
+        assertNotNull(projected.getCompiled());
+        assertEquals(12570.0, base.getIncomeTax().getPersonalAllowance());
+    }
+
+    @Test
+    void getRulePack_forUnpublishedUSYear_shouldLeaveStatutoryThresholdsUnindexed() {
+        RulePack projected = projector.getRulePack("US", 2026, 0.03);
+
+        assertEquals(15038.0, projected.getFederal().getStandardDeductions().get("SINGLE"));
+        assertEquals(11948.0, projected.getFederal().getBrackets().get(0).getUpTo());
+        assertNull(projected.getFederal().getBrackets().get(6).getUpTo());
+        assertEquals(173658.0, projected.getFica().getSsWageBase());
+        assertEquals(200000.0, projected.getFica().getAdditionalMedicareThreshold());
+        assertEquals(0.032, projected.getStates().get("MD").getLocal());
+        assertTrue(projected.getStates().get("TX").getBrackets().isEmpty());
+    }
+
+    @Test
+    void getRulePacks_overTenYears_shouldLoadBaseOnceAndCacheProjections() {
+        List<RulePack> first = projector.getRulePacks("UK", 2025, 10, 0.025);
+        List<RulePack> second = projector.getRulePacks("UK", 2025, 10, 0.025);
+
+        assertEquals(10, first.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(2025 + i, first.get(i).getMetadata().getTaxYear());
+            assertSame(first.get(i), second.get(i));
+        }
+        assertEquals(1.0, meterRegistry.get("salary.rulepack.loads")
+                .tags("country", "UK", "outcome", "success")
+                .counter().count());
+        assertNull(meterRegistry.find("salary.rulepack.loads").tags("outcome", "not_found").counter());
+    }
+
+    @Test
+    void getRulePacks_withDifferentInflation_shouldProjectSeparately() {
+        RulePack low = projector.getRulePack("UK", 2030, 0.02);
+        RulePack high = projector.getRulePack("UK", 2030, 0.04);
+
+        assertNotEquals(low.getMetadata().getVersion(), high.getMetadata().getVersion());
+        assertTrue(high.getIncomeTax().getPersonalAllowance() > low.getIncomeTax().getPersonalAllowance());
+    }
+
+    @Test
+    void getRulePacks_afterPackPublishedForProjectedYear_shouldUseItAndProjectFromIt() throws IOException {
+        assertNotNull(projector.getRulePack("UK", 2026, 0.025).getMetadata().getProjectedFrom());
+
+        String bundledPack;
+        try (InputStream is = getClass().getResourceAsStream("/rulepacks/UK-2025.json")) {
+            bundledPack = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        Files.writeString(directory.resolve("UK-2026.json"), bundledPack
+                .replace("\"taxYear\": 2025", "\"taxYear\": 2026")
+                .replace("UK-2025.4.0", "UK-2026.1.0"));
+        rulesRegistry.reload("UK", 2026);
+
+        List<RulePack> rulePacks = projector.getRulePacks("UK", 2025, 3, 0.025);
+
+        assertEquals("UK-2026.1.0", rulePacks.get(1).getMetadata().getVersion());
+        assertNull(rulePacks.get(1).getMetadata().getProjectedFrom());
+        assertEquals("UK-2026.1.0", rulePacks.get(2).getMetadata().getProjectedFrom());
+    }
+
+    @Test
+    void getRulePack_withoutEarlierPublishedPack_shouldThrow() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> projector.getRulePack("UK", 2020, 0.025));
+        assertTrue(e.getMessage().contains("No published rule pack"));
+    }
+
+    @Test
+    void getRulePacks_atRequestBoundsOverLongestRun_shouldProjectEveryYear() {
+        // ProjectionRequest allows tax years up to 2075, 50 years and inflation from -5% to 10%
+        for (String country : List.of("US", "UK")) {
+            for (double inflation : new double[] {-0.05, 0.1}) {
+                List<RulePack> rulePacks = projector.getRulePacks(country, 2075, 50, inflation);
+
+                assertEquals(2124, rulePacks.get(49).getMetadata().getTaxYear());
+                assertNotNull(rulePacks.get(49).getCompiled());
+            }
+        }
+    }
+
+    @Test
+    void getRulePacks_withThresholdsIndexedPastFixedPointRange_shouldThrowClearError() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> projector.getRulePacks("US", 2075, 50, 0.2));
+        assertTrue(e.getMessage().startsWith("Cannot project US-2025.10.0 to tax year"));
+    }
+
+    @Test
+    void getRulePacks_pastLastRepresentableYear_shouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> projector.getRulePacks("UK", Integer.MAX_VALUE - 1, 3, 0.025));
+    }
+
+    @Test
+    void getRulePack_withInvalidInflation_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> projector.getRulePack("UK", 2027, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> projector.getRulePack("UK", 2027, -1.0));
+    }
+}
@@ -0,0 +1,86 @@
+package app.salary.rules;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RulePackValidatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void validate_bundledPacks_shouldFindNoProblems() throws IOException {
+        assertEquals(List.of(), RulePackValidator.validate(pack("UK-2025")));
+        assertEquals(List.of(), RulePackValidator.validate(pack("US-2025")));
+    }
+
+    @Test
+    void validate_usPackWithoutRequiredSections_shouldReportEachOne() throws IOException {
+        RulePack rulePack = pack("US-2025");
+        rulePack.setFica(null);
+        rulePack.setStates(null);
+
+        List<String> problems = RulePackValidator.validate(rulePack);
+
+        assertEquals(List.of("fica is missing", "states is missing"), problems);
+    }
+
+    @Test
+    void validate_ukPackWithoutStudentLoanSection_shouldReportIt() throws IOException {
+        RulePack rulePack = pack("UK-2025");
+        rulePack.setStudentLoan(null);
+
+        assertEquals(List.of("studentLoan is missing"), RulePackValidator.validate(rulePack));
+    }
+
+    @Test
+    void validate_withNonIncreasingBracketsAndOpenBracketInMiddle_shouldReportBoth() throws IOException {
+        RulePack rulePack = pack("US-2025");
+        List<RulePack.TaxBracket> brackets = new ArrayList<>(rulePack.getFederal().getBrackets());
+        brackets.get(2).setUpTo(40000.0);
+        brackets.get(4).setUpTo(null);
+        rulePack.getFederal().setBrackets(brackets);
+
+        List<String> problems = RulePackValidator.validate(rulePack);
+
+        assertEquals(2, problems.size());
+        assertTrue(problems.get(0).startsWith("federal.brackets[2].upTo 40000.00 does not exceed"));
+        assertEquals("federal.brackets[4] is open-ended but is not the last bracket", problems.get(1));
+    }
+
+    @Test
+    void validate_withRatesOutOfBounds_shouldReportThem() throws IOException {
+        RulePack rulePack = pack("UK-2025");
+        rulePack.getIncomeTax().getBands().get(1).setRate(40.0);
+        rulePack.getNi().setMainRate(-0.08);
+
+        List<String> problems = RulePackValidator.validate(rulePack);
+
+        assertEquals(List.of("incomeTax.bands[1].rate 40.0 is outside [0, 1]",
+                "ni.mainRate -0.08 is outside [0, 1]"), problems);
+    }
+
+    @Test
+    void check_withProblems_shouldThrowListingThem() throws IOException {
+        RulePack rulePack = pack("UK-2025");
+        rulePack.setNi(null);
+        rulePack.getMetadata().setVersion(null);
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> RulePackValidator.check(rulePack));
+
+        assertEquals("metadata.version is missing; ni is missing", e.getMessage());
+    }
+
+    private RulePack pack(String name) throws IOException {
+        try (InputStream is = getClass().getResourceAsStream("/rulepacks/" + name + ".json")) {
+            return objectMapper.readValue(is, RulePack.class);
+        }
+    }
+}
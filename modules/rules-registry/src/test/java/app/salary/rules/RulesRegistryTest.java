@@ -0,0 +1,199 @@
+package app.salary.rules;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RulesRegistryTest {
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RulesRegistry rulesRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rulesRegistry = new RulesRegistry(meterRegistry);
+    }
+
+    @Test
+    void getRulePack_shouldTimeFirstLoadThenCacheHits() {
+        RulePack first = rulesRegistry.getRulePack("UK", 2025);
+        RulePack second = rulesRegistry.getRulePack("UK", 2025);
+
+        assertSame(first, second);
+        assertEquals(1, resolveCount("load"));
+        assertEquals(1, resolveCount("hit"));
+        assertEquals(1.0, meterRegistry.get("salary.rulepack.loads")
+                .tags("country", "UK", "tax_year", "2025", "outcome", "success")
+                .counter().count());
+    }
+
+    @Test
+    void getRulePack_withMissingPacks_shouldRecordErrorsAndFailedLoadsUnderOtherTaxYear() {
+        assertThrows(RuntimeException.class, () -> rulesRegistry.getRulePack("UK", 1999));
+        assertThrows(RuntimeException.class, () -> rulesRegistry.getRulePack("UK", 9999));
+
+        assertEquals(2, meterRegistry.get("salary.rulepack.resolve")
+                .tags("country", "UK", "tax_year", RulesRegistry.OTHER_TAX_YEAR, "outcome", "error")
+                .timer().count());
+        assertEquals(2.0, meterRegistry.get("salary.rulepack.loads")
+                .tags("country", "UK", "tax_year", RulesRegistry.OTHER_TAX_YEAR, "outcome", "not_found")
+                .counter().count());
+        assertNull(meterRegistry.find("salary.rulepack.resolve").tag("tax_year", "9999").timer());
+    }
+
+    @Test
+    void getRulePack_afterRefreshInterval_shouldServeCurrentPackWhileReloading() {
+        AtomicLong nanos = new AtomicLong();
+        RulesRegistry refreshing = new RulesRegistry(meterRegistry, Duration.ofHours(1), null,
+                RulesRegistry.class.getClassLoader(), nanos::get, Runnable::run);
+        RulePack original = refreshing.getRulePack("UK", 2025);
+
+        nanos.addAndGet(Duration.ofHours(2).toNanos());
+        RulePack served = refreshing.getRulePack("UK", 2025);
+        RulePack reloaded = refreshing.getRulePack("UK", 2025);
+
+        assertSame(original, served);
+        assertNotSame(original, reloaded);
+        assertEquals(original.getMetadata().getVersion(), reloaded.getMetadata().getVersion());
+        assertEquals(1.0, meterRegistry.get("salary.rulepack.loads")
+                .tags("country", "UK", "tax_year", "2025", "trigger", "refresh", "outcome", "success")
+                .counter().count());
+        assertEquals(2, meterRegistry.get("salary.rulepack.load")
+                .tags("country", "UK", "tax_year", "2025", "outcome", "success")
+                .timers().stream().mapToLong(timer -> timer.count()).sum());
+    }
+
+    @Test
+    void hasRulePack_shouldFindBundledPacksWithoutLoadingThem() {
+        assertTrue(rulesRegistry.hasRulePack("UK", 2025));
+        assertFalse(rulesRegistry.hasRulePack("UK", 2030));
+        assertFalse(rulesRegistry.hasRulePack("UK", 2030));
+
+        assertNull(meterRegistry.find("salary.rulepack.loads").counter());
+    }
+
+    @Test
+    void getRulePack_withExternalBinaryPackNotOlderThanJson_shouldLoadBinaryPack() throws IOException {
+        Path json = writeJson(directory, "UK-2025.5.0");
+        Path binary = writeBinary(directory, "UK-2025.6.0");
+        Files.setLastModifiedTime(binary, Files.getLastModifiedTime(json));
+
+        assertEquals("UK-2025.6.0", version(externalRegistry().getRulePack("UK", 2025)));
+    }
+
+    @Test
+    void getRulePack_withExternalBinaryPackOlderThanJson_shouldLoadJsonPack() throws IOException {
+        Path json = writeJson(directory, "UK-2025.5.0");
+        Path binary = writeBinary(directory, "UK-2025.6.0");
+        Files.setLastModifiedTime(binary, FileTime.fromMillis(Files.getLastModifiedTime(json).toMillis() - 60_000));
+
+        assertEquals("UK-2025.5.0", version(externalRegistry().getRulePack("UK", 2025)));
+    }
+
+    @Test
+    void getRulePack_withCorruptExternalBinaryPack_shouldFallBackToExternalJson() throws IOException {
+        writeJson(directory, "UK-2025.5.0");
+        Files.writeString(directory.resolve("UK-2025.rpk"), "not a rule pack");
+
+        assertEquals("UK-2025.5.0", version(externalRegistry().getRulePack("UK", 2025)));
+    }
+
+    @Test
+    void getRulePack_withOnlyCorruptExternalBinaryPack_shouldFallBackToBundledPack() throws IOException {
+        Files.writeString(directory.resolve("UK-2025.rpk"), "not a rule pack");
+
+        assertEquals("UK-2025.4.0", version(externalRegistry().getRulePack("UK", 2025)));
+    }
+
+    @Test
+    void getRulePack_fromClasspath_shouldPreferBinaryPackOverJson() throws IOException {
+        Path bundled = Files.createDirectories(directory.resolve("rulepacks"));
+        writeJson(bundled, "UK-2025.5.0");
+        writeBinary(bundled, "UK-2025.6.0");
+
+        try (URLClassLoader classpath = new URLClassLoader(new URL[] {directory.toUri().toURL()}, null)) {
+            assertEquals("UK-2025.6.0", version(bundledRegistry(classpath).getRulePack("UK", 2025)));
+        }
+    }
+
+    @Test
+    void getRulePack_withCorruptClasspathBinaryPack_shouldFallBackToClasspathJson() throws IOException {
+        Path bundled = Files.createDirectories(directory.resolve("rulepacks"));
+        writeJson(bundled, "UK-2025.5.0");
+        Files.writeString(bundled.resolve("UK-2025.rpk"), "not a rule pack");
+
+        try (URLClassLoader classpath = new URLClassLoader(new URL[] {directory.toUri().toURL()}, null)) {
+            assertEquals("UK-2025.5.0", version(bundledRegistry(classpath).getRulePack("UK", 2025)));
+        }
+    }
+
+    @Test
+    void decodeBinary_withMappedPackTruncatedWhileRead_shouldIgnoreIt() throws IOException {
+        Path binary = writeBinary(directory, "UK-2025.6.0");
+        ByteBuffer mapped = RulesRegistry.mapReadOnly(binary);
+        try (FileChannel channel = FileChannel.open(binary, StandardOpenOption.WRITE)) {
+            channel.truncate(0);
+        }
+
+        assertNull(RulesRegistry.decodeBinary(mapped, binary.toString()));
+    }
+
+    private RulesRegistry externalRegistry() {
+        return new RulesRegistry(meterRegistry, Duration.ofHours(1), directory);
+    }
+
+    private RulesRegistry bundledRegistry(ClassLoader classpath) {
+        return new RulesRegistry(meterRegistry, Duration.ofHours(1), null, classpath,
+                Ticker.systemTicker(), Runnable::run);
+    }
+
+    private static Path writeJson(Path dir, String version) throws IOException {
+        return Files.writeString(dir.resolve("UK-2025.json"), bundledJson().replace("UK-2025.4.0", version));
+    }
+
+    private static Path writeBinary(Path dir, String version) throws IOException {
+        RulePack rulePack = new ObjectMapper().readValue(bundledJson(), RulePack.class);
+        rulePack.getMetadata().setVersion(version);
+        return Files.write(dir.resolve("UK-2025" + RulePackBinaryFormat.FILE_EXTENSION),
+                RulePackBinaryFormat.write(rulePack));
+    }
+
+    private static String bundledJson() throws IOException {
+        try (InputStream is = RulesRegistryTest.class.getResourceAsStream("/rulepacks/UK-2025.json")) {
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String version(RulePack rulePack) {
+        return rulePack.getMetadata().getVersion();
+    }
+
+    private long resolveCount(String outcome) {
+        return meterRegistry.get("salary.rulepack.resolve")
+                .tags("country", "UK", "tax_year", "2025", "outcome", outcome)
+                .timer().count();
+    }
+}